@@ -30,6 +30,7 @@ import org.opendaylight.controller.md.sal.binding.api.DataBroker;
 import org.opendaylight.mdsal.eos.binding.api.Entity;
 import org.opendaylight.mdsal.eos.binding.api.EntityOwnershipCandidateRegistration;
 import org.opendaylight.ovsdb.hwvtepsouthbound.transact.TransactCommand;
+import org.opendaylight.ovsdb.hwvtepsouthbound.transact.TransactCommandBatcher;
 import org.opendaylight.ovsdb.hwvtepsouthbound.transact.TransactInvoker;
 import org.opendaylight.ovsdb.hwvtepsouthbound.transact.TransactInvokerImpl;
 import org.opendaylight.ovsdb.hwvtepsouthbound.transactions.md.TransactionInvoker;
@@ -69,7 +70,7 @@ public class HwvtepConnectionInstance {
     private InstanceIdentifier<Node> instanceIdentifier;
     private final TransactionInvoker txInvoker;
     private Map<DatabaseSchema,TransactInvoker> transactInvokers;
-    private MonitorCallBack callback;
+    private volatile MonitorCallBack callback;
     private volatile boolean hasDeviceOwnership = false;
     private Entity connectedEntity;
     private EntityOwnershipCandidateRegistration deviceOwnershipCandidateRegistration;
@@ -84,6 +85,7 @@ public class HwvtepConnectionInstance {
     final AtomicBoolean firstUpdateTriggered = new AtomicBoolean(false);
     private TransactionHistory controllerTxHistory;
     private TransactionHistory deviceUpdateHistory;
+    private volatile MonitorHandle monitorHandle;
 
     HwvtepConnectionInstance(HwvtepConnectionManager hwvtepConnectionManager, ConnectionInfo key, OvsdbClient client,
                               InstanceIdentifier<Node> iid, TransactionInvoker txInvoker, DataBroker dataBroker) {
@@ -148,19 +150,27 @@ public class HwvtepConnectionInstance {
                 this.updateConnectionAttributes();
             }
 
-            try {
-                String database = HwvtepSchemaConstants.HARDWARE_VTEP;
-                DatabaseSchema dbSchema = getSchema(database).get();
-                if (dbSchema != null) {
-                    LOG.info("Monitoring database: {}", database);
-                    callback = new HwvtepMonitorCallback(this, txInvoker);
-                    monitorAllTables(database, dbSchema);
-                } else {
-                    LOG.info("No database {} found on {}", database, connectionInfo);
+            String database = HwvtepSchemaConstants.HARDWARE_VTEP;
+            // Set right away so that calls made before the schema is received do not monitor twice
+            callback = new HwvtepMonitorCallback(this, txInvoker);
+            Futures.addCallback(getSchema(database), new FutureCallback<DatabaseSchema>() {
+                @Override
+                public void onSuccess(DatabaseSchema dbSchema) {
+                    if (dbSchema != null) {
+                        LOG.info("Monitoring database: {}", database);
+                        monitorAllTables(database, dbSchema);
+                    } else {
+                        LOG.info("No database {} found on {}", database, connectionInfo);
+                        callback = null;
+                    }
                 }
-            } catch (InterruptedException | ExecutionException e) {
-                LOG.warn("Exception attempting to registerCallbacks {}: ", connectionInfo, e);
-            }
+
+                @Override
+                public void onFailure(Throwable throwable) {
+                    LOG.warn("Exception attempting to registerCallbacks {}: ", connectionInfo, throwable);
+                    callback = null;
+                }
+            }, MoreExecutors.directExecutor());
         }
     }
 
@@ -170,7 +180,9 @@ public class HwvtepConnectionInstance {
                 transactInvokers = new HashMap<>();
                 DatabaseSchema dbSchema = getSchema(HwvtepSchemaConstants.HARDWARE_VTEP).get();
                 if (dbSchema != null) {
-                    transactInvokers.put(dbSchema, new TransactInvokerImpl(this,dbSchema));
+                    transactInvokers.put(dbSchema, new TransactCommandBatcher(this, dbSchema,
+                            new TransactInvokerImpl(this, dbSchema, scheduledExecutorService),
+                            scheduledExecutorService));
                 }
             } catch (InterruptedException | ExecutionException e) {
                 LOG.warn("Exception attempting to createTransactionInvokers {}", connectionInfo, e);
@@ -199,12 +211,46 @@ public class HwvtepConnectionInstance {
                             .with(new MonitorSelect(true, true, true, true)).build());
                 }
             }
-            this.callback.update(monitor(dbSchema, monitorRequests, callback), dbSchema);
+            final MonitorCallBack monitorCallBack = this.callback;
+            Futures.addCallback(monitorDevice(dbSchema, monitorRequests, monitorCallBack),
+                new FutureCallback<TableUpdates>() {
+                    @Override
+                    public void onSuccess(TableUpdates updates) {
+                        monitorCallBack.update(updates, dbSchema);
+                    }
+
+                    @Override
+                    public void onFailure(Throwable throwable) {
+                        LOG.warn("Failed to monitor database {} on {}", database, connectionInfo, throwable);
+                    }
+                }, MoreExecutors.directExecutor());
         } else {
             LOG.warn("No tables for schema {} for database {} for key {}",dbSchema,database,connectionInfo);
         }
     }
 
+    /**
+     * Monitors the device with monitor_cond_since when it has a {@link MonitorHandle}, so that a reconnecting device
+     * only sends the changes since the last transaction seen, and with monitor otherwise or when the server does
+     * not support monitor_cond_since. The complete rows kept by the handle are reported rather than the changes, as
+     * the operational data of the device is rebuilt on every connection.
+     */
+    private ListenableFuture<TableUpdates> monitorDevice(DatabaseSchema dbSchema,
+            List<MonitorRequest> monitorRequests, MonitorCallBack monitorCallBack) {
+        final MonitorHandle handle = this.monitorHandle;
+        if (handle == null) {
+            return monitorAsync(dbSchema, monitorRequests, monitorCallBack);
+        }
+        LOG.info("Monitoring {} since transaction {}", connectionInfo, handle.getLastTxnId());
+        ListenableFuture<TableUpdates> resumed = Futures.transform(
+                client.monitorCondSinceAsync(dbSchema, monitorRequests, handle, monitorCallBack),
+                updates -> handle.getSnapshotUpdates(), MoreExecutors.directExecutor());
+        return Futures.catchingAsync(resumed, Exception.class, e -> {
+            LOG.info("Failed to monitor {} since the last transaction, monitoring all of it", connectionInfo, e);
+            return monitorAsync(dbSchema, monitorRequests, monitorCallBack);
+        }, MoreExecutors.directExecutor());
+    }
+
     private void updateConnectionAttributes() {
         LOG.debug("Update attributes of ovsdb node ip: {} port: {}",
                     this.initialCreatedData.getConnectionInfo().getRemoteIp(),
@@ -237,6 +283,11 @@ public class HwvtepConnectionInstance {
         return client.monitor(schema, monitorRequests, monitorCallBack);
     }
 
+    public ListenableFuture<TableUpdates> monitorAsync(DatabaseSchema schema,
+            List<MonitorRequest> monitorRequests, MonitorCallBack monitorCallBack) {
+        return client.monitorAsync(schema, monitorRequests, monitorCallBack);
+    }
+
     public <E extends TableSchema<E>> TableUpdates monitor(DatabaseSchema schema,
             List<MonitorRequest> monitorRequests, MonitorHandle monitorHandle, MonitorCallBack monitorCallBack) {
         return null;
@@ -378,6 +429,14 @@ public class HwvtepConnectionInstance {
         this.callback = callback;
     }
 
+    /**
+     * Sets the handle the device is monitored with, which outlives the connection so that the monitor can be
+     * resumed from its last transaction on reconnect.
+     */
+    public void setMonitorHandle(MonitorHandle monitorHandle) {
+        this.monitorHandle = monitorHandle;
+    }
+
     public TransactionHistory getControllerTxHistory() {
         return controllerTxHistory;
     }
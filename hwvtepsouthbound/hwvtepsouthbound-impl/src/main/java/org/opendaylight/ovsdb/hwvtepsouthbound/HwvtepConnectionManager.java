@@ -22,6 +22,7 @@ import java.net.UnknownHostException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -47,6 +48,7 @@ import org.opendaylight.ovsdb.hwvtepsouthbound.reconciliation.connection.Connect
 import org.opendaylight.ovsdb.hwvtepsouthbound.transact.DependencyQueue;
 import org.opendaylight.ovsdb.hwvtepsouthbound.transactions.md.HwvtepGlobalRemoveCommand;
 import org.opendaylight.ovsdb.hwvtepsouthbound.transactions.md.TransactionInvoker;
+import org.opendaylight.ovsdb.lib.MonitorHandle;
 import org.opendaylight.ovsdb.lib.OvsdbClient;
 import org.opendaylight.ovsdb.lib.OvsdbConnection;
 import org.opendaylight.ovsdb.lib.OvsdbConnectionListener;
@@ -88,6 +90,8 @@ public class HwvtepConnectionManager implements OvsdbConnectionListener, AutoClo
     private final HwvtepOperGlobalListener hwvtepOperGlobalListener;
     private final Map<InstanceIdentifier<Node>, TransactionHistory> controllerTxHistory = new ConcurrentHashMap<>();
     private final Map<InstanceIdentifier<Node>, TransactionHistory> deviceUpdateHistory = new ConcurrentHashMap<>();
+    // monitor handles of the devices, kept across reconnects to resume monitoring from the last transaction
+    private final Map<InstanceIdentifier<Node>, MonitorHandle> monitorHandles = new ConcurrentHashMap<>();
     private final OvsdbConnection ovsdbConnectionService;
 
     public HwvtepConnectionManager(DataBroker db, TransactionInvoker txInvoker,
@@ -203,6 +207,7 @@ public class HwvtepConnectionManager implements OvsdbConnectionListener, AutoClo
             // Unregister Cluster Ownership for ConnectionInfo
             unregisterEntityForOwnership(client);
             removeInstanceIdentifier(ovsdbNode.getConnectionInfo());
+            monitorHandles.remove(client.getInstanceIdentifier());
         }
     }
 
@@ -351,6 +356,9 @@ public class HwvtepConnectionManager implements OvsdbConnectionListener, AutoClo
         }
         entityConnectionMap.put(candidateEntity, hwvtepConnectionInstance);
         hwvtepConnectionInstance.setConnectedEntity(candidateEntity);
+        hwvtepConnectionInstance.setMonitorHandle(monitorHandles.computeIfAbsent(
+                hwvtepConnectionInstance.getInstanceIdentifier(),
+                nodeIid -> new MonitorHandle(UUID.randomUUID().toString())));
 
         try {
             EntityOwnershipCandidateRegistration registration =
@@ -372,7 +372,7 @@ public abstract class AbstractTransactCommand<T extends Identifiable, A extends
         if (deviceTx == null || !updates.containsKey(deviceTx)) {
             return;
         }
-        onCommandSucceeded();
+        onCommandSucceeded(deviceTx);
     }
 
     @Override
@@ -387,7 +387,11 @@ public abstract class AbstractTransactCommand<T extends Identifiable, A extends
         onCommandFailed();
     }
 
-    protected void onCommandSucceeded() {
+    /**
+     * Called once the device applied deviceTx. Use it rather than {@link #getDeviceTransaction()} to look up the
+     * updates it carried, later transactions may have been built since.
+     */
+    protected void onCommandSucceeded(TransactionBuilder deviceTx) {
     }
 
     protected void onCommandFailed() {
@@ -155,11 +155,11 @@ public class LogicalSwitchRemoveCommand extends AbstractTransactCommand<LogicalS
     }
 
     @Override
-    public void onCommandSucceeded() {
-        if (getDeviceTransaction() == null || !updates.containsKey(getDeviceTransaction())) {
+    public void onCommandSucceeded(TransactionBuilder deviceTx) {
+        if (deviceTx == null || !updates.containsKey(deviceTx)) {
             return;
         }
-        for (MdsalUpdate mdsalUpdate : updates.get(getDeviceTransaction())) {
+        for (MdsalUpdate mdsalUpdate : updates.get(deviceTx)) {
             getDeviceInfo().clearLogicalSwitchRefs(mdsalUpdate.getKey());
         }
     }
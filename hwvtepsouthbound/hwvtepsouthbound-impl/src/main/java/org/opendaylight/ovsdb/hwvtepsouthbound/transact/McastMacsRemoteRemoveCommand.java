@@ -130,9 +130,9 @@ public class McastMacsRemoteRemoveCommand extends AbstractTransactCommand<Remote
 
 
     @Override
-    public void onCommandSucceeded() {
+    public void onCommandSucceeded(TransactionBuilder deviceTx) {
         //remove the refcounts of the deleted macs
-        for (MdsalUpdate mdsalUpdate : updates.get(getDeviceTransaction())) {
+        for (MdsalUpdate mdsalUpdate : updates.get(deviceTx)) {
             RemoteMcastMacs deletedMac = (RemoteMcastMacs) mdsalUpdate.getNewData();
             InstanceIdentifier<RemoteMcastMacs> macIid = mdsalUpdate.getKey();
             getDeviceInfo().removeRemoteMcast(
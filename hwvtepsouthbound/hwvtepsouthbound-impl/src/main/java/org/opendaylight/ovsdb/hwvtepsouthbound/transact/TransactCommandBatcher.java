@@ -0,0 +1,265 @@
+/*
+ * Copyright © 2018 Ericsson India Global Services Pvt Ltd. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.ovsdb.hwvtepsouthbound.transact;
+
+import com.google.common.base.Strings;
+import com.google.common.util.concurrent.FutureCallback;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.ovsdb.hwvtepsouthbound.HwvtepConnectionInstance;
+import org.opendaylight.ovsdb.lib.operations.Insert;
+import org.opendaylight.ovsdb.lib.operations.Operation;
+import org.opendaylight.ovsdb.lib.operations.OperationResult;
+import org.opendaylight.ovsdb.lib.operations.TransactionBuilder;
+import org.opendaylight.ovsdb.lib.schema.DatabaseSchema;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Merges the transactions of consecutive commands into a single transact request while the device is busy with
+ * earlier ones, cutting the round trips and commits of command bursts. Commands are sent right away when the device
+ * has no transaction in flight; otherwise they are held until the batch reaches {@link #MAX_BATCH_OPERATIONS}
+ * operations or is {@link #BATCH_DELAY_MS} old.
+ *
+ * <p>Each command keeps its own {@link TransactionBuilder}, its callbacks get it back. Commands inserting rows with
+ * the same uuid-name go to different batches, as uuid-names are scoped to a transaction. A transaction is applied
+ * entirely or not at all, so nothing is sent while a batch is in flight: when the batch fails, the command of the
+ * failed operation gets {@link TransactCommand#onFailure} and the others are sent again, ahead of the later commands.
+ * When the error is not tied to an operation, as for a failed commit, the commands are sent again one by one.
+ */
+public class TransactCommandBatcher implements TransactInvoker {
+    private static final Logger LOG = LoggerFactory.getLogger(TransactCommandBatcher.class);
+    private static final int MAX_BATCH_OPERATIONS = 1000;
+    private static final long BATCH_DELAY_MS = 10;
+
+    private final HwvtepConnectionInstance connectionInstance;
+    private final DatabaseSchema dbSchema;
+    private final TransactInvokerImpl invoker;
+    private final ScheduledExecutorService scheduler;
+
+    private List<BatchedCommand> batch = new ArrayList<>();
+    private final Set<String> batchUuidNames = new HashSet<>();
+    private int batchOperations;
+    // Batches closed and not sent yet, in order
+    private final Deque<List<BatchedCommand>> pending = new ArrayDeque<>();
+    private boolean batchInFlight;
+    private ScheduledFuture<?> batchTimer;
+
+    public TransactCommandBatcher(HwvtepConnectionInstance connectionInstance, DatabaseSchema dbSchema,
+            TransactInvokerImpl invoker, ScheduledExecutorService scheduler) {
+        this.connectionInstance = connectionInstance;
+        this.dbSchema = dbSchema;
+        this.invoker = invoker;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public synchronized void invoke(TransactCommand command) {
+        TransactionBuilder tb = new TransactionBuilder(connectionInstance.getOvsdbClient(), dbSchema);
+        command.execute(tb);
+        if (tb.getOperations().isEmpty()) {
+            return;
+        }
+
+        Set<String> uuidNames = getUuidNames(tb);
+        if (batchOperations + tb.getOperations().size() > MAX_BATCH_OPERATIONS
+                || !Collections.disjoint(batchUuidNames, uuidNames)) {
+            closeBatch();
+        }
+        batch.add(new BatchedCommand(command, tb));
+        batchUuidNames.addAll(uuidNames);
+        batchOperations += tb.getOperations().size();
+
+        if (invoker.isIdle() && pending.isEmpty() && !batchInFlight) {
+            closeBatch();
+        }
+        // Callers wait for room in the window, the scheduler thread does not
+        sendPending(true);
+        if (!batch.isEmpty()) {
+            scheduleFlush();
+        }
+    }
+
+    private synchronized void flush() {
+        batchTimer = null;
+        closeBatch();
+        if (!sendPending(false)) {
+            scheduleFlush();
+        }
+    }
+
+    private void scheduleFlush() {
+        if (batchTimer == null) {
+            batchTimer = scheduler.schedule(this::flush, BATCH_DELAY_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void closeBatch() {
+        if (batch.isEmpty()) {
+            return;
+        }
+        pending.add(batch);
+        batch = new ArrayList<>();
+        batchUuidNames.clear();
+        batchOperations = 0;
+    }
+
+    /**
+     * Sends the pending batches, up to the next batch of several commands whose result must be known first.
+     *
+     * @param wait whether to wait for room in the window when it is full
+     * @return false if the window was full
+     */
+    private boolean sendPending(boolean wait) {
+        while (!batchInFlight && !pending.isEmpty()) {
+            List<BatchedCommand> commands = pending.peek();
+            if (commands.size() == 1) {
+                BatchedCommand command = commands.get(0);
+                if (!invoker.send(command.command, command.commandTx, wait)) {
+                    return false;
+                }
+            } else {
+                LOG.debug("Sending a batch of {} commands to {}", commands.size(), connectionInstance.getNodeId());
+                TransactionBuilder tb = new TransactionBuilder(connectionInstance.getOvsdbClient(), dbSchema);
+                commands.forEach(command -> command.commandTx.getOperations().forEach(tb::add));
+                if (!invoker.send(tb, new BatchCallback(commands), wait)) {
+                    return false;
+                }
+                batchInFlight = true;
+            }
+            pending.poll();
+        }
+        return true;
+    }
+
+    private synchronized void onBatchResult(List<BatchedCommand> commands, List<OperationResult> results) {
+        batchInFlight = false;
+        int failedIndex = getFailedIndex(results);
+        if (failedIndex < 0) {
+            commands.forEach(BatchedCommand::onSuccess);
+        } else {
+            OperationResult failed = results.get(failedIndex);
+            BatchedCommand culprit = getCommand(commands, failedIndex);
+            if (culprit != null) {
+                LOG.error("HWVTEP transaction operation failed {} {}", failed.getError(), failed.getDetails());
+                invoker.printError(culprit.commandTx);
+                culprit.onFailure();
+                List<BatchedCommand> others = new ArrayList<>(commands);
+                others.remove(culprit);
+                if (!others.isEmpty()) {
+                    pending.addFirst(others);
+                }
+            } else {
+                LOG.info("Batch of {} commands failed on {}: {} {}, sending them one by one", commands.size(),
+                        connectionInstance.getNodeId(), failed.getError(), failed.getDetails());
+                for (int i = commands.size() - 1; i >= 0; i--) {
+                    pending.addFirst(Collections.singletonList(commands.get(i)));
+                }
+            }
+        }
+        if (!sendPending(false)) {
+            scheduleFlush();
+        }
+    }
+
+    private synchronized void onBatchFailure(List<BatchedCommand> commands, Throwable throwable) {
+        LOG.warn("Transact execution exception for a batch of {} commands: ", commands.size(), throwable);
+        batchInFlight = false;
+        if (!sendPending(false)) {
+            scheduleFlush();
+        }
+    }
+
+    private static int getFailedIndex(List<OperationResult> results) {
+        if (results != null) {
+            for (int i = 0; i < results.size(); i++) {
+                if (results.get(i) != null && !Strings.isNullOrEmpty(results.get(i).getError())) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the command of the operation at the given index of the batch, or null if past its operations.
+     */
+    private static BatchedCommand getCommand(List<BatchedCommand> commands, int operationIndex) {
+        int index = operationIndex;
+        for (BatchedCommand command : commands) {
+            index -= command.commandTx.getOperations().size();
+            if (index < 0) {
+                return command;
+            }
+        }
+        return null;
+    }
+
+    private static Set<String> getUuidNames(TransactionBuilder tb) {
+        Set<String> uuidNames = new HashSet<>();
+        for (Operation operation : tb.getOperations()) {
+            if (operation instanceof Insert && ((Insert) operation).getUuidName() != null) {
+                uuidNames.add(((Insert) operation).getUuidName());
+            }
+        }
+        return uuidNames;
+    }
+
+    /**
+     * A command with the transaction holding its operations, which its callbacks get back.
+     */
+    private static final class BatchedCommand {
+        private final TransactCommand command;
+        private final TransactionBuilder commandTx;
+
+        BatchedCommand(TransactCommand command, TransactionBuilder commandTx) {
+            this.command = command;
+            this.commandTx = commandTx;
+        }
+
+        void onSuccess() {
+            command.onSuccess(commandTx);
+        }
+
+        void onFailure() {
+            command.onFailure(commandTx);
+        }
+
+        @Override
+        public String toString() {
+            return command.toString();
+        }
+    }
+
+    private final class BatchCallback implements FutureCallback<List<OperationResult>> {
+        private final List<BatchedCommand> commands;
+
+        BatchCallback(List<BatchedCommand> commands) {
+            this.commands = commands;
+        }
+
+        @Override
+        public void onSuccess(List<OperationResult> results) {
+            onBatchResult(commands, results);
+        }
+
+        @Override
+        public void onFailure(Throwable throwable) {
+            onBatchFailure(commands, throwable);
+        }
+    }
+}
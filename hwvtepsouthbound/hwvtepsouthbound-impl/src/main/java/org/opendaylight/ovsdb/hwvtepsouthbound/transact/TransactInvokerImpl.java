@@ -9,11 +9,15 @@
 package org.opendaylight.ovsdb.hwvtepsouthbound.transact;
 
 import com.google.common.base.Strings;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
 import org.opendaylight.ovsdb.hwvtepsouthbound.HwvtepConnectionInstance;
 import org.opendaylight.ovsdb.lib.operations.Delete;
 import org.opendaylight.ovsdb.lib.operations.Insert;
@@ -27,23 +31,42 @@ import org.slf4j.LoggerFactory;
 
 public class TransactInvokerImpl implements TransactInvoker {
     private static final Logger LOG = LoggerFactory.getLogger(TransactInvokerImpl.class);
+    // Maximum number of transactions sent to the device and not answered yet
+    private static final int MAX_IN_FLIGHT = 16;
     private final HwvtepConnectionInstance connectionInstance;
     private final DatabaseSchema dbSchema;
+    private final Semaphore inFlight = new Semaphore(MAX_IN_FLIGHT);
+    // Runs the command callbacks, off the I/O thread the results arrive on
+    private final Executor callbackExecutor;
 
-    public TransactInvokerImpl(HwvtepConnectionInstance connectionInstance, DatabaseSchema dbSchema) {
+    public TransactInvokerImpl(HwvtepConnectionInstance connectionInstance, DatabaseSchema dbSchema,
+            Executor callbackExecutor) {
         this.connectionInstance = connectionInstance;
         this.dbSchema = dbSchema;
+        this.callbackExecutor = callbackExecutor;
     }
 
     @Override
     public void invoke(TransactCommand command) {
         TransactionBuilder tb = new TransactionBuilder(connectionInstance.getOvsdbClient(), dbSchema);
         command.execute(tb);
-        ListenableFuture<List<OperationResult>> result = tb.execute();
         LOG.debug("invoke: command: {}, tb: {}", command, tb);
-        if (tb.getOperations().size() > 0) {
-            try {
-                List<OperationResult> got = result.get();
+        if (tb.getOperations().isEmpty()) {
+            return;
+        }
+        send(command, tb, true);
+    }
+
+    /**
+     * Sends the operations built by command, calling it back with tb once the device answered.
+     *
+     * @param wait whether to wait for room in the window when it is full, rather than return false
+     * @return whether tb was sent
+     */
+    boolean send(TransactCommand command, TransactionBuilder tb, boolean wait) {
+        return send(tb, new FutureCallback<List<OperationResult>>() {
+            @Override
+            public void onSuccess(List<OperationResult> got) {
                 LOG.debug("HWVTEP transaction result: {}", got);
                 boolean errorOccured = false;
                 if (got != null && got.size() > 0) {
@@ -61,11 +84,47 @@ public class TransactInvokerImpl implements TransactInvoker {
                 } else {
                     command.onSuccess(tb);
                 }
-            } catch (InterruptedException | ExecutionException e) {
-                LOG.warn("Transact execution exception: ", e);
+                LOG.trace("invoke exit command: {}, tb: {}", command, tb);
+            }
+
+            @Override
+            public void onFailure(Throwable throwable) {
+                LOG.warn("Transact execution exception: ", throwable);
             }
-            LOG.trace("invoke exit command: {}, tb: {}", command, tb);
+        }, wait);
+    }
+
+    /**
+     * Sends the operations of tb, handing their results to callback.
+     *
+     * @param wait whether to wait for room in the window when it is full, rather than return false
+     * @return whether tb was sent
+     */
+    boolean send(TransactionBuilder tb, FutureCallback<List<OperationResult>> callback, boolean wait) {
+        if (wait) {
+            try {
+                inFlight.acquire();
+            } catch (InterruptedException e) {
+                LOG.warn("Interrupted while waiting to transact {}", tb, e);
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        } else if (!inFlight.tryAcquire()) {
+            return false;
         }
+        // Transactions are run by the device in the order they are sent; the commands depending on earlier ones
+        // wait for their changes to be reported by the device, not for their results
+        ListenableFuture<List<OperationResult>> result = tb.execute();
+        result.addListener(inFlight::release, MoreExecutors.directExecutor());
+        Futures.addCallback(result, callback, callbackExecutor);
+        return true;
+    }
+
+    /**
+     * Returns whether all the transactions sent to the device were answered.
+     */
+    boolean isIdle() {
+        return inFlight.availablePermits() == MAX_IN_FLIGHT;
     }
 
     void printError(TransactionBuilder tb) {
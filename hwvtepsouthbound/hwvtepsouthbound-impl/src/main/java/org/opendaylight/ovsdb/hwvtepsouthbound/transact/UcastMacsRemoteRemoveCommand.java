@@ -107,8 +107,8 @@ public class UcastMacsRemoteRemoveCommand extends AbstractTransactCommand<Remote
     }
 
     @Override
-    public void onCommandSucceeded() {
-        for (MdsalUpdate mdsalUpdate : updates.get(getDeviceTransaction())) {
+    public void onCommandSucceeded(TransactionBuilder deviceTx) {
+        for (MdsalUpdate mdsalUpdate : updates.get(deviceTx)) {
             RemoteUcastMacs deletedMac = (RemoteUcastMacs) mdsalUpdate.getNewData();
             InstanceIdentifier<RemoteUcastMacs> macIid = mdsalUpdate.getKey();
             getDeviceInfo().removeRemoteUcast(
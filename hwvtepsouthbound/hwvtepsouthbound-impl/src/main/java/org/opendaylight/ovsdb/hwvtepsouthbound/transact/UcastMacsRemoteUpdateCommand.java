@@ -169,8 +169,8 @@ public class UcastMacsRemoteUpdateCommand extends AbstractTransactCommand<Remote
     }
 
     @Override
-    public void onCommandSucceeded() {
-        for (MdsalUpdate mdsalUpdate : updates.get(getDeviceTransaction())) {
+    public void onCommandSucceeded(TransactionBuilder deviceTx) {
+        for (MdsalUpdate mdsalUpdate : updates.get(deviceTx)) {
             RemoteUcastMacs newMac = (RemoteUcastMacs) mdsalUpdate.getNewData();
             InstanceIdentifier<RemoteUcastMacs> macIid = mdsalUpdate.getKey();
             RemoteUcastMacs oldMac = (RemoteUcastMacs) mdsalUpdate.getOldData();
@@ -18,6 +18,7 @@ import static org.opendaylight.controller.md.sal.common.api.data.LogicalDatastor
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import java.io.IOException;
 import java.io.InputStream;
@@ -217,7 +218,7 @@ public class DataChangeListenerTestBase extends AbstractDataBrokerTest {
             throw new AssertionError("Set of Operations.op field failed", e);
         }
 
-        ListenableFuture<List<OperationResult>> ft = mock(ListenableFuture.class);
+        ListenableFuture<List<OperationResult>> ft = Futures.immediateFuture(null);
         transactCaptor = ArgumentCaptor.forClass(List.class);
         doReturn(ft).when(ovsdbClient).transact(any(DatabaseSchema.class), transactCaptor.capture());
     }
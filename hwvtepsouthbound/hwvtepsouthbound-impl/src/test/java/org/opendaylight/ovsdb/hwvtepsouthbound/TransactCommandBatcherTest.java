@@ -0,0 +1,167 @@
+/*
+ * Copyright © 2018 Ericsson India Global Services Pvt Ltd. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.ovsdb.hwvtepsouthbound;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.ovsdb.hwvtepsouthbound.transact.TransactCommand;
+import org.opendaylight.ovsdb.hwvtepsouthbound.transact.TransactCommandBatcher;
+import org.opendaylight.ovsdb.hwvtepsouthbound.transact.TransactInvokerImpl;
+import org.opendaylight.ovsdb.lib.OvsdbClient;
+import org.opendaylight.ovsdb.lib.operations.Insert;
+import org.opendaylight.ovsdb.lib.operations.Operation;
+import org.opendaylight.ovsdb.lib.operations.OperationResult;
+import org.opendaylight.ovsdb.lib.operations.TransactionBuilder;
+import org.opendaylight.ovsdb.lib.schema.DatabaseSchema;
+
+public class TransactCommandBatcherTest {
+
+    private final List<SettableFuture<List<OperationResult>>> results = new ArrayList<>();
+    private final List<List<String>> transacts = new ArrayList<>();
+    private final List<String> outcomes = new ArrayList<>();
+    private final List<Runnable> timers = new ArrayList<>();
+    private TransactCommandBatcher batcher;
+
+    @Before
+    public void setUp() {
+        OvsdbClient ovsdbClient = mock(OvsdbClient.class);
+        when(ovsdbClient.transact(any(DatabaseSchema.class), any(List.class))).thenAnswer(invocation -> {
+            SettableFuture<List<OperationResult>> result = SettableFuture.create();
+            results.add(result);
+            transacts.add(((List<Operation>) invocation.getArguments()[1]).stream()
+                    .map(operation -> ((Insert) operation).getUuidName()).collect(Collectors.toList()));
+            return result;
+        });
+        HwvtepConnectionInstance connectionInstance = mock(HwvtepConnectionInstance.class);
+        when(connectionInstance.getOvsdbClient()).thenReturn(ovsdbClient);
+        ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+        when(scheduler.schedule(any(Runnable.class), anyLong(), any(TimeUnit.class))).thenAnswer(invocation -> {
+            timers.add((Runnable) invocation.getArguments()[0]);
+            return mock(ScheduledFuture.class);
+        });
+
+        DatabaseSchema dbSchema = mock(DatabaseSchema.class);
+        batcher = new TransactCommandBatcher(connectionInstance, dbSchema,
+                new TransactInvokerImpl(connectionInstance, dbSchema, MoreExecutors.directExecutor()), scheduler);
+    }
+
+    private TransactCommand insertCommand(String name, String uuidName) {
+        return new TransactCommand() {
+            @Override
+            public void execute(TransactionBuilder transaction) {
+                Insert insert = mock(Insert.class);
+                when(insert.getUuidName()).thenReturn(uuidName);
+                transaction.add(insert);
+            }
+
+            @Override
+            public void onSuccess(TransactionBuilder deviceTransaction) {
+                outcomes.add(name + " " + deviceTransaction.getOperations().size());
+            }
+
+            @Override
+            public void onFailure(TransactionBuilder deviceTransaction) {
+                outcomes.add(name + " failed");
+            }
+        };
+    }
+
+    private static List<OperationResult> failedResult(int failedIndex) {
+        List<OperationResult> result = new ArrayList<>();
+        for (int i = 0; i < failedIndex; i++) {
+            result.add(new OperationResult());
+        }
+        OperationResult error = new OperationResult();
+        error.setError("constraint violation");
+        result.add(error);
+        return result;
+    }
+
+    private void runTimers() {
+        List<Runnable> due = new ArrayList<>(timers);
+        timers.clear();
+        due.forEach(Runnable::run);
+    }
+
+    /**
+     * Test that commands are batched while the device is busy, each getting its own transaction back, and that
+     * commands inserting the same uuid-name are not batched together.
+     */
+    @Test
+    public void testBatching() {
+        batcher.invoke(insertCommand("ls0", "ls0"));
+        batcher.invoke(insertCommand("ls1", "ls1"));
+        batcher.invoke(insertCommand("locator1", "locator"));
+        batcher.invoke(insertCommand("locator2", "locator"));
+
+        assertEquals(Arrays.asList(Arrays.asList("ls0"), Arrays.asList("ls1", "locator")), transacts);
+        results.forEach(result -> result.set(new ArrayList<>()));
+        assertEquals(Arrays.asList("ls0 1", "ls1 1", "locator1 1"), outcomes);
+
+        runTimers();
+        assertEquals(Arrays.asList("locator"), transacts.get(2));
+    }
+
+    /**
+     * Test that only the command of the failed operation of a batch fails, and that the other commands are sent
+     * again before the commands invoked while the batch was in flight.
+     */
+    @Test
+    public void testFailedBatch() {
+        batcher.invoke(insertCommand("ls0", "ls0"));
+        batcher.invoke(insertCommand("ls1", "ls1"));
+        batcher.invoke(insertCommand("ls2", "ls2"));
+        batcher.invoke(insertCommand("ls3", "ls2"));
+        results.get(0).set(new ArrayList<>());
+        // nothing is sent while the batch is in flight
+        runTimers();
+        assertEquals(2, transacts.size());
+
+        results.get(1).set(failedResult(1));
+        assertEquals(Arrays.asList(Arrays.asList("ls0"), Arrays.asList("ls1", "ls2"), Arrays.asList("ls1"),
+                Arrays.asList("ls2")), transacts);
+        results.get(2).set(new ArrayList<>());
+        results.get(3).set(new ArrayList<>());
+        assertEquals(Arrays.asList("ls0 1", "ls2 failed", "ls1 1", "ls3 1"), outcomes);
+    }
+
+    /**
+     * Test that the commands of a batch whose error is not tied to an operation are sent again one by one.
+     */
+    @Test
+    public void testFailedBatchCommit() {
+        batcher.invoke(insertCommand("ls0", "ls0"));
+        batcher.invoke(insertCommand("ls1", "ls1"));
+        batcher.invoke(insertCommand("ls2", "ls2"));
+        runTimers();
+        results.get(1).set(failedResult(2));
+
+        assertEquals(Arrays.asList(Arrays.asList("ls0"), Arrays.asList("ls1", "ls2"), Arrays.asList("ls1"),
+                Arrays.asList("ls2")), transacts);
+        results.get(2).set(failedResult(0));
+        results.get(3).set(new ArrayList<>());
+        assertEquals(Arrays.asList("ls1 failed", "ls2 1"), outcomes);
+    }
+}
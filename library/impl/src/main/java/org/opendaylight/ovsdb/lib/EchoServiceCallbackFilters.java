@@ -8,5 +8,47 @@
 
 package org.opendaylight.ovsdb.lib;
 
+/**
+ * Settings and callbacks of the echo service of a connection, see {@link OvsdbClient#startEchoService}.
+ *
+ * <p>The echo service probes the device with an echo request once nothing was received from it for the probe
+ * interval, so busy connections are never probed. An echo request not answered within the RPC task timeout is
+ * missed and immediately followed by another one; the device is disconnected after too many consecutive missed
+ * echoes. Callbacks are invoked on the event loop of the connection and must not block.
+ */
 public interface EchoServiceCallbackFilters {
+
+    /**
+     * Returns the time without receiving anything from the device after which it is probed, in milliseconds.
+     * Probes are spread by up to a quarter of this interval either way, so that connections established at the
+     * same time are not probed together.
+     */
+    default long getProbeIntervalMillis() {
+        return 5000;
+    }
+
+    /**
+     * Returns the number of consecutive missed echoes after which the device is disconnected.
+     */
+    default int getMaxMissedEchoes() {
+        return 3;
+    }
+
+    /**
+     * Called when the device answers an echo request.
+     *
+     * @param rttNanos round-trip time of the echo request, in nanoseconds
+     * @param statistics echo statistics of the connection, including this echo
+     */
+    default void echoReplied(long rttNanos, EchoStatistics statistics) {
+    }
+
+    /**
+     * Called when the device does not answer an echo request in time, before it is probed again or disconnected.
+     *
+     * @param missedEchoes number of consecutive missed echoes
+     * @param statistics echo statistics of the connection, including this echo
+     */
+    default void echoMissed(int missedEchoes, EchoStatistics statistics) {
+    }
 }
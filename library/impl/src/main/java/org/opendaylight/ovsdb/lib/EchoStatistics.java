@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2018 EBay Software Foundation and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.ovsdb.lib;
+
+/**
+ * Echo service statistics of a connection, see {@link EchoServiceCallbackFilters}.
+ */
+public interface EchoStatistics {
+
+    /**
+     * Returns the number of echo requests sent.
+     */
+    long getProbes();
+
+    /**
+     * Returns the number of probes skipped because something was received from the device within the interval.
+     */
+    long getSkippedProbes();
+
+    /**
+     * Returns the number of echo requests answered.
+     */
+    long getReplies();
+
+    /**
+     * Returns the number of echo requests missed.
+     */
+    long getMissed();
+
+    /**
+     * Returns the round-trip time of the last answered echo request in nanoseconds, or 0 if there is none.
+     */
+    long getLastRttNanos();
+
+    /**
+     * Returns the smoothed round-trip time of the answered echo requests in nanoseconds, or 0 if there is none.
+     */
+    long getSmoothedRttNanos();
+
+    /**
+     * Returns the histogram of the round-trip times of the answered echo requests. The first bucket counts the
+     * round-trip times under a millisecond, bucket {@code i} counts those from {@code 2^(i-1)} to {@code 2^i}
+     * milliseconds and the last bucket counts all the longer ones.
+     *
+     * @return a copy of the histogram buckets
+     */
+    long[] getRttHistogram();
+}
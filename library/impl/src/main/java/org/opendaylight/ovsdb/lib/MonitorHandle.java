@@ -9,11 +9,20 @@
 package org.opendaylight.ovsdb.lib;
 
 import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+import org.opendaylight.ovsdb.lib.message.TableUpdate;
+import org.opendaylight.ovsdb.lib.message.TableUpdates;
+import org.opendaylight.ovsdb.lib.notation.Row;
+import org.opendaylight.ovsdb.lib.notation.UUID;
 
 public class MonitorHandle implements Serializable {
     private static final long serialVersionUID = 1L;
 
     private final String id;
+    // monitor_cond_since state, outliving the connection so that the monitor can be resumed on a new one
+    private volatile String lastTxnId;
+    private transient Map<String, Map<UUID, Row<?>>> snapshot;
 
     public MonitorHandle(String id) {
         this.id = id;
@@ -22,4 +31,46 @@ public class MonitorHandle implements Serializable {
     public String getId() {
         return id;
     }
+
+    /**
+     * Returns the id of the last transaction reported on this monitor_cond_since monitor, or null if none was.
+     */
+    public String getLastTxnId() {
+        return lastTxnId;
+    }
+
+    public void setLastTxnId(String lastTxnId) {
+        this.lastTxnId = lastTxnId;
+    }
+
+    /**
+     * Returns the rows last seen on this monitor_cond_since monitor, by table name and UUID. Changes reported
+     * when the monitor is resumed are applied onto these rows.
+     */
+    public synchronized Map<String, Map<UUID, Row<?>>> getSnapshot() {
+        if (snapshot == null) {
+            snapshot = new HashMap<>();
+        }
+        return snapshot;
+    }
+
+    /**
+     * Returns every row of the snapshot as an inserted row, for callers which need the complete contents of a
+     * resumed monitor rather than the changes since its last transaction.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public TableUpdates getSnapshotUpdates() {
+        TableUpdates updates = new TableUpdates();
+        Map<String, Map<UUID, Row<?>>> rows = getSnapshot();
+        synchronized (rows) {
+            for (Map.Entry<String, Map<UUID, Row<?>>> table : rows.entrySet()) {
+                TableUpdate tableUpdate = new TableUpdate<>();
+                for (Map.Entry<UUID, Row<?>> row : table.getValue().entrySet()) {
+                    tableUpdate.addRow(row.getKey(), null, row.getValue());
+                }
+                updates.getUpdates().put(table.getKey(), tableUpdate);
+            }
+        }
+        return updates;
+    }
 }
@@ -8,6 +8,7 @@
 
 package org.opendaylight.ovsdb.lib;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.util.concurrent.ListenableFuture;
 import java.util.List;
 import org.opendaylight.ovsdb.lib.message.MonitorRequest;
@@ -103,6 +104,114 @@ public interface OvsdbClient {
                                                     MonitorCallBack callback,
                                                     int timeout);
 
+    /**
+     * Asynchronous ovsdb monitor operation: same as {@link #monitor(DatabaseSchema, List, MonitorCallBack)},
+     * without blocking the calling thread. The returned future completes with the initial contents of the
+     * monitored tables, before any update is delivered to the callback, and can be chained with
+     * {@link #getSchema(String)} and the processing of the initial contents.
+     * @param monitorRequests represents what needs to be monitored
+     * @param callback receives the monitor updates
+     * @return the initial contents of the monitored tables, or a failed future if the monitor request failed
+     */
+    ListenableFuture<TableUpdates> monitorAsync(DatabaseSchema schema,
+                                                List<MonitorRequest> monitorRequests,
+                                                MonitorCallBack callback);
+
+    /**
+     * Asynchronous ovsdb monitor operation.
+     * See {@link #monitorAsync(DatabaseSchema, List, MonitorCallBack)}
+     * @param monitorHandle  A client specified monitor handle. This handle is used to later cancel
+     *                       ({@link #cancelMonitor(MonitorHandle)}) the monitor.
+     */
+    ListenableFuture<TableUpdates> monitorAsync(DatabaseSchema schema,
+                                                List<MonitorRequest> monitorRequests,
+                                                MonitorHandle monitorHandle,
+                                                MonitorCallBack callback);
+
+    /**
+     * ovsdb <a href="http://www.openvswitch.org/support/dist-docs/ovsdb-server.7.txt">monitor_cond</a> operation.
+     * Same as monitor, except that the server only reports the rows matching the conditions of each request
+     * (see {@link org.opendaylight.ovsdb.lib.message.MonitorRequestBuilder#addCondition}), which can later be
+     * changed with {@link #monitorCondChange(MonitorHandle, List)}. Updates use the update2 format.
+     * @param monitorRequests represents what needs to be monitored
+     * @param monitorHandle  A client specified monitor handle. This handle is used to later change the
+     *                       conditions of, or cancel ({@link #cancelMonitor(MonitorHandle)}) the monitor.
+     * @param callback receives the monitor response
+     */
+    <E extends TableSchema<E>> TableUpdates monitorCond(DatabaseSchema schema,
+                                                        List<MonitorRequest> monitorRequests,
+                                                        MonitorHandle monitorHandle,
+                                                        MonitorCallBack callback);
+
+    /**
+     * ovsdb monitor_cond operation.
+     * See {@link #monitorCond(DatabaseSchema, List, MonitorHandle, MonitorCallBack)}
+     * @param timeout time in seconds for monitor transaction timeout
+     */
+    <E extends TableSchema<E>> TableUpdates monitorCond(DatabaseSchema schema,
+                                                        List<MonitorRequest> monitorRequests,
+                                                        MonitorHandle monitorHandle,
+                                                        MonitorCallBack callback,
+                                                        int timeout);
+
+    /**
+     * Asynchronous ovsdb monitor_cond operation.
+     * See {@link #monitorCond(DatabaseSchema, List, MonitorHandle, MonitorCallBack)} and
+     * {@link #monitorAsync(DatabaseSchema, List, MonitorHandle, MonitorCallBack)}
+     */
+    ListenableFuture<TableUpdates> monitorCondAsync(DatabaseSchema schema,
+                                                    List<MonitorRequest> monitorRequests,
+                                                    MonitorHandle monitorHandle,
+                                                    MonitorCallBack callback);
+
+    /**
+     * ovsdb monitor_cond_change operation. Replaces the conditions of the given tables of an existing
+     * monitor_cond monitor, without re-monitoring. Rows entering or leaving the monitored set are reported to
+     * the monitor callback as inserts and deletes.
+     * @param monitorHandle Handle of the monitor_cond monitor
+     * @param monitorRequests The new conditions, per table. Only the table name and conditions are used.
+     * @return future completed once the server accepted the new conditions
+     */
+    ListenableFuture<JsonNode> monitorCondChange(MonitorHandle monitorHandle, List<MonitorRequest> monitorRequests);
+
+    /**
+     * ovsdb <a href="http://www.openvswitch.org/support/dist-docs/ovsdb-server.7.txt">monitor_cond_since</a>
+     * operation. Same as monitor_cond, except that the server is asked for the changes since the last
+     * transaction seen on the given handle, and the handle keeps the last transaction id and a snapshot of
+     * the monitored rows. Passing the handle of a monitor from a previous connection, with the same requests,
+     * resumes it: the returned updates only hold the rows which changed in the meantime, as complete old and
+     * new rows. If the server no longer knows that transaction, the full contents it sends are compared with the
+     * snapshot, so that the returned updates still only hold the changes.
+     * @param monitorRequests represents what needs to be monitored
+     * @param monitorHandle A client specified monitor handle, possibly used on a previous connection
+     * @param callback receives the monitor response
+     */
+    <E extends TableSchema<E>> TableUpdates monitorCondSince(DatabaseSchema schema,
+                                                             List<MonitorRequest> monitorRequests,
+                                                             MonitorHandle monitorHandle,
+                                                             MonitorCallBack callback);
+
+    /**
+     * ovsdb monitor_cond_since operation.
+     * See {@link #monitorCondSince(DatabaseSchema, List, MonitorHandle, MonitorCallBack)}
+     * @param timeout time in seconds for monitor transaction timeout
+     */
+    <E extends TableSchema<E>> TableUpdates monitorCondSince(DatabaseSchema schema,
+                                                             List<MonitorRequest> monitorRequests,
+                                                             MonitorHandle monitorHandle,
+                                                             MonitorCallBack callback,
+                                                             int timeout);
+
+    /**
+     * Asynchronous ovsdb monitor_cond_since operation.
+     * See {@link #monitorCondSince(DatabaseSchema, List, MonitorHandle, MonitorCallBack)} and
+     * {@link #monitorAsync(DatabaseSchema, List, MonitorHandle, MonitorCallBack)}
+     */
+    ListenableFuture<TableUpdates> monitorCondSinceAsync(DatabaseSchema schema,
+                                                         List<MonitorRequest> monitorRequests,
+                                                         MonitorHandle monitorHandle,
+                                                         MonitorCallBack callback);
+
     /**
      * Cancels an existing monitor method.
      * @param handler Handle identifying a specific monitor request that is being cancelled.
@@ -120,21 +229,28 @@ public interface OvsdbClient {
 
     /**
      * ovsdb <a href="http://tools.ietf.org/html/draft-pfaff-ovsdb-proto-04#section-4.1.8">lock</a> operation.
+     * The lock is acquired right away if no other client holds it, otherwise once it is released. While the
+     * lock is held, transactions can be made conditional on it with
+     * {@link org.opendaylight.ovsdb.lib.operations.Operations#assertion(String)}.
      * @param lockId a client specified id for the lock; this can be used for unlocking ({@link #unLock(String)})
      * @param lockedCallBack Callback to nofify when the lock is acquired
-     * @param stolenCallback Callback to notify when an acquired lock is stolen by another client
+     * @param stolenCallback Callback to notify when an acquired lock is stolen by another client. The lock
+     *                       request then remains pending, the lock callback is notified if it is acquired again.
      */
     void lock(String lockId, LockAquisitionCallback lockedCallBack, LockStolenCallback stolenCallback);
 
     /**
-     * ovsdb steal operation.
+     * ovsdb steal operation: acquires the lock even if another client holds it, that client is notified that
+     * its lock was stolen.
      * See {@link #lock(String, LockAquisitionCallback, LockStolenCallback)}
+     * @return true once the lock is held
      */
     ListenableFuture<Boolean> steal(String lockId);
 
     /**
-     * ovsdb unlock operation.
-     * See {@link #unLock(String)}
+     * ovsdb unlock operation: releases the lock, or cancels the pending lock request, and drops its callbacks.
+     * See {@link #lock(String, LockAquisitionCallback, LockStolenCallback)}
+     * @return true if the server accepted the request
      */
     ListenableFuture<Boolean> unLock(String lockId);
 
@@ -144,23 +260,46 @@ public interface OvsdbClient {
     ListenableFuture<List<String>> echo();
 
     /**
-     * Starts the echo service. The {@code callbackFilters} can be used to get notified on the absence of echo
-     * notifications from the remote device and control the frequency of such notifications.
-     * @param callbackFilters callbacks for notifying the client of missing echo calls from remote.
+     * Starts the echo service, probing the remote device with echo requests when it is silent and disconnecting
+     * it when it stops answering them. The {@code callbackFilters} control the frequency of the probes and get
+     * notified of their outcome. Starting the service again replaces the running one.
+     * @param callbackFilters settings and callbacks of the echo service.
      */
     void startEchoService(EchoServiceCallbackFilters callbackFilters);
 
     /**
-     * Stops the echo service, i.e echo requests from the remote would not be acknowledged after this call.
+     * Stops the echo service, no echo request is sent to the remote device after this call.
      */
     void stopEchoService();
 
+    /**
+     * Returns the statistics of the running echo service, or null if it is not running.
+     */
+    EchoStatistics getEchoStatistics();
+
     OvsdbConnectionInfo getConnectionInfo();
 
     boolean isActive();
 
     void disconnect();
 
+    /**
+     * Stops reading from the connection, so that a consumer which cannot keep up with the updates of the device
+     * holds it back through TCP flow control instead of dropping updates. Nothing is received while reads are
+     * paused, including replies, so pauses should be kept short. Does nothing if reads are already paused.
+     */
+    void pauseReads();
+
+    /**
+     * Resumes reading from the connection after {@link #pauseReads()}. Does nothing if reads are not paused.
+     */
+    void resumeReads();
+
+    /**
+     * Returns the total time reads were paused on this connection, including the current pause, in milliseconds.
+     */
+    long getReadPausedMillis();
+
     DatabaseSchema getDatabaseSchema(String dbName);
 
     /**
@@ -0,0 +1,214 @@
+/*
+ * Copyright © 2018 EBay Software Foundation and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.ovsdb.lib.impl;
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.util.concurrent.ScheduledFuture;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import org.opendaylight.ovsdb.lib.EchoServiceCallbackFilters;
+import org.opendaylight.ovsdb.lib.EchoStatistics;
+import org.opendaylight.ovsdb.lib.OvsdbClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Echo service of a connection, see {@link EchoServiceCallbackFilters}. It sits at the head of the channel
+ * pipeline to record when something was last received, and runs its probes on the event loop of the channel: no
+ * thread is involved and the probes of the connections sharing an event loop are spread over the interval.
+ */
+final class EchoService extends ChannelInboundHandlerAdapter implements EchoStatistics {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EchoService.class);
+    private static final int HISTOGRAM_BUCKETS = 16;
+
+    private final OvsdbClient client;
+    private final Channel channel;
+    private final EchoServiceCallbackFilters filters;
+    private final long intervalNanos;
+    private final int maxMissedEchoes;
+
+    private final LongAdder probes = new LongAdder();
+    private final LongAdder skippedProbes = new LongAdder();
+    private final LongAdder replies = new LongAdder();
+    private final LongAdder missed = new LongAdder();
+    private final AtomicLongArray rttHistogram = new AtomicLongArray(HISTOGRAM_BUCKETS);
+    private volatile long lastRttNanos;
+    private volatile long smoothedRttNanos;
+    private volatile boolean stopped;
+
+    // Only accessed from the event loop
+    private long lastReadNanos = System.nanoTime();
+    private int missedInRow;
+    private ScheduledFuture<?> nextProbe;
+
+    EchoService(OvsdbClient client, Channel channel, EchoServiceCallbackFilters filters) {
+        this.client = client;
+        this.channel = channel;
+        this.filters = filters;
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(filters.getProbeIntervalMillis());
+        this.maxMissedEchoes = filters.getMaxMissedEchoes();
+    }
+
+    void start() {
+        channel.pipeline().addFirst(this);
+        channel.eventLoop().execute(() -> scheduleProbe(intervalNanos));
+    }
+
+    void stop() {
+        stopped = true;
+        channel.eventLoop().execute(() -> {
+            if (nextProbe != null) {
+                nextProbe.cancel(false);
+            }
+            if (channel.pipeline().context(this) != null) {
+                channel.pipeline().remove(this);
+            }
+        });
+    }
+
+    /**
+     * Returns whether the service is still probing, that is it was not stopped and its channel is still active.
+     */
+    boolean isRunning() {
+        return !stopped && channel.isActive();
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        lastReadNanos = System.nanoTime();
+        ctx.fireChannelRead(msg);
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) {
+        stopped = true;
+        if (nextProbe != null) {
+            nextProbe.cancel(false);
+        }
+        ctx.fireChannelInactive();
+    }
+
+    private void scheduleProbe(long delayNanos) {
+        if (!stopped) {
+            long jitter = ThreadLocalRandom.current().nextLong(-intervalNanos / 4, intervalNanos / 4 + 1);
+            nextProbe = channel.eventLoop().schedule(this::probe, Math.max(0, delayNanos + jitter),
+                    TimeUnit.NANOSECONDS);
+        }
+    }
+
+    void probe() {
+        if (stopped || !channel.isActive()) {
+            return;
+        }
+        long now = System.nanoTime();
+        long idleNanos = now - lastReadNanos;
+        if (!channel.config().isAutoRead()) {
+            // Reads are paused, an echo reply would not be read anyway
+            scheduleProbe(intervalNanos);
+            return;
+        }
+        if (missedInRow == 0 && idleNanos < intervalNanos) {
+            skippedProbes.increment();
+            scheduleProbe(intervalNanos - idleNanos);
+            return;
+        }
+
+        probes.increment();
+        Futures.addCallback(client.echo(), new FutureCallback<List<String>>() {
+            @Override
+            public void onSuccess(List<String> result) {
+                replied(System.nanoTime() - now);
+            }
+
+            @Override
+            public void onFailure(Throwable ex) {
+                unanswered(now);
+            }
+        }, channel.eventLoop());
+    }
+
+    private void replied(long rttNanos) {
+        replies.increment();
+        lastRttNanos = rttNanos;
+        long smoothed = smoothedRttNanos;
+        smoothedRttNanos = smoothed == 0 ? rttNanos : smoothed + (rttNanos - smoothed) / 8;
+        long rttMillis = TimeUnit.NANOSECONDS.toMillis(rttNanos);
+        rttHistogram.incrementAndGet(Math.min(HISTOGRAM_BUCKETS - 1, 64 - Long.numberOfLeadingZeros(rttMillis)));
+        missedInRow = 0;
+        filters.echoReplied(rttNanos, this);
+        scheduleProbe(intervalNanos);
+    }
+
+    private void unanswered(long sentNanos) {
+        if (lastReadNanos - sentNanos > 0) {
+            // The device is busy rather than gone, it keeps sending other messages
+            missedInRow = 0;
+            scheduleProbe(intervalNanos);
+            return;
+        }
+
+        missed.increment();
+        missedInRow++;
+        filters.echoMissed(missedInRow, this);
+        if (missedInRow >= maxMissedEchoes) {
+            LOG.warn("{} missed {} echo requests in a row, disconnecting it", channel, missedInRow);
+            stop();
+            client.disconnect();
+        } else {
+            probe();
+        }
+    }
+
+    @Override
+    public long getProbes() {
+        return probes.sum();
+    }
+
+    @Override
+    public long getSkippedProbes() {
+        return skippedProbes.sum();
+    }
+
+    @Override
+    public long getReplies() {
+        return replies.sum();
+    }
+
+    @Override
+    public long getMissed() {
+        return missed.sum();
+    }
+
+    @Override
+    public long getLastRttNanos() {
+        return lastRttNanos;
+    }
+
+    @Override
+    public long getSmoothedRttNanos() {
+        return smoothedRttNanos;
+    }
+
+    @Override
+    public long[] getRttHistogram() {
+        long[] histogram = new long[HISTOGRAM_BUCKETS];
+        for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+            histogram[i] = rttHistogram.get(i);
+        }
+        return histogram;
+    }
+}
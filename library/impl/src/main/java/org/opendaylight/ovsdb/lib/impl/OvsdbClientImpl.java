@@ -8,30 +8,33 @@
 
 package org.opendaylight.ovsdb.lib.impl;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.base.Function;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.SettableFuture;
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.netty.channel.Channel;
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import org.opendaylight.ovsdb.lib.EchoServiceCallbackFilters;
+import org.opendaylight.ovsdb.lib.EchoStatistics;
 import org.opendaylight.ovsdb.lib.LockAquisitionCallback;
 import org.opendaylight.ovsdb.lib.LockStolenCallback;
 import org.opendaylight.ovsdb.lib.MonitorCallBack;
@@ -48,10 +51,12 @@ import org.opendaylight.ovsdb.lib.message.TableUpdates;
 import org.opendaylight.ovsdb.lib.message.TransactBuilder;
 import org.opendaylight.ovsdb.lib.message.UpdateNotification;
 import org.opendaylight.ovsdb.lib.notation.Row;
+import org.opendaylight.ovsdb.lib.notation.UUID;
 import org.opendaylight.ovsdb.lib.operations.Operation;
 import org.opendaylight.ovsdb.lib.operations.OperationResult;
 import org.opendaylight.ovsdb.lib.operations.TransactionBuilder;
 import org.opendaylight.ovsdb.lib.schema.DatabaseSchema;
+import org.opendaylight.ovsdb.lib.schema.DatabaseSchemaRegistry;
 import org.opendaylight.ovsdb.lib.schema.GenericTableSchema;
 import org.opendaylight.ovsdb.lib.schema.TableSchema;
 import org.opendaylight.ovsdb.lib.schema.typed.TypedBaseTable;
@@ -64,59 +69,40 @@ import org.slf4j.LoggerFactory;
 public class OvsdbClientImpl implements OvsdbClient {
 
     private static final Logger LOG = LoggerFactory.getLogger(OvsdbClientImpl.class);
-    private ExecutorService executorService;
+    private SerialCallbackExecutor executorService;
     private OvsdbRPC rpc;
     private Map<String, DatabaseSchema> schemas = new HashMap<>();
     private Map<String, CallbackContext> monitorCallbacks = new HashMap<>();
+    // Callbacks of the locks requested on this connection, by lock id
+    private final Map<String, LockCallbacks> lockCallbacks = new ConcurrentHashMap<>();
     private OvsdbRPC.Callback rpcCallback;
     private OvsdbConnectionInfo connectionInfo;
+    private volatile SchemaCache schemaCache;
+    private EchoService echoService;
     private Channel channel;
     private boolean isConnectionPublished;
+    // System.nanoTime() when reads were paused, or NOT_PAUSED
+    private long readPausedSince = NOT_PAUSED;
+    private long readPausedNanos;
     private static final int NO_TIMEOUT = -1;
+    private static final long NOT_PAUSED = Long.MIN_VALUE;
+    // last-txn-id of a monitor_cond_since request when no transaction was seen yet
+    private static final String NO_TXN_ID = "00000000-0000-0000-0000-000000000000";
 
-    private static final ThreadFactory THREAD_FACTORY_SSL =
-        new ThreadFactoryBuilder().setNameFormat("OVSDB-PassiveConnection-SSL-%d").build();
-    private static final ThreadFactory THREAD_FACTORY_NON_SSL =
-        new ThreadFactoryBuilder().setNameFormat("OVSDB-PassiveConnection-Non-SSL-%d").build();
-
+    /**
+     * Creates a client for the given channel.
+     * @param callbackPool Pool shared by all connections, on which the callbacks of this connection are run
+     *                     one at a time
+     */
     public OvsdbClientImpl(OvsdbRPC rpc, Channel channel, ConnectionType type,
-        SocketConnectionType socketConnType) {
+        SocketConnectionType socketConnType, Executor callbackPool) {
         this.rpc = rpc;
-        ThreadFactory threadFactory =
-            getThreadFactory(type, socketConnType, channel.remoteAddress().toString());
-        this.executorService = Executors.newCachedThreadPool(threadFactory);
+        this.executorService = new SerialCallbackExecutor(
+                type + "-" + socketConnType + "-" + channel.remoteAddress(), callbackPool);
         this.channel = channel;
         this.connectionInfo = new OvsdbConnectionInfo(channel, type);
     }
 
-    /**
-     * Generate the threadFactory based on ACTIVE, PASSIVE (SSL/NON-SSL) connection type.
-     * @param type ACTIVE or PASSIVE {@link ConnectionType}
-     * @param socketConnType SSL or NON-SSL {@link SocketConnectionType}
-     * @param executorNameArgs Additional args to append to thread name format
-     * @return {@link ThreadFactory}
-     */
-    private ThreadFactory getThreadFactory(ConnectionType type,
-        SocketConnectionType socketConnType, String executorNameArgs) {
-        if (type == ConnectionType.PASSIVE) {
-            switch (socketConnType) {
-                case SSL:
-                    return THREAD_FACTORY_SSL;
-                case NON_SSL:
-                    return THREAD_FACTORY_NON_SSL;
-                default:
-                    return Executors.defaultThreadFactory();
-            }
-        } else if (type == ConnectionType.ACTIVE) {
-            ThreadFactory threadFactorySSL =
-                new ThreadFactoryBuilder().setNameFormat("OVSDB-ActiveConn-" + executorNameArgs + "-%d")
-                    .build();
-            return threadFactorySSL;
-        }
-        // Default case
-        return Executors.defaultThreadFactory();
-    }
-
     OvsdbClientImpl() {
     }
 
@@ -125,27 +111,27 @@ public class OvsdbClientImpl implements OvsdbClient {
             OvsdbRPC.Callback temp = new OvsdbRPC.Callback() {
                 @Override
                 public void update(Object node, UpdateNotification updateNotification) {
-                    String key = updateNotification.getContext();
-                    CallbackContext callbackContext = monitorCallbacks.get(key);
-                    MonitorCallBack monitorCallBack = callbackContext.monitorCallBack;
-                    if (monitorCallBack == null) {
-                        //ignore ?
-                        LOG.info("callback received with context {}, but no known handler. Ignoring!", key);
-                        return;
-                    }
-                    TableUpdates updates = transformingCallback(updateNotification.getUpdates(),
-                            callbackContext.schema);
-                    monitorCallBack.update(updates, callbackContext.schema);
+                    dispatchUpdate(updateNotification, false);
                 }
 
                 @Override
-                public void locked(Object node, List<String> ids) {
+                public void update2(Object node, UpdateNotification updateNotification) {
+                    dispatchUpdate(updateNotification, true);
+                }
 
+                @Override
+                public void update3(Object node, UpdateNotification updateNotification) {
+                    dispatchUpdate(updateNotification, true);
                 }
 
                 @Override
-                public void stolen(Object node, List<String> ids) {
+                public void locked(Object node, List<String> ids) {
+                    dispatchLockEvent(ids, true);
+                }
 
+                @Override
+                public void stolen(Object node, List<String> ids) {
+                    dispatchLockEvent(ids, false);
                 }
             };
             this.rpcCallback = temp;
@@ -154,20 +140,128 @@ public class OvsdbClientImpl implements OvsdbClient {
     }
 
 
+    private void dispatchUpdate(UpdateNotification updateNotification, boolean update2) {
+        String key = updateNotification.getContext();
+        CallbackContext callbackContext = monitorCallbacks.get(key);
+        MonitorCallBack monitorCallBack = callbackContext == null ? null : callbackContext.monitorCallBack;
+        if (monitorCallBack == null) {
+            //ignore ?
+            LOG.info("callback received with context {}, but no known handler. Ignoring!", key);
+            return;
+        }
+        TableUpdates updates = update2
+                ? transformingCallback2(updateNotification.getUpdatesParser(), callbackContext,
+                        updateNotification.getLastTxnId())
+                : parseUpdates(updateNotification.getUpdatesParser(), callbackContext.schema, false, null);
+        updateNotification.setUpdate(updates);
+        monitorCallBack.update(updates, callbackContext.schema);
+    }
+
     protected TableUpdates transformingCallback(JsonNode tableUpdatesJson, DatabaseSchema dbSchema) {
-        //todo(ashwin): we should move all the JSON parsing logic to a utility class
-        if (tableUpdatesJson instanceof ObjectNode) {
-            Map<String, TableUpdate> tableUpdateMap = new HashMap<>();
-            ObjectNode updatesJson = (ObjectNode) tableUpdatesJson;
-            for (Iterator<Map.Entry<String,JsonNode>> itr = updatesJson.fields(); itr.hasNext();) {
-                Map.Entry<String, JsonNode> entry = itr.next();
+        return parseUpdates(traverse(tableUpdatesJson), dbSchema, false, null);
+    }
+
+    /**
+     * Same as {@link #transformingCallback(JsonNode, DatabaseSchema)}, for the {@code <table-updates2>} of a
+     * conditional monitor. Diffs are applied onto the rows the monitor already received, so that callbacks see
+     * complete old and new rows.
+     */
+    private TableUpdates transformingCallback2(JsonNode tableUpdatesJson, CallbackContext callbackContext) {
+        return transformingCallback2(traverse(tableUpdatesJson), callbackContext, null);
+    }
 
-                DatabaseSchema databaseSchema = this.schemas.get(dbSchema.getName());
-                TableSchema table = databaseSchema.table(entry.getKey(), TableSchema.class);
-                tableUpdateMap.put(entry.getKey(), table.updatesFromJson(entry.getValue()));
+    private TableUpdates transformingCallback2(JsonParser tableUpdates, CallbackContext callbackContext,
+            String lastTxnId) {
+        synchronized (callbackContext.rows) {
+            TableUpdates updates = parseUpdates(tableUpdates, callbackContext.schema, true, callbackContext.rows);
+            if (lastTxnId != null) {
+                callbackContext.monitorHandle.setLastTxnId(lastTxnId);
+            }
+            return updates;
+        }
+    }
+
+    /**
+     * Parses the [found, last-txn-id, table-updates2] reply of monitor_cond_since against the snapshot of the
+     * monitor handle.
+     */
+    private TableUpdates resumeMonitor(JsonNode result, CallbackContext callbackContext) {
+        if (result == null || !result.isArray() || result.size() != 3) {
+            LOG.warn("Unexpected monitor_cond_since reply {}", result);
+            return null;
+        }
+        if (result.get(0).asBoolean()) {
+            // the server replays the transactions since the last one seen, they apply onto the snapshot
+            return transformingCallback2(traverse(result.get(2)), callbackContext, result.get(1).asText());
+        }
 
+        synchronized (callbackContext.rows) {
+            // the server sends its full contents, only report how they differ from the snapshot
+            Map<String, Map<UUID, Row<?>>> previous = new HashMap<>(callbackContext.rows);
+            callbackContext.rows.clear();
+            TableUpdates updates = transformingCallback2(traverse(result.get(2)), callbackContext,
+                    result.get(1).asText());
+            if (updates != null) {
+                retainChanges(updates, previous, callbackContext.schema);
             }
-            return new TableUpdates(tableUpdateMap);
+            return updates;
+        }
+    }
+
+    /**
+     * Strips the rows identical to the previous ones from updates made of new rows only, and adds the previous
+     * rows not present anymore as deleted rows.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static void retainChanges(TableUpdates updates, Map<String, Map<UUID, Row<?>>> previous,
+            DatabaseSchema dbSchema) {
+        for (Map.Entry<String, Map<UUID, Row<?>>> table : previous.entrySet()) {
+            Map<UUID, Row<?>> previousRows = new HashMap<>(table.getValue());
+            TableUpdate tableUpdate = updates.getUpdates().get(table.getKey());
+            if (tableUpdate == null) {
+                tableUpdate = new TableUpdate<>();
+                updates.getUpdates().put(table.getKey(), tableUpdate);
+            }
+            for (Iterator<Map.Entry<UUID, TableUpdate.RowUpdate>> it =
+                    ((Map<UUID, TableUpdate.RowUpdate>) tableUpdate.getRows()).entrySet().iterator(); it.hasNext();) {
+                TableUpdate.RowUpdate rowUpdate = it.next().getValue();
+                Row<?> previousRow = previousRows.remove(rowUpdate.getUuid());
+                if (previousRow == null) {
+                    continue;
+                }
+                if (previousRow.equals(rowUpdate.getNew())) {
+                    it.remove();
+                } else {
+                    rowUpdate.setOld(previousRow);
+                }
+            }
+            for (Map.Entry<UUID, Row<?>> deleted : previousRows.entrySet()) {
+                tableUpdate.addRow(deleted.getKey(), deleted.getValue(), null);
+            }
+            if (tableUpdate.getRows().isEmpty()) {
+                updates.getUpdates().remove(table.getKey());
+            }
+        }
+        LOG.debug("Resumed monitor on {} with {} changed tables", dbSchema.getName(), updates.getUpdates().size());
+    }
+
+    private static JsonParser traverse(JsonNode tableUpdatesJson) {
+        return tableUpdatesJson instanceof ObjectNode ? tableUpdatesJson.traverse() : null;
+    }
+
+    private TableUpdates parseUpdates(JsonParser tableUpdates, DatabaseSchema dbSchema, boolean update2,
+            Map<String, Map<UUID, Row<?>>> rowCache) {
+        if (tableUpdates == null) {
+            return null;
+        }
+        DatabaseSchema databaseSchema = this.schemas.get(dbSchema.getName());
+        try (JsonParser parser = tableUpdates) {
+            if (parser.nextToken() == JsonToken.START_OBJECT) {
+                return update2 ? databaseSchema.updates2FromJson(parser, rowCache)
+                        : databaseSchema.updatesFromJson(parser);
+            }
+        } catch (IOException e) {
+            LOG.warn("Failed to parse table updates for {}", dbSchema.getName(), e);
         }
         return null;
     }
@@ -196,27 +290,7 @@ public class OvsdbClientImpl implements OvsdbClient {
                                                             List<MonitorRequest> monitorRequest,
                                                             final MonitorCallBack callback,
                                                             int timeout) {
-
-        final ImmutableMap<String, MonitorRequest> reqMap = Maps.uniqueIndex(monitorRequest,
-                MonitorRequest::getTableName);
-
-        final MonitorHandle monitorHandle = new MonitorHandle(UUID.randomUUID().toString());
-        registerCallback(monitorHandle, callback, dbSchema);
-
-        ListenableFuture<JsonNode> monitor = rpc.monitor(
-            () -> Arrays.asList(dbSchema.getName(), monitorHandle.getId(), reqMap));
-        JsonNode result;
-        try {
-            if (timeout == NO_TIMEOUT) {
-                result = monitor.get();
-            } else {
-                result = monitor.get(timeout, TimeUnit.SECONDS);
-            }
-        } catch (InterruptedException | ExecutionException | TimeoutException e) {
-            LOG.warn("Failed to monitor {}", dbSchema, e);
-            return null;
-        }
-        return transformingCallback(result, dbSchema);
+        return awaitMonitor("monitor", dbSchema, monitorAsync(dbSchema, monitorRequest, callback), timeout);
     }
 
     @Override
@@ -233,31 +307,155 @@ public class OvsdbClientImpl implements OvsdbClient {
                                                            final MonitorHandle monitorHandle,
                                                            final MonitorCallBack callback,
                                                            int timeout) {
+        return awaitMonitor("monitor", dbSchema, monitorAsync(dbSchema, monitorRequest, monitorHandle, callback),
+                timeout);
+    }
+
+    @Override
+    public ListenableFuture<TableUpdates> monitorAsync(final DatabaseSchema dbSchema,
+                                                       List<MonitorRequest> monitorRequest,
+                                                       final MonitorCallBack callback) {
+        return monitorAsync(dbSchema, monitorRequest,
+                new MonitorHandle(java.util.UUID.randomUUID().toString()), callback);
+    }
+
+    @Override
+    public ListenableFuture<TableUpdates> monitorAsync(final DatabaseSchema dbSchema,
+                                                       List<MonitorRequest> monitorRequest,
+                                                       final MonitorHandle monitorHandle,
+                                                       final MonitorCallBack callback) {
+
+        // monitor has no where member, the conditions are for monitor_cond only
+        final ImmutableMap<String, MonitorRequest> reqMap = ImmutableMap.copyOf(Maps.transformValues(
+                Maps.uniqueIndex(monitorRequest, MonitorRequest::getTableName), OvsdbClientImpl::withoutConditions));
+
+        registerCallback(monitorHandle, callback, dbSchema);
+
+        // Parse the initial contents from the event loop, so that they are handed out before any later update
+        return Futures.transform(rpc.monitor(
+            () -> Arrays.asList(dbSchema.getName(), monitorHandle.getId(), reqMap)),
+            result -> transformingCallback(result, dbSchema), MoreExecutors.directExecutor());
+    }
+
+    @Override
+    public <E extends TableSchema<E>> TableUpdates monitorCond(final DatabaseSchema dbSchema,
+                                                               List<MonitorRequest> monitorRequest,
+                                                               final MonitorHandle monitorHandle,
+                                                               final MonitorCallBack callback) {
+        return monitorCond(dbSchema, monitorRequest, monitorHandle, callback, NO_TIMEOUT);
+    }
+
+    @Override
+    public <E extends TableSchema<E>> TableUpdates monitorCond(final DatabaseSchema dbSchema,
+                                                               List<MonitorRequest> monitorRequest,
+                                                               final MonitorHandle monitorHandle,
+                                                               final MonitorCallBack callback,
+                                                               int timeout) {
+        return awaitMonitor("monitor_cond", dbSchema,
+                monitorCondAsync(dbSchema, monitorRequest, monitorHandle, callback), timeout);
+    }
+
+    @Override
+    public ListenableFuture<TableUpdates> monitorCondAsync(final DatabaseSchema dbSchema,
+                                                           List<MonitorRequest> monitorRequest,
+                                                           final MonitorHandle monitorHandle,
+                                                           final MonitorCallBack callback) {
 
         final ImmutableMap<String, MonitorRequest> reqMap = Maps.uniqueIndex(monitorRequest,
                 MonitorRequest::getTableName);
 
-        registerCallback(monitorHandle, callback, dbSchema);
+        final CallbackContext callbackContext = registerCallback(monitorHandle, callback, dbSchema);
+
+        // Seed the row cache from the event loop, before any update2 notification following the reply is parsed
+        return Futures.transform(rpc.monitor_cond(
+            () -> Arrays.asList(dbSchema.getName(), monitorHandle.getId(), reqMap)),
+            result -> transformingCallback2(result, callbackContext), MoreExecutors.directExecutor());
+    }
+
+    @Override
+    public <E extends TableSchema<E>> TableUpdates monitorCondSince(final DatabaseSchema dbSchema,
+                                                                    List<MonitorRequest> monitorRequest,
+                                                                    final MonitorHandle monitorHandle,
+                                                                    final MonitorCallBack callback) {
+        return monitorCondSince(dbSchema, monitorRequest, monitorHandle, callback, NO_TIMEOUT);
+    }
+
+    @Override
+    public <E extends TableSchema<E>> TableUpdates monitorCondSince(final DatabaseSchema dbSchema,
+                                                                    List<MonitorRequest> monitorRequest,
+                                                                    final MonitorHandle monitorHandle,
+                                                                    final MonitorCallBack callback,
+                                                                    int timeout) {
+        return awaitMonitor("monitor_cond_since", dbSchema,
+                monitorCondSinceAsync(dbSchema, monitorRequest, monitorHandle, callback), timeout);
+    }
+
+    @Override
+    public ListenableFuture<TableUpdates> monitorCondSinceAsync(final DatabaseSchema dbSchema,
+                                                                List<MonitorRequest> monitorRequest,
+                                                                final MonitorHandle monitorHandle,
+                                                                final MonitorCallBack callback) {
+
+        final ImmutableMap<String, MonitorRequest> reqMap = Maps.uniqueIndex(monitorRequest,
+                MonitorRequest::getTableName);
+        final String lastTxnId = monitorHandle.getLastTxnId() == null ? NO_TXN_ID : monitorHandle.getLastTxnId();
 
-        ListenableFuture<JsonNode> monitor = rpc.monitor(
-            () -> Arrays.asList(dbSchema.getName(), monitorHandle.getId(), reqMap));
-        JsonNode result;
+        final CallbackContext callbackContext = registerCallback(monitorHandle, callback, dbSchema,
+                monitorHandle.getSnapshot());
+
+        return Futures.transform(rpc.monitor_cond_since(
+            () -> Arrays.asList(dbSchema.getName(), monitorHandle.getId(), reqMap, lastTxnId)),
+            result -> resumeMonitor(result, callbackContext), MoreExecutors.directExecutor());
+    }
+
+    private static TableUpdates awaitMonitor(String method, DatabaseSchema dbSchema,
+            ListenableFuture<TableUpdates> monitor, int timeout) {
         try {
             if (timeout == NO_TIMEOUT) {
-                result = monitor.get();
-            } else {
-                result = monitor.get(timeout, TimeUnit.SECONDS);
+                return monitor.get();
             }
+            return monitor.get(timeout, TimeUnit.SECONDS);
         } catch (InterruptedException | ExecutionException | TimeoutException e) {
-            LOG.warn("Failed to monitor {}", dbSchema, e);
+            LOG.warn("Failed to {} {}", method, dbSchema, e);
             return null;
         }
-        return transformingCallback(result, dbSchema);
     }
 
-    private void registerCallback(MonitorHandle monitorHandle, MonitorCallBack callback, DatabaseSchema schema) {
-        this.monitorCallbacks.put(monitorHandle.getId(), new CallbackContext(callback, schema));
+    private static MonitorRequest withoutConditions(MonitorRequest request) {
+        if (request.getWhere() == null) {
+            return request;
+        }
+        MonitorRequest plain = new MonitorRequest(request.getTableName(), request.getColumns());
+        plain.setSelect(request.getSelect());
+        return plain;
+    }
+
+    @Override
+    public ListenableFuture<JsonNode> monitorCondChange(final MonitorHandle monitorHandle,
+                                                        List<MonitorRequest> monitorRequest) {
+        final Map<String, MonitorRequest> reqMap = new HashMap<>();
+        for (MonitorRequest request : monitorRequest) {
+            // monitor_cond_change only accepts the columns and where members, send the conditions alone
+            MonitorRequest change = new MonitorRequest(request.getTableName());
+            change.setWhere(request.getWhere() == null
+                    ? Collections.singletonList(Boolean.TRUE) : request.getWhere());
+            reqMap.put(request.getTableName(), change);
+        }
+        return rpc.monitor_cond_change(
+            () -> Arrays.asList(monitorHandle.getId(), monitorHandle.getId(), reqMap));
+    }
+
+    private CallbackContext registerCallback(MonitorHandle monitorHandle, MonitorCallBack callback,
+            DatabaseSchema schema) {
+        return registerCallback(monitorHandle, callback, schema, new HashMap<>());
+    }
+
+    private CallbackContext registerCallback(MonitorHandle monitorHandle, MonitorCallBack callback,
+            DatabaseSchema schema, Map<String, Map<UUID, Row<?>>> rows) {
+        CallbackContext callbackContext = new CallbackContext(monitorHandle, callback, schema, rows);
+        this.monitorCallbacks.put(monitorHandle.getId(), callbackContext);
         setupUpdateListener();
+        return callbackContext;
     }
 
     @Override
@@ -294,27 +492,92 @@ public class OvsdbClientImpl implements OvsdbClient {
 
     @Override
     public void lock(String lockId, LockAquisitionCallback lockedCallBack, LockStolenCallback stolenCallback) {
-        throw new UnsupportedOperationException("not yet implemented");
+        lockCallbacks.put(lockId, new LockCallbacks(lockedCallBack, stolenCallback));
+        setupUpdateListener();
+
+        Futures.addCallback(rpc.lock(Collections.singletonList(lockId)), new FutureCallback<JsonNode>() {
+            @Override
+            public void onSuccess(JsonNode result) {
+                if (isLocked(result)) {
+                    notifyLockAcquired(lockId);
+                } else {
+                    LOG.debug("Lock {} is held by another client of {}, waiting for it", lockId, connectionInfo);
+                }
+            }
+
+            @Override
+            public void onFailure(Throwable throwable) {
+                LOG.warn("Failed to request lock {} on {}", lockId, connectionInfo, throwable);
+            }
+        }, executorService);
     }
 
     @Override
     public ListenableFuture<Boolean> steal(String lockId) {
-        throw new UnsupportedOperationException("not yet implemented");
+        setupUpdateListener();
+        return Futures.transform(rpc.steal(Collections.singletonList(lockId)), OvsdbClientImpl::isLocked,
+                MoreExecutors.directExecutor());
     }
 
     @Override
     public ListenableFuture<Boolean> unLock(String lockId) {
-        throw new UnsupportedOperationException("not yet implemented");
+        lockCallbacks.remove(lockId);
+        // The reply to unlock is an empty object, or null along with an error
+        return Futures.transform(rpc.unlock(Collections.singletonList(lockId)),
+            result -> result != null && !result.isNull(), MoreExecutors.directExecutor());
+    }
+
+    private static boolean isLocked(JsonNode result) {
+        return result != null && result.path("locked").asBoolean(false);
+    }
+
+    private void dispatchLockEvent(List<String> lockIds, boolean locked) {
+        // Run the callbacks in order with the replies to lock requests, off the event loop
+        executorService.execute(() -> {
+            for (String lockId : lockIds) {
+                if (locked) {
+                    notifyLockAcquired(lockId);
+                } else {
+                    LockCallbacks callbacks = lockCallbacks.get(lockId);
+                    LOG.info("Lock {} was stolen on {}", lockId, connectionInfo);
+                    if (callbacks != null && callbacks.stolenCallback != null) {
+                        callbacks.stolenCallback.lockStolen();
+                    }
+                }
+            }
+        });
+    }
+
+    private void notifyLockAcquired(String lockId) {
+        LockCallbacks callbacks = lockCallbacks.get(lockId);
+        LOG.debug("Lock {} acquired on {}", lockId, connectionInfo);
+        if (callbacks != null && callbacks.lockedCallback != null) {
+            callbacks.lockedCallback.lockAcquired();
+        }
     }
 
     @Override
-    public void startEchoService(EchoServiceCallbackFilters callbackFilters) {
-        throw new UnsupportedOperationException("not yet implemented");
+    public synchronized void startEchoService(EchoServiceCallbackFilters callbackFilters) {
+        stopEchoService();
+        echoService = new EchoService(this, channel, callbackFilters);
+        echoService.start();
     }
 
     @Override
-    public void stopEchoService() {
-        throw new UnsupportedOperationException("not yet implemented");
+    public synchronized void stopEchoService() {
+        if (echoService != null) {
+            echoService.stop();
+            echoService = null;
+        }
+    }
+
+    @Override
+    public synchronized EchoStatistics getEchoStatistics() {
+        if (echoService != null && !echoService.isRunning()) {
+            // stopped after too many missed echoes, or its channel closed
+            echoService = null;
+        }
+        return echoService;
     }
 
     @Override
@@ -344,13 +607,23 @@ public class OvsdbClientImpl implements OvsdbClient {
 
         DatabaseSchema databaseSchema = schemas.get(database);
 
+        if (databaseSchema == null && schemaCache != null) {
+            databaseSchema = schemaCache.get(getSchemaCacheNode(), database);
+            if (databaseSchema != null) {
+                LOG.debug("Using cached schema {} for {}", database, getSchemaCacheNode());
+                schemas.put(database, databaseSchema);
+                verifyCachedSchema(database);
+                return Futures.immediateFuture(databaseSchema);
+            }
+        }
+
         if (databaseSchema == null) {
             return Futures.transform(
                 getSchemaFromDevice(Collections.singletonList(database)),
                 (Function<Map<String, DatabaseSchema>, DatabaseSchema>) result -> {
                     if (result.containsKey(database)) {
+                        // shared through the registry, with its internally generated columns already populated
                         DatabaseSchema dbSchema = result.get(database);
-                        dbSchema.populateInternallyGeneratedColumns();
                         OvsdbClientImpl.this.schemas.put(database, dbSchema);
                         return dbSchema;
                     } else {
@@ -362,6 +635,46 @@ public class OvsdbClientImpl implements OvsdbClient {
         }
     }
 
+    /**
+     * Checks the version and checksum of a schema taken from the schema cache against the ones the device reports.
+     * If they differ, the schema of the device is cached and the connection is closed: monitors and transact
+     * invokers built on the cached schema would keep misparsing, the next connection starts over with the schema
+     * of the device.
+     */
+    private void verifyCachedSchema(final String database) {
+        Futures.addCallback(rpc.get_schema(Collections.singletonList(database)), new FutureCallback<JsonNode>() {
+            @Override
+            public void onSuccess(JsonNode result) {
+                if (!schemaCache.isCurrent(getSchemaCacheNode(), database, result)) {
+                    LOG.warn("Cached schema {} of {} is outdated, disconnecting to use version {} reported by the"
+                            + " device", database, getSchemaCacheNode(), result.path("version").asText());
+                    schemaCache.put(getSchemaCacheNode(), database, result);
+                    disconnect();
+                }
+            }
+
+            @Override
+            public void onFailure(Throwable throwable) {
+                LOG.debug("Failed to verify the cached schema {} of {}", database, getSchemaCacheNode(), throwable);
+            }
+        }, executorService);
+    }
+
+    /**
+     * Returns the key of the device in the schema cache. Active connections are keyed by server address and port;
+     * passive ones come from an ephemeral port and are keyed by address only, relying on the verification of the
+     * cached schema.
+     */
+    private String getSchemaCacheNode() {
+        String address = connectionInfo.getRemoteAddress().getHostAddress();
+        return connectionInfo.getType() == ConnectionType.ACTIVE ? address + ":" + connectionInfo.getRemotePort()
+                : address;
+    }
+
+    void setSchemaCache(SchemaCache schemaCache) {
+        this.schemaCache = schemaCache;
+    }
+
     private ListenableFuture<Map<String, DatabaseSchema>> getSchemaFromDevice(final List<String> dbNames) {
         Map<String, DatabaseSchema> schema = new HashMap<>();
         SettableFuture<Map<String, DatabaseSchema>> future = SettableFuture.create();
@@ -380,7 +693,10 @@ public class OvsdbClientImpl implements OvsdbClient {
         Futures.transform(rpc.get_schema(Collections.singletonList(dbNames.get(0))),
             (Function<JsonNode, Void>) jsonNode -> {
                 try {
-                    schema.put(dbNames.get(0), DatabaseSchema.fromJson(dbNames.get(0), jsonNode));
+                    schema.put(dbNames.get(0), DatabaseSchemaRegistry.getDatabaseSchema(dbNames.get(0), jsonNode));
+                    if (schemaCache != null) {
+                        schemaCache.put(getSchemaCacheNode(), dbNames.get(0), jsonNode);
+                    }
                     if (schema.size() > 1 && !sfuture.isCancelled()) {
                         populateSchema(dbNames.subList(1, dbNames.size()), schema, sfuture);
                     } else if (schema.size() == 1) {
@@ -391,7 +707,7 @@ public class OvsdbClientImpl implements OvsdbClient {
                     sfuture.setException(e);
                 }
                 return null;
-            });
+            }, executorService);
     }
 
     public void setRpc(OvsdbRPC rpc) {
@@ -401,10 +717,26 @@ public class OvsdbClientImpl implements OvsdbClient {
     static class CallbackContext {
         MonitorCallBack monitorCallBack;
         DatabaseSchema schema;
+        final MonitorHandle monitorHandle;
+        // Rows received on a conditional monitor, by table and UUID, which update2 diffs apply to
+        final Map<String, Map<UUID, Row<?>>> rows;
 
-        CallbackContext(MonitorCallBack monitorCallBack, DatabaseSchema schema) {
+        CallbackContext(MonitorHandle monitorHandle, MonitorCallBack monitorCallBack, DatabaseSchema schema,
+                Map<String, Map<UUID, Row<?>>> rows) {
+            this.monitorHandle = monitorHandle;
             this.monitorCallBack = monitorCallBack;
             this.schema = schema;
+            this.rows = rows;
+        }
+    }
+
+    private static final class LockCallbacks {
+        final LockAquisitionCallback lockedCallback;
+        final LockStolenCallback stolenCallback;
+
+        LockCallbacks(LockAquisitionCallback lockedCallback, LockStolenCallback stolenCallback) {
+            this.lockedCallback = lockedCallback;
+            this.stolenCallback = stolenCallback;
         }
     }
 
@@ -475,6 +807,13 @@ public class OvsdbClientImpl implements OvsdbClient {
         return connectionInfo;
     }
 
+    /**
+     * Returns the executor running the callbacks of this connection, exposing its queue metrics.
+     */
+    public SerialCallbackExecutor getCallbackExecutor() {
+        return executorService;
+    }
+
     @Override
     public boolean isActive() {
         return channel.isActive();
@@ -486,6 +825,34 @@ public class OvsdbClientImpl implements OvsdbClient {
         executorService.shutdown();
     }
 
+    @Override
+    public synchronized void pauseReads() {
+        if (readPausedSince == NOT_PAUSED) {
+            readPausedSince = System.nanoTime();
+            channel.config().setAutoRead(false);
+            LOG.debug("Paused reads from {}", connectionInfo);
+        }
+    }
+
+    @Override
+    public synchronized void resumeReads() {
+        if (readPausedSince != NOT_PAUSED) {
+            readPausedNanos += System.nanoTime() - readPausedSince;
+            readPausedSince = NOT_PAUSED;
+            channel.config().setAutoRead(true);
+            LOG.debug("Resumed reads from {}", connectionInfo);
+        }
+    }
+
+    @Override
+    public synchronized long getReadPausedMillis() {
+        long paused = readPausedNanos;
+        if (readPausedSince != NOT_PAUSED) {
+            paused += System.nanoTime() - readPausedSince;
+        }
+        return TimeUnit.NANOSECONDS.toMillis(paused);
+    }
+
     @Override
     public boolean isConnectionPublished() {
         return isConnectionPublished;
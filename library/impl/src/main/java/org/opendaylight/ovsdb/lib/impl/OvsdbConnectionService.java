@@ -17,24 +17,37 @@ import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.UnpooledByteBufAllocator;
 import io.netty.channel.AdaptiveRecvByteBufAllocator;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.group.ChannelGroup;
+import io.netty.channel.group.DefaultChannelGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
-import io.netty.handler.codec.string.StringEncoder;
+import io.netty.handler.flush.FlushConsolidationHandler;
 import io.netty.handler.logging.LogLevel;
 import io.netty.handler.logging.LoggingHandler;
 import io.netty.handler.ssl.SslHandler;
 import io.netty.handler.timeout.IdleStateHandler;
-import io.netty.handler.timeout.ReadTimeoutHandler;
-import io.netty.util.CharsetUtil;
+import io.netty.util.concurrent.GlobalEventExecutor;
+import java.io.IOException;
 import java.net.InetAddress;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -45,19 +58,24 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLEngine;
-import javax.net.ssl.SSLEngineResult.HandshakeStatus;
+import javax.net.ssl.SSLParameters;
 import javax.net.ssl.SSLPeerUnverifiedException;
 import org.apache.aries.blueprint.annotation.service.Reference;
 import org.apache.aries.blueprint.annotation.service.Service;
 import org.opendaylight.aaa.cert.api.ICertificateManager;
+import org.opendaylight.ovsdb.lib.EchoServiceCallbackFilters;
+import org.opendaylight.ovsdb.lib.EchoStatistics;
 import org.opendaylight.ovsdb.lib.OvsdbClient;
 import org.opendaylight.ovsdb.lib.OvsdbConnection;
 import org.opendaylight.ovsdb.lib.OvsdbConnectionInfo.ConnectionType;
@@ -65,8 +83,11 @@ import org.opendaylight.ovsdb.lib.OvsdbConnectionInfo.SocketConnectionType;
 import org.opendaylight.ovsdb.lib.OvsdbConnectionListener;
 import org.opendaylight.ovsdb.lib.jsonrpc.ExceptionHandler;
 import org.opendaylight.ovsdb.lib.jsonrpc.JsonRpcDecoder;
+import org.opendaylight.ovsdb.lib.jsonrpc.JsonRpcEncoder;
 import org.opendaylight.ovsdb.lib.jsonrpc.JsonRpcEndpoint;
 import org.opendaylight.ovsdb.lib.jsonrpc.JsonRpcServiceBinderHandler;
+import org.opendaylight.ovsdb.lib.jsonrpc.JsonRpcStreamingDecoder;
+import org.opendaylight.ovsdb.lib.jsonrpc.PausableReadTimeoutHandler;
 import org.opendaylight.ovsdb.lib.message.OvsdbRPC;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -95,7 +116,10 @@ public class OvsdbConnectionService implements AutoCloseable, OvsdbConnection {
     private static final int READ_TIMEOUT = 180;
     private static final String OVSDB_RPC_TASK_TIMEOUT_PARAM = "ovsdb-rpc-task-timeout";
     private static final String USE_SSL = "use-ssl";
-    private static final int RETRY_PERIOD = 100; // retry after 100 milliseconds
+    private static final String ALLOCATOR_POOLED_DIRECT = "pooled-direct";
+    private static final String ALLOCATOR_POOLED_HEAP = "pooled-heap";
+    private static final String ALLOCATOR_UNPOOLED = "unpooled";
+    private static final int DEFAULT_CALLBACK_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
 
     private static final ScheduledExecutorService EXECUTOR_SERVICE = Executors.newScheduledThreadPool(10,
             new ThreadFactoryBuilder().setNameFormat("OVSDBPassiveConnServ-%d").build());
@@ -109,13 +133,48 @@ public class OvsdbConnectionService implements AutoCloseable, OvsdbConnection {
                 return null;
             });
 
+    /*
+     * Runs the callbacks of all clients, each client using at most one thread at a time. The queue only
+     * holds one task per client with pending callbacks, when full the submitting thread runs them.
+     */
+    private static final int CALLBACK_QUEUE_CAPACITY = 4096;
+    private static final ThreadPoolExecutor CALLBACK_POOL = new ThreadPoolExecutor(
+            DEFAULT_CALLBACK_THREADS, DEFAULT_CALLBACK_THREADS, 60, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(CALLBACK_QUEUE_CAPACITY),
+            new ThreadFactoryBuilder().setNameFormat("OVSDB-Callback-%d").setDaemon(true).build());
+
+    static {
+        CALLBACK_POOL.allowCoreThreadTimeOut(true);
+    }
+
+    private static final JsonRpcEncoder JSON_RPC_ENCODER = new JsonRpcEncoder();
+    // Max number of flushes held back before an explicit flush, same as the netty default
+    private static final int FLUSH_CONSOLIDATION_LIMIT = 256;
+
     private static final Set<OvsdbConnectionListener> CONNECTION_LISTENERS = ConcurrentHashMap.newKeySet();
     private static final Map<OvsdbClient, Channel> CONNECTIONS = new ConcurrentHashMap<>();
+    // Schemas of previously connected nodes, null when the schema cache is disabled
+    private static final AtomicReference<SchemaCache> SCHEMA_CACHE = new AtomicReference<>();
+    // Echo service settings of new connections, null when the echo service is disabled
+    private static final AtomicReference<EchoServiceCallbackFilters> ECHO_FILTERS = new AtomicReference<>();
 
     private volatile boolean useSSL = false;
     private final ICertificateManager certManagerSrv;
 
     private volatile int jsonRpcDecoderMaxFrameLength = 100000;
+    private volatile boolean jsonRpcDecoderStreaming = false;
+    private volatile boolean jsonRpcFlushConsolidation = false;
+    private volatile int eventLoopThreads = 0;
+    private volatile int eventLoopIoRatio = 50;
+    private volatile boolean useEpoll = false;
+    private volatile String channelAllocator = ALLOCATOR_POOLED_DIRECT;
+    private volatile long echoInterval = 0;
+    private volatile int echoMaxMissed = 3;
+
+    // Event loops shared by all active and passive connections, created on first use
+    private EventLoopGroup eventLoopGroup;
+    private boolean epollTransport;
+    private ByteBufAllocator byteBufAllocator;
     private volatile Channel serverChannel;
 
     private final AtomicBoolean singletonCreated = new AtomicBoolean(false);
@@ -151,8 +210,9 @@ public class OvsdbConnectionService implements AutoCloseable, OvsdbConnection {
                                final ICertificateManager certificateManagerSrv) {
         try {
             Bootstrap bootstrap = new Bootstrap();
-            bootstrap.group(new NioEventLoopGroup());
-            bootstrap.channel(NioSocketChannel.class);
+            bootstrap.group(getEventLoopGroup());
+            bootstrap.channel(socketChannelClass());
+            bootstrap.option(ChannelOption.ALLOCATOR, byteBufAllocator);
             bootstrap.option(ChannelOption.TCP_NODELAY, true);
             bootstrap.option(ChannelOption.RCVBUF_ALLOCATOR, new AdaptiveRecvByteBufAllocator(65535, 65535, 65535));
 
@@ -167,12 +227,13 @@ public class OvsdbConnectionService implements AutoCloseable, OvsdbConnection {
                         engine.setUseClientMode(true);
                         channel.pipeline().addLast("ssl", new SslHandler(engine));
                     }
+                    addFlushConsolidationHandler(channel);
                     channel.pipeline().addLast(
                             //new LoggingHandler(LogLevel.INFO),
-                            new JsonRpcDecoder(jsonRpcDecoderMaxFrameLength),
-                            new StringEncoder(CharsetUtil.UTF_8),
+                            newJsonRpcDecoder(),
+                            JSON_RPC_ENCODER,
                             new IdleStateHandler(IDLE_READER_TIMEOUT, 0, 0),
-                            new ReadTimeoutHandler(READ_TIMEOUT),
+                            new PausableReadTimeoutHandler(READ_TIMEOUT),
                             new ExceptionHandler(OvsdbConnectionService.this));
                 }
             });
@@ -190,6 +251,39 @@ public class OvsdbConnectionService implements AutoCloseable, OvsdbConnection {
         return null;
     }
 
+    /*
+     * Parameters of the engine of a passive connection. They are built for each engine from its defaults, the
+     * SSL context of the certificate manager is shared and left untouched.
+     */
+    private static SSLParameters passiveSslParameters(SSLEngine engine, String[] protocols, String[] cipherSuites) {
+        SSLParameters parameters = engine.getSSLParameters();
+        parameters.setNeedClientAuth(true); // need client authentication
+        if (protocols != null && protocols.length > 0) {
+            parameters.setProtocols(protocols);
+        }
+        if (cipherSuites != null && cipherSuites.length > 0) {
+            parameters.setCipherSuites(cipherSuites);
+        }
+        return parameters;
+    }
+
+    private ChannelHandler newJsonRpcDecoder() {
+        if (jsonRpcDecoderStreaming) {
+            return new JsonRpcStreamingDecoder(jsonRpcDecoderMaxFrameLength);
+        }
+        return new JsonRpcDecoder(jsonRpcDecoderMaxFrameLength);
+    }
+
+    private void addFlushConsolidationHandler(Channel channel) {
+        if (jsonRpcFlushConsolidation) {
+            /*
+             * Flushes issued while a read is in progress are deferred to the end of the read, other
+             * flushes are coalesced into one per event loop run, bounded by the default flush count.
+             */
+            channel.pipeline().addLast(new FlushConsolidationHandler(FLUSH_CONSOLIDATION_LIMIT, true));
+        }
+    }
+
     @Override
     public void disconnect(OvsdbClient client) {
         if (client == null) {
@@ -238,7 +332,12 @@ public class OvsdbConnectionService implements AutoCloseable, OvsdbConnection {
         channel.pipeline().addLast(binderHandler);
 
         OvsdbRPC rpc = factory.getClient(channel, OvsdbRPC.class);
-        OvsdbClientImpl client = new OvsdbClientImpl(rpc, channel, type, socketConnType);
+        OvsdbClientImpl client = new OvsdbClientImpl(rpc, channel, type, socketConnType, CALLBACK_POOL);
+        client.setSchemaCache(SCHEMA_CACHE.get());
+        EchoServiceCallbackFilters echoFilters = ECHO_FILTERS.get();
+        if (echoFilters != null) {
+            client.startEchoService(echoFilters);
+        }
         client.setConnectionPublished(true);
         CONNECTIONS.put(client, channel);
         ChannelFuture closeFuture = channel.closeFuture();
@@ -323,46 +422,39 @@ public class OvsdbConnectionService implements AutoCloseable, OvsdbConnection {
     @SuppressWarnings("checkstyle:IllegalCatch")
     private void ovsdbManagerWithSsl(String ip, int port, final ICertificateManager certificateManagerSrv,
                                             final String[] protocols, final String[] cipherSuites) {
-        EventLoopGroup bossGroup = new NioEventLoopGroup();
-        EventLoopGroup workerGroup = new NioEventLoopGroup();
+        // Connections accepted by this listener, closed along with it
+        final ChannelGroup acceptedChannels = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE);
         try {
             ServerBootstrap serverBootstrap = new ServerBootstrap();
-            serverBootstrap.group(bossGroup, workerGroup)
-                    .channel(NioServerSocketChannel.class)
+            serverBootstrap.group(getEventLoopGroup())
+                    .channel(serverChannelClass())
+                    .childOption(ChannelOption.ALLOCATOR, byteBufAllocator)
                     .option(ChannelOption.SO_BACKLOG, 100)
                     .handler(new LoggingHandler(LogLevel.INFO))
                     .childHandler(new ChannelInitializer<SocketChannel>() {
                         @Override
                         public void initChannel(SocketChannel channel) throws Exception {
                             LOG.debug("New Passive channel created : {}", channel);
+                            acceptedChannels.add(channel);
                             if (certificateManagerSrv != null && certificateManagerSrv.getServerContext() != null) {
                                 /* Add SSL handler first if SSL context is provided */
-                                SSLContext sslContext = certificateManagerSrv.getServerContext();
-                                SSLEngine engine = sslContext.createSSLEngine();
+                                SSLEngine engine = certificateManagerSrv.getServerContext().createSSLEngine();
                                 engine.setUseClientMode(false); // work in a server mode
-                                engine.setNeedClientAuth(true); // need client authentication
-                                if (protocols != null && protocols.length > 0) {
-                                    //Set supported protocols
-                                    engine.setEnabledProtocols(protocols);
-                                    LOG.debug("Supported ssl protocols {}",
-                                            Arrays.toString(engine.getSupportedProtocols()));
-                                    LOG.debug("Enabled ssl protocols {}",
-                                            Arrays.toString(engine.getEnabledProtocols()));
-                                }
-                                if (cipherSuites != null && cipherSuites.length > 0) {
-                                    //Set supported cipher suites
-                                    engine.setEnabledCipherSuites(cipherSuites);
-                                    LOG.debug("Enabled cipher suites {}",
+                                engine.setSSLParameters(passiveSslParameters(engine, protocols, cipherSuites));
+                                if (LOG.isDebugEnabled()) {
+                                    LOG.debug("Enabled ssl protocols {}, enabled cipher suites {}",
+                                            Arrays.toString(engine.getEnabledProtocols()),
                                             Arrays.toString(engine.getEnabledCipherSuites()));
                                 }
                                 channel.pipeline().addLast("ssl", new SslHandler(engine));
                             }
 
+                            addFlushConsolidationHandler(channel);
                             channel.pipeline().addLast(
-                                 new JsonRpcDecoder(jsonRpcDecoderMaxFrameLength),
-                                 new StringEncoder(CharsetUtil.UTF_8),
+                                 newJsonRpcDecoder(),
+                                 JSON_RPC_ENCODER,
                                  new IdleStateHandler(IDLE_READER_TIMEOUT, 0, 0),
-                                 new ReadTimeoutHandler(READ_TIMEOUT),
+                                 new PausableReadTimeoutHandler(READ_TIMEOUT),
                                  new ExceptionHandler(OvsdbConnectionService.this));
 
                             handleNewPassiveConnection(channel);
@@ -384,12 +476,59 @@ public class OvsdbConnectionService implements AutoCloseable, OvsdbConnection {
             LOG.error("Error while binding to address {}, port {}", ip, port, throwable);
             throw throwable;
         } finally {
-            // Shut down all event loops to terminate all threads.
-            bossGroup.shutdownGracefully();
-            workerGroup.shutdownGracefully();
+            // The event loops are shared, only drop the connections of this listener
+            acceptedChannels.close();
         }
     }
 
+    private synchronized EventLoopGroup getEventLoopGroup() {
+        if (eventLoopGroup == null) {
+            epollTransport = useEpoll && Epoll.isAvailable();
+            if (useEpoll && !epollTransport) {
+                LOG.warn("Native epoll transport is not available, falling back to NIO",
+                        Epoll.unavailabilityCause());
+            }
+            if (epollTransport) {
+                EpollEventLoopGroup group = new EpollEventLoopGroup(eventLoopThreads,
+                        new ThreadFactoryBuilder().setNameFormat("OVSDB-Epoll-EventLoop-%d").build());
+                group.setIoRatio(eventLoopIoRatio);
+                eventLoopGroup = group;
+            } else {
+                NioEventLoopGroup group = new NioEventLoopGroup(eventLoopThreads,
+                        new ThreadFactoryBuilder().setNameFormat("OVSDB-Nio-EventLoop-%d").build());
+                group.setIoRatio(eventLoopIoRatio);
+                eventLoopGroup = group;
+            }
+            byteBufAllocator = newByteBufAllocator();
+            LOG.info("Created shared {} event loop group with {} threads, io ratio {}, {} allocator",
+                    epollTransport ? "epoll" : "NIO", eventLoopThreads == 0 ? "default number of" : eventLoopThreads,
+                    eventLoopIoRatio, channelAllocator);
+        }
+        return eventLoopGroup;
+    }
+
+    private ByteBufAllocator newByteBufAllocator() {
+        switch (channelAllocator) {
+            case ALLOCATOR_POOLED_HEAP:
+                return new PooledByteBufAllocator(false);
+            case ALLOCATOR_UNPOOLED:
+                return new UnpooledByteBufAllocator(true);
+            case ALLOCATOR_POOLED_DIRECT:
+                return new PooledByteBufAllocator(true);
+            default:
+                LOG.warn("Unknown channel allocator {}, using {}", channelAllocator, ALLOCATOR_POOLED_DIRECT);
+                return new PooledByteBufAllocator(true);
+        }
+    }
+
+    private synchronized Class<? extends SocketChannel> socketChannelClass() {
+        return epollTransport ? EpollSocketChannel.class : NioSocketChannel.class;
+    }
+
+    private synchronized Class<? extends ServerChannel> serverChannelClass() {
+        return epollTransport ? EpollServerSocketChannel.class : NioServerSocketChannel.class;
+    }
+
     private static void handleNewPassiveConnection(OvsdbClient client) {
         ListenableFuture<List<String>> echoFuture = client.echo();
         LOG.debug("Send echo message to probe the OVSDB switch {}",client.getConnectionInfo());
@@ -420,83 +559,30 @@ public class OvsdbConnectionService implements AutoCloseable, OvsdbConnection {
         }
         SslHandler sslHandler = (SslHandler) channel.pipeline().get("ssl");
         if (sslHandler != null) {
-            class HandleNewPassiveSslRunner implements Runnable {
-                private int retryTimes = 3;
-
-                private void retry() {
-                    if (retryTimes > 0) {
-                        EXECUTOR_SERVICE.schedule(this,  RETRY_PERIOD, TimeUnit.MILLISECONDS);
-                    } else {
-                        LOG.debug("channel closed {}", channel);
-                        channel.disconnect();
-                    }
-                    retryTimes--;
+            sslHandler.handshakeFuture().addListener(handshake -> {
+                if (!handshake.isSuccess()) {
+                    /*
+                     * Also happens when a client connects for the first time in a two-way handshake: it
+                     * disconnects after obtaining the controller certificate, and reconnects with it.
+                     */
+                    LOG.info("Ssl handshake failed on channel {}", channel, handshake.cause());
+                    channel.disconnect();
+                    return;
                 }
-
-                @Override
-                public void run() {
-                    HandshakeStatus status = sslHandler.engine().getHandshakeStatus();
-                    LOG.debug("Handshake status {}", status);
-                    switch (status) {
-                        case FINISHED:
-                        case NOT_HANDSHAKING:
-                            if (sslHandler.engine().getSession().getCipherSuite()
-                                    .equals("SSL_NULL_WITH_NULL_NULL")) {
-                                // Not begin handshake yet. Retry later.
-                                LOG.debug("handshake not begin yet {}", status);
-                                retry();
-                            } else {
-                              //Check if peer is trusted before notifying listeners
-                                try {
-                                    sslHandler.engine().getSession().getPeerCertificates();
-                                    //Handshake done. Notify listener.
-                                    OvsdbClient client = getChannelClient(channel, ConnectionType.PASSIVE,
-                                        SocketConnectionType.SSL);
-                                    handleNewPassiveConnection(client);
-                                } catch (SSLPeerUnverifiedException e) {
-                                    //Trust manager is still checking peer certificate. Retry later
-                                    LOG.debug("Peer certifiacte is not verified yet {}", status);
-                                    retry();
-                                }
-                            }
-                            break;
-
-                        case NEED_UNWRAP:
-                        case NEED_TASK:
-                            //Handshake still ongoing. Retry later.
-                            LOG.debug("handshake not done yet {}", status);
-                            retry();
-                            break;
-
-                        case NEED_WRAP:
-                            if (sslHandler.engine().getSession().getCipherSuite()
-                                    .equals("SSL_NULL_WITH_NULL_NULL")) {
-                                /* peer not authenticated. No need to notify listener in this case. */
-                                LOG.error("Ssl handshake fail. channel {}", channel);
-                                channel.disconnect();
-                            } else {
-                                /*
-                                 * peer is authenticated. Give some time to wait for completion.
-                                 * If status is still NEED_WRAP, client might already disconnect.
-                                 * This happens when the first time client connects to controller in two-way handshake.
-                                 * After obtaining controller certificate, client will disconnect and start
-                                 * new connection with controller certificate it obtained.
-                                 * In this case no need to do anything for the first connection attempt. Just skip
-                                 * since client will reconnect later.
-                                 */
-                                LOG.debug("handshake not done yet {}", status);
-                                retry();
-                            }
-                            break;
-
-                        default:
-                            LOG.error("unknown hadshake status {}", status);
-                    }
+                // Check that the peer is trusted before notifying listeners
+                try {
+                    sslHandler.engine().getSession().getPeerCertificates();
+                } catch (SSLPeerUnverifiedException e) {
+                    LOG.error("Ssl peer not authenticated, channel {}", channel, e);
+                    channel.disconnect();
+                    return;
                 }
-            }
-
-            EXECUTOR_SERVICE.schedule(new HandleNewPassiveSslRunner(),
-                    RETRY_PERIOD, TimeUnit.MILLISECONDS);
+                EXECUTOR_SERVICE.execute(() -> {
+                    OvsdbClient client = getChannelClient(channel, ConnectionType.PASSIVE,
+                        SocketConnectionType.SSL);
+                    handleNewPassiveConnection(client);
+                });
+            });
         } else {
             EXECUTOR_SERVICE.execute(() -> {
                 OvsdbClient client = getChannelClient(channel, ConnectionType.PASSIVE,
@@ -526,6 +612,12 @@ public class OvsdbConnectionService implements AutoCloseable, OvsdbConnection {
     public void close() throws Exception {
         LOG.info("OvsdbConnectionService closed");
         JsonRpcEndpoint.close();
+        synchronized (this) {
+            if (eventLoopGroup != null) {
+                eventLoopGroup.shutdownGracefully();
+                eventLoopGroup = null;
+            }
+        }
     }
 
     @Override
@@ -588,6 +680,175 @@ public class OvsdbConnectionService implements AutoCloseable, OvsdbConnection {
         LOG.info("Json Rpc Decoder Max Frame Length set to : {}", jsonRpcDecoderMaxFrameLength);
     }
 
+    /**
+     * Blueprint property setter method. Blueprint call this method and set the value of json rpc decoder
+     * streaming mode to the value configured for config option (json-rpc-decoder-streaming) in the
+     * configuration file. In streaming mode, frames are detected and parsed in a single pass by a
+     * non-blocking parser. This option is only configured at the boot time of the controller.
+     * @param streaming true to use {@link JsonRpcStreamingDecoder} (default : false)
+     */
+    public void setJsonRpcDecoderStreaming(boolean streaming) {
+        jsonRpcDecoderStreaming = streaming;
+        LOG.info("Json Rpc Decoder streaming mode set to : {}", jsonRpcDecoderStreaming);
+    }
+
+    /**
+     * Blueprint property setter method. Blueprint call this method and set the value of json rpc flush
+     * consolidation to the value configured for config option (json-rpc-flush-consolidation) in the
+     * configuration file. When enabled, flushes of outbound JSON-RPC messages are coalesced so bursts of
+     * requests and replies leave in fewer writes. This option is only configured at the boot time of the
+     * controller.
+     * @param consolidation true to add a {@link FlushConsolidationHandler} to the pipeline (default : false)
+     */
+    public void setJsonRpcFlushConsolidation(boolean consolidation) {
+        jsonRpcFlushConsolidation = consolidation;
+        LOG.info("Json Rpc flush consolidation set to : {}", jsonRpcFlushConsolidation);
+    }
+
+    /**
+     * Blueprint property setter method. Blueprint call this method and set the number of threads of the event
+     * loop group shared by all OVSDB connections to the value configured for config option
+     * (ovsdb-event-loop-threads) in the configuration file. This option is only configured at the boot time of
+     * the controller.
+     * @param threads Number of event loop threads, 0 for twice the number of cores (default : 0)
+     */
+    public void setOvsdbEventLoopThreads(int threads) {
+        eventLoopThreads = threads;
+        LOG.info("OVSDB event loop threads set to : {}", eventLoopThreads);
+    }
+
+    /**
+     * Blueprint property setter method. Blueprint call this method and set the share of time the event loops
+     * spend on I/O, as opposed to queued tasks, to the value configured for config option
+     * (ovsdb-event-loop-io-ratio) in the configuration file. This option is only configured at the boot time
+     * of the controller.
+     * @param ioRatio Percentage of time spent on I/O, 1 - 100 (default : 50)
+     */
+    public void setOvsdbEventLoopIoRatio(int ioRatio) {
+        eventLoopIoRatio = ioRatio;
+        LOG.info("OVSDB event loop io ratio set to : {}", eventLoopIoRatio);
+    }
+
+    /**
+     * Blueprint property setter method. Blueprint call this method and enable the native epoll transport
+     * according to the config option (ovsdb-use-epoll) in the configuration file. The NIO transport is used
+     * when epoll is not available on the platform. This option is only configured at the boot time of the
+     * controller.
+     * @param epoll true to use the epoll transport when available (default : false)
+     */
+    public void setOvsdbUseEpoll(boolean epoll) {
+        useEpoll = epoll;
+        LOG.info("OVSDB native epoll transport set to : {}", useEpoll);
+    }
+
+    /**
+     * Blueprint property setter method. Blueprint call this method and set the buffer allocator of OVSDB
+     * connections to the value configured for config option (ovsdb-channel-allocator) in the configuration
+     * file. This option is only configured at the boot time of the controller.
+     * @param allocator One of pooled-direct, pooled-heap or unpooled (default : pooled-direct)
+     */
+    public void setOvsdbChannelAllocator(String allocator) {
+        channelAllocator = allocator;
+        LOG.info("OVSDB channel allocator set to : {}", channelAllocator);
+    }
+
+    /**
+     * Blueprint property setter method. Blueprint call this method and enable the on-disk cache of the schemas
+     * reported by OVSDB nodes according to the config option (ovsdb-schema-cache) in the configuration file.
+     * Cached schemas are stored in the ovsdb/schema-cache directory of the karaf data directory. This option
+     * is only configured at the boot time of the controller.
+     * @param enabled true to use the schema cache (default : false)
+     */
+    public void setOvsdbSchemaCache(boolean enabled) {
+        if (!enabled) {
+            SCHEMA_CACHE.set(null);
+        } else if (SCHEMA_CACHE.get() == null) {
+            Path directory = Paths.get(System.getProperty("karaf.data", "data"), "ovsdb", "schema-cache");
+            try {
+                SCHEMA_CACHE.set(new SchemaCache(directory));
+            } catch (IOException e) {
+                LOG.error("Failed to create the schema cache in {}, schemas will not be cached", directory, e);
+            }
+        }
+        LOG.info("OVSDB schema cache set to : {}", SCHEMA_CACHE.get() != null);
+    }
+
+    /**
+     * Blueprint property setter method. Blueprint call this method and set the time without receiving anything
+     * from an OVSDB node after which it is probed with an echo request to the value configured for config option
+     * (ovsdb-echo-interval) in the configuration file. This option is only configured at the boot time of the
+     * controller.
+     * @param interval Probe interval in milliseconds, 0 to disable the echo service (default : 0)
+     */
+    public void setOvsdbEchoInterval(long interval) {
+        echoInterval = interval;
+        updateEchoFilters();
+        LOG.info("OVSDB echo interval set to : {}", echoInterval);
+    }
+
+    /**
+     * Blueprint property setter method. Blueprint call this method and set the number of consecutive echo
+     * requests an OVSDB node can leave unanswered before it is disconnected to the value configured for config
+     * option (ovsdb-echo-max-missed) in the configuration file. This option is only configured at the boot time
+     * of the controller.
+     * @param maxMissed Number of missed echoes (default : 3)
+     */
+    public void setOvsdbEchoMaxMissed(int maxMissed) {
+        echoMaxMissed = maxMissed;
+        updateEchoFilters();
+        LOG.info("OVSDB echo max missed set to : {}", echoMaxMissed);
+    }
+
+    private void updateEchoFilters() {
+        final long interval = echoInterval;
+        final int maxMissed = echoMaxMissed;
+        ECHO_FILTERS.set(interval <= 0 ? null : new EchoServiceCallbackFilters() {
+            @Override
+            public long getProbeIntervalMillis() {
+                return interval;
+            }
+
+            @Override
+            public int getMaxMissedEchoes() {
+                return maxMissed;
+            }
+
+            @Override
+            public void echoMissed(int missedEchoes, EchoStatistics statistics) {
+                LOG.debug("Missed echo {} of {}, smoothed round-trip time {} ns", missedEchoes, maxMissed,
+                        statistics.getSmoothedRttNanos());
+            }
+        });
+    }
+
+    /**
+     * Blueprint property setter method. Blueprint call this method and set the size of the thread pool
+     * running the callbacks of all OVSDB clients to the value configured for config option
+     * (ovsdb-callback-threads) in the configuration file. The pool is resized in place, hence changes at run
+     * time are applied as well.
+     * @param threads Number of callback threads, 0 for the number of cores (default : 0)
+     */
+    public void setOvsdbCallbackThreads(int threads) {
+        int size = threads > 0 ? threads : DEFAULT_CALLBACK_THREADS;
+        synchronized (CALLBACK_POOL) {
+            if (size > CALLBACK_POOL.getMaximumPoolSize()) {
+                CALLBACK_POOL.setMaximumPoolSize(size);
+                CALLBACK_POOL.setCorePoolSize(size);
+            } else {
+                CALLBACK_POOL.setCorePoolSize(size);
+                CALLBACK_POOL.setMaximumPoolSize(size);
+            }
+        }
+        LOG.info("OVSDB callback threads set to : {}", size);
+    }
+
+    /**
+     * Returns the number of clients with callbacks waiting for a thread of the shared callback pool.
+     */
+    public static int getCallbackPoolQueueSize() {
+        return CALLBACK_POOL.getQueue().size();
+    }
+
     public void setOvsdbListenerIp(String ip) {
         LOG.info("OVSDB IP for listening connection is set to : {}", ip);
         listenerIp = ip;
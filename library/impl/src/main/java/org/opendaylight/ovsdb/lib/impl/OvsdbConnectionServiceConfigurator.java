@@ -20,6 +20,7 @@ public class OvsdbConnectionServiceConfigurator {
     private static final String USE_SSL_PARAM = "use-ssl";
     private static final String OVSDB_RPC_TASK_TIMEOUT_PARAM = "ovsdb-rpc-task-timeout";
     private static final String OVSDB_LISTENER_PORT_PARAM = "ovsdb-listener-port";
+    private static final String OVSDB_CALLBACK_THREADS_PARAM = "ovsdb-callback-threads";
     private final OvsdbConnectionService ovsdbconnection;
 
     public OvsdbConnectionServiceConfigurator(OvsdbConnectionService ovsdbconnection) {
@@ -38,6 +39,46 @@ public class OvsdbConnectionServiceConfigurator {
         ovsdbconnection.setJsonRpcDecoderMaxFrameLength(maxFrameLength);
     }
 
+    public void setJsonRpcDecoderStreaming(boolean streaming) {
+        ovsdbconnection.setJsonRpcDecoderStreaming(streaming);
+    }
+
+    public void setJsonRpcFlushConsolidation(boolean consolidation) {
+        ovsdbconnection.setJsonRpcFlushConsolidation(consolidation);
+    }
+
+    public void setOvsdbEventLoopThreads(int threads) {
+        ovsdbconnection.setOvsdbEventLoopThreads(threads);
+    }
+
+    public void setOvsdbEventLoopIoRatio(int ioRatio) {
+        ovsdbconnection.setOvsdbEventLoopIoRatio(ioRatio);
+    }
+
+    public void setOvsdbUseEpoll(boolean epoll) {
+        ovsdbconnection.setOvsdbUseEpoll(epoll);
+    }
+
+    public void setOvsdbChannelAllocator(String allocator) {
+        ovsdbconnection.setOvsdbChannelAllocator(allocator);
+    }
+
+    public void setOvsdbSchemaCache(boolean enabled) {
+        ovsdbconnection.setOvsdbSchemaCache(enabled);
+    }
+
+    public void setOvsdbEchoInterval(long interval) {
+        ovsdbconnection.setOvsdbEchoInterval(interval);
+    }
+
+    public void setOvsdbEchoMaxMissed(int maxMissed) {
+        ovsdbconnection.setOvsdbEchoMaxMissed(maxMissed);
+    }
+
+    public void setOvsdbCallbackThreads(int threads) {
+        ovsdbconnection.setOvsdbCallbackThreads(threads);
+    }
+
     public void setOvsdbListenerIp(String ip) {
         ovsdbconnection.setOvsdbListenerIp(ip);
     }
@@ -54,6 +95,8 @@ public class OvsdbConnectionServiceConfigurator {
                     ovsdbconnection.setOvsdbRpcTaskTimeout(Integer.parseInt((String) paramEntry.getValue()));
                 } else if (paramEntry.getKey().equalsIgnoreCase(USE_SSL_PARAM)) {
                     ovsdbconnection.setUseSsl(Boolean.parseBoolean(paramEntry.getValue().toString()));
+                } else if (paramEntry.getKey().equalsIgnoreCase(OVSDB_CALLBACK_THREADS_PARAM)) {
+                    ovsdbconnection.setOvsdbCallbackThreads(Integer.parseInt(paramEntry.getValue().toString()));
                 }
 
             }
@@ -0,0 +1,148 @@
+/*
+ * Copyright © 2018 EBay Software Foundation and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.ovsdb.lib.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.opendaylight.ovsdb.lib.schema.DatabaseSchema;
+import org.opendaylight.ovsdb.lib.schema.DatabaseSchemaRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * On-disk cache of the get_schema replies of OVSDB servers, letting clients use the schema a server reported
+ * on a previous connection without waiting for get_schema. Each distinct schema is stored once, as compressed
+ * JSON, and the version and checksum last reported by each node for each database are recorded next to them.
+ *
+ * <p>Schemas handed out by the cache are speculative: the caller is expected to check them against the
+ * server and to {@link #put} the actual schema when it differs.
+ */
+public class SchemaCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SchemaCache.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String SCHEMA_SUFFIX = ".json.gz";
+
+    private final Path schemaDir;
+    private final Path nodeDir;
+
+    public SchemaCache(Path directory) throws IOException {
+        this.schemaDir = Files.createDirectories(directory.resolve("schemas"));
+        this.nodeDir = Files.createDirectories(directory.resolve("nodes"));
+    }
+
+    /**
+     * Returns the schema of the given database last reported by the given node, or null if there is none or it
+     * cannot be read.
+     */
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    public DatabaseSchema get(String node, String dbName) {
+        Path nodeFile = nodeDir.resolve(fileName(node, dbName));
+        if (!Files.exists(nodeFile)) {
+            return null;
+        }
+        try {
+            List<String> key = Files.readAllLines(nodeFile, StandardCharsets.UTF_8);
+            if (key.size() != 2) {
+                LOG.warn("Ignoring malformed schema cache entry {}", nodeFile);
+                return null;
+            }
+            DatabaseSchema dbSchema = DatabaseSchemaRegistry.getRegisteredSchema(dbName, key.get(0), key.get(1));
+            if (dbSchema != null) {
+                return dbSchema;
+            }
+
+            JsonNode json;
+            try (InputStream in = new GZIPInputStream(Files.newInputStream(
+                    schemaDir.resolve(fileName(dbName, key.get(0), key.get(1)) + SCHEMA_SUFFIX)))) {
+                json = MAPPER.readTree(in);
+            }
+            if (!key.equals(Arrays.asList(json.path("version").asText(), json.path("cksum").asText()))) {
+                LOG.warn("Ignoring schema cache entry {} not matching its schema", nodeFile);
+                return null;
+            }
+            return DatabaseSchemaRegistry.getDatabaseSchema(dbName, json);
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Failed to read the cached schema {} of {}", dbName, node, e);
+            return null;
+        }
+    }
+
+    /**
+     * Returns whether the given get_schema reply has the version and checksum recorded for the given database on
+     * the given node.
+     */
+    public boolean isCurrent(String node, String dbName, JsonNode json) {
+        JsonNode version = json.get("version");
+        JsonNode cksum = json.get("cksum");
+        if (version == null || cksum == null) {
+            return false;
+        }
+        Path nodeFile = nodeDir.resolve(fileName(node, dbName));
+        try {
+            return Files.exists(nodeFile) && Arrays.asList(version.asText(), cksum.asText())
+                    .equals(Files.readAllLines(nodeFile, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            LOG.warn("Failed to read the schema cache entry {}", nodeFile, e);
+            return false;
+        }
+    }
+
+    /**
+     * Records the given get_schema reply as the schema of the given database on the given node. Replies without
+     * version or checksum are not cached, and clear the entry of the node.
+     */
+    public void put(String node, String dbName, JsonNode json) {
+        JsonNode version = json.get("version");
+        JsonNode cksum = json.get("cksum");
+        if (version == null || cksum == null) {
+            try {
+                Files.deleteIfExists(nodeDir.resolve(fileName(node, dbName)));
+            } catch (IOException e) {
+                LOG.warn("Failed to clear the cached schema {} of {}", dbName, node, e);
+            }
+            return;
+        }
+        List<String> key = Arrays.asList(version.asText(), cksum.asText());
+        try {
+            Path schemaFile = schemaDir.resolve(fileName(dbName, key.get(0), key.get(1)) + SCHEMA_SUFFIX);
+            if (!Files.exists(schemaFile)) {
+                Path tmp = Files.createTempFile(schemaDir, null, null);
+                try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(tmp))) {
+                    MAPPER.writeValue(out, json);
+                }
+                Files.move(tmp, schemaFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+
+            Path nodeFile = nodeDir.resolve(fileName(node, dbName));
+            if (!Files.exists(nodeFile) || !key.equals(Files.readAllLines(nodeFile, StandardCharsets.UTF_8))) {
+                Path tmp = Files.createTempFile(nodeDir, null, null);
+                Files.write(tmp, key, StandardCharsets.UTF_8);
+                Files.move(tmp, nodeFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+        } catch (IOException e) {
+            LOG.warn("Failed to cache the schema {} of {}", dbName, node, e);
+        }
+    }
+
+    private static String fileName(String... parts) {
+        return String.join("-", parts).replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+}
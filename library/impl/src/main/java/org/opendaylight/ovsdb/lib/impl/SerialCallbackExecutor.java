@@ -0,0 +1,143 @@
+/*
+ * Copyright © 2018 EBay Software Foundation and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.ovsdb.lib.impl;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executor running the callbacks of a single OVSDB connection one at a time, in submission order, on a
+ * thread pool shared by all connections. A connection never occupies more than one pool thread, hence the
+ * number of callback threads is bounded by the pool, whatever the number of connections.
+ *
+ * <p>When the shared pool rejects work, the pending callbacks are run by the submitting thread and the
+ * rejection is counted as a saturation event.
+ */
+public class SerialCallbackExecutor implements Executor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SerialCallbackExecutor.class);
+    // Callbacks run per pool task, before yielding the thread to other connections
+    private static final int MAX_BATCH = 64;
+
+    private final String name;
+    private final Executor pool;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder saturations = new LongAdder();
+    private volatile int maxQueueDepth;
+    private volatile boolean shutdown;
+
+    public SerialCallbackExecutor(String name, Executor pool) {
+        this.name = name;
+        this.pool = pool;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (shutdown) {
+            throw new RejectedExecutionException("Callback executor of " + name + " is shut down");
+        }
+        tasks.add(task);
+        int depth = queueDepth.incrementAndGet();
+        if (depth > maxQueueDepth) {
+            maxQueueDepth = depth;
+        }
+        schedule();
+    }
+
+    private void schedule() {
+        if (!scheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            pool.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            saturations.increment();
+            LOG.debug("Callback pool saturated, running callbacks of {} in the calling thread", name);
+            drain();
+        }
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void drain() {
+        for (int i = 0; i < MAX_BATCH; i++) {
+            Runnable task = tasks.poll();
+            if (task == null) {
+                break;
+            }
+            queueDepth.decrementAndGet();
+            executed.increment();
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                LOG.error("Callback of {} failed", name, e);
+            }
+        }
+
+        scheduled.set(false);
+        // Re-check, a task may have been added after the last poll, or the batch was exhausted
+        if (!tasks.isEmpty()) {
+            schedule();
+        }
+    }
+
+    /**
+     * Stops accepting new callbacks. Callbacks already queued are still run.
+     */
+    public void shutdown() {
+        shutdown = true;
+    }
+
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    /**
+     * Returns the number of callbacks waiting to be run.
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * Returns the highest number of callbacks seen waiting at once.
+     */
+    public int getMaxQueueDepth() {
+        return maxQueueDepth;
+    }
+
+    /**
+     * Returns the number of callbacks run.
+     */
+    public long getExecutedCount() {
+        return executed.sum();
+    }
+
+    /**
+     * Returns how many times the shared pool rejected work, making the submitting thread run the callbacks.
+     */
+    public long getSaturationCount() {
+        return saturations.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "SerialCallbackExecutor [name=" + name + ", queueDepth=" + queueDepth.get() + ", maxQueueDepth="
+                + maxQueueDepth + ", executed=" + executed.sum() + ", saturations=" + saturations.sum() + "]";
+    }
+}
@@ -11,11 +11,16 @@ package org.opendaylight.ovsdb.lib.jsonrpc;
 import com.fasterxml.jackson.core.JsonEncoding;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.io.IOContext;
 import com.fasterxml.jackson.core.json.ByteSourceJsonBootstrapper;
 import com.fasterxml.jackson.core.util.BufferRecycler;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.MappingJsonFactory;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.google.common.collect.ImmutableSet;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufInputStream;
 import io.netty.channel.ChannelHandlerContext;
@@ -23,6 +28,7 @@ import io.netty.handler.codec.ByteToMessageDecoder;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
+import java.util.Set;
 import org.opendaylight.ovsdb.lib.error.InvalidEncodingException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,10 +42,15 @@ import org.slf4j.LoggerFactory;
  * This approach avoids having to run json parser over and over again on the entire
  * stream waiting for input. Parser is invoked only when we know of a full JSON message
  * in the stream.
+ *
+ * <p>The params of monitor update notifications are not built into a tree, they are handed on as the
+ * {@link TokenBuffer} of a POJO node, so that the table updates are parsed straight from their tokens once the
+ * schema of their monitor is known.
  */
 public class JsonRpcDecoder extends ByteToMessageDecoder {
 
     private static final Logger LOG = LoggerFactory.getLogger(JsonRpcDecoder.class);
+    private static final Set<String> UPDATE_METHODS = ImmutableSet.of("update", "update2", "update3");
     private final int maxFrameLength;
     //Indicates if the frame limit warning was issued
     private boolean maxFrameLimitWasReached = false;
@@ -107,8 +118,7 @@ public class JsonRpcDecoder extends ByteToMessageDecoder {
             if (leftCurlies != 0 && leftCurlies == rightCurlies && !inS) {
                 ByteBuf slice = buf.readSlice(1 + index - buf.readerIndex());
                 JsonParser jp = jacksonJsonFactory.createParser((InputStream) new ByteBufInputStream(slice));
-                JsonNode root = jp.readValueAsTree();
-                out.add(root);
+                out.add(readMessage(jp));
                 leftCurlies = 0;
                 rightCurlies = 0;
                 lastRecordBytes = 0;
@@ -142,6 +152,37 @@ public class JsonRpcDecoder extends ByteToMessageDecoder {
         return recordsRead;
     }
 
+    private static JsonNode readMessage(JsonParser jp) throws IOException {
+        if (jp.nextToken() != JsonToken.START_OBJECT) {
+            return jp.readValueAsTree();
+        }
+        ObjectNode message = JsonNodeFactory.instance.objectNode();
+        TokenBuffer params = null;
+        while (jp.nextToken() == JsonToken.FIELD_NAME) {
+            String name = jp.getCurrentName();
+            jp.nextToken();
+            // the params may come before the method, keep them as tokens until the method is known
+            if ("params".equals(name) && (!message.has("method") || isUpdate(message))) {
+                params = new TokenBuffer(jp);
+                params.copyCurrentStructure(jp);
+            } else {
+                message.set(name, jp.readValueAsTree());
+            }
+        }
+        if (params != null) {
+            if (isUpdate(message)) {
+                message.putPOJO("params", params);
+            } else {
+                message.set("params", params.asParser(jp.getCodec()).readValueAsTree());
+            }
+        }
+        return message;
+    }
+
+    private static boolean isUpdate(ObjectNode message) {
+        return UPDATE_METHODS.contains(message.path("method").asText());
+    }
+
     private static void skipSpaces(ByteBuf byteBuf) throws IOException {
         while (byteBuf.isReadable()) {
             int ch = byteBuf.getByte(byteBuf.readerIndex()) & 0xFF;
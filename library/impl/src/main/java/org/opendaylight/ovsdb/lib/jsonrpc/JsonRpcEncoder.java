@@ -8,20 +8,44 @@
 
 package org.opendaylight.ovsdb.lib.jsonrpc;
 
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.channel.ChannelHandler.Sharable;
 import io.netty.channel.ChannelHandlerContext;
-import io.netty.handler.codec.MessageToMessageEncoder;
-import java.util.List;
+import io.netty.handler.codec.MessageToByteEncoder;
+import java.io.OutputStream;
 
 /**
- * Created with IntelliJ IDEA.
- * User: araveendrann
- * Date: 10/6/13
- * Time: 11:19 PM
- * To change this template use File | Settings | File Templates.
+ * JSON RPC 1.0 encoder which serializes outbound requests and responses straight into the
+ * (pooled) buffer written to the channel, without going through an intermediate String.
+ * Plain {@link CharSequence} messages are written as UTF-8.
  */
-public class JsonRpcEncoder extends MessageToMessageEncoder<Object> {
+@Sharable
+public class JsonRpcEncoder extends MessageToByteEncoder<Object> {
+
+    // Same serialization settings as the ObjectMapper of the JsonRpcEndpoint
+    private static final ObjectWriter WRITER = new ObjectMapper()
+            .setSerializationInclusion(Include.NON_NULL)
+            .writer()
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
     @Override
-    protected void encode(ChannelHandlerContext ctx, Object msg, List<Object> out) throws Exception {
+    public boolean acceptOutboundMessage(Object msg) {
+        return !(msg instanceof ByteBuf);
+    }
 
+    @Override
+    protected void encode(ChannelHandlerContext ctx, Object msg, ByteBuf out) throws Exception {
+        if (msg instanceof CharSequence) {
+            ByteBufUtil.writeUtf8(out, (CharSequence) msg);
+        } else {
+            // ByteBufOutputStream is also a DataOutput, go through the buffered OutputStream overload
+            WRITER.writeValue((OutputStream) new ByteBufOutputStream(out), msg);
+        }
     }
 }
@@ -8,29 +8,35 @@
 
 package org.opendaylight.ovsdb.lib.jsonrpc;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.POJONode;
 import com.fasterxml.jackson.databind.type.TypeFactory;
-import com.google.common.reflect.Invokable;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.reflect.Reflection;
 import com.google.common.reflect.TypeToken;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.SettableFuture;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.netty.channel.Channel;
-import java.lang.reflect.InvocationTargetException;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import org.opendaylight.ovsdb.lib.error.UnexpectedResultException;
 import org.opendaylight.ovsdb.lib.error.UnsupportedArgumentException;
 import org.opendaylight.ovsdb.lib.message.OvsdbRPC;
@@ -40,19 +46,117 @@ import org.slf4j.LoggerFactory;
 public class JsonRpcEndpoint {
 
     private static final Logger LOG = LoggerFactory.getLogger(JsonRpcEndpoint.class);
-    private static final int REAPER_THREADS = 3;
     private static final ThreadFactory FUTURE_REAPER_THREAD_FACTORY = new ThreadFactoryBuilder()
             .setNameFormat("OVSDB-Lib-Future-Reaper-%d")
             .setDaemon(true).build();
-    private static final ScheduledExecutorService FUTURE_REAPER_SERVICE
-            = Executors.newScheduledThreadPool(REAPER_THREADS, FUTURE_REAPER_THREAD_FACTORY);
+    /*
+     * Pending calls are expired on a single timer wheel shared by all endpoints. With the default 1 second
+     * timeout and 100 ms ticks a call expires within one tick of its deadline, and answering it only flags
+     * its Timeout as cancelled instead of removing a task from a scheduled executor queue.
+     */
+    private static final long REAPER_TICK_MILLIS = 100;
+    private static final int REAPER_TICKS_PER_WHEEL = 512;
+    private static final HashedWheelTimer FUTURE_REAPER_TIMER = new HashedWheelTimer(FUTURE_REAPER_THREAD_FACTORY,
+            REAPER_TICK_MILLIS, TimeUnit.MILLISECONDS, REAPER_TICKS_PER_WHEEL);
+
+    private static final LongAdder REAPED_REQUESTS = new LongAdder();
+    private static final LongAdder LATE_RESPONSES = new LongAdder();
 
     private static int reaperInterval = 1000;
 
+    private static final Method FUTURE_GET;
+
+    static {
+        try {
+            FUTURE_GET = ListenableFuture.class.getMethod("get");
+        } catch (NoSuchMethodException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /*
+     * Reflection is resolved once per RPC interface and callback class. The endpoint binds the results to its
+     * own ObjectMapper when the client proxy is created and when a callback is registered, leaving only map
+     * lookups on the request/response path.
+     */
+    private static final ClassValue<Map<Method, JavaType>> RESULT_TYPES = new ClassValue<Map<Method, JavaType>>() {
+        @Override
+        protected Map<Method, JavaType> computeValue(Class<?> rpcInterface) {
+            ImmutableMap.Builder<Method, JavaType> builder = ImmutableMap.builder();
+            for (Method method : rpcInterface.getMethods()) {
+                if (ListenableFuture.class == method.getReturnType()) {
+                    TypeToken<?> retType = TypeToken.of(method.getGenericReturnType())
+                            .resolveType(FUTURE_GET.getGenericReturnType());
+                    builder.put(method, TypeFactory.defaultInstance().constructType(retType.getType()));
+                }
+            }
+            return builder.build();
+        }
+    };
+
+    private static final MethodType CALLBACK_TYPE =
+            MethodType.methodType(void.class, Object.class, Object.class, Object.class);
+
+    private static final ClassValue<Map<String, CallbackMethod>> CALLBACK_METHODS =
+            new ClassValue<Map<String, CallbackMethod>>() {
+                @Override
+                protected Map<String, CallbackMethod> computeValue(Class<?> callbackClass) {
+                    Map<String, CallbackMethod> methods = new HashMap<>();
+                    for (Method method : callbackClass.getDeclaredMethods()) {
+                        if (method.getParameterCount() != 2 || method.isSynthetic()
+                                || methods.containsKey(method.getName())) {
+                            continue;
+                        }
+                        method.setAccessible(true);
+                        try {
+                            methods.put(method.getName(), new CallbackMethod(
+                                    MethodHandles.lookup().unreflect(method).asType(CALLBACK_TYPE),
+                                    TypeFactory.defaultInstance().constructType(
+                                            method.getGenericParameterTypes()[1])));
+                        } catch (IllegalAccessException e) {
+                            LOG.error("Unable to access callback {}", method, e);
+                        }
+                    }
+                    return ImmutableMap.copyOf(methods);
+                }
+            };
+
+    private static final class CallbackMethod {
+        final MethodHandle handle;
+        final JavaType paramType;
+
+        CallbackMethod(MethodHandle handle, JavaType paramType) {
+            this.handle = handle;
+            this.paramType = paramType;
+        }
+    }
+
+    private static final class CallbackInvoker {
+        final MethodHandle handle;
+        final ObjectReader paramReader;
+
+        CallbackInvoker(MethodHandle handle, ObjectReader paramReader) {
+            this.handle = handle;
+            this.paramReader = paramReader;
+        }
+    }
+
+    private static final class RegisteredCallback {
+        final OvsdbRPC.Callback callback;
+        final Map<String, CallbackInvoker> invokers;
+
+        RegisteredCallback(OvsdbRPC.Callback callback, Map<String, CallbackInvoker> invokers) {
+            this.callback = callback;
+            this.invokers = invokers;
+        }
+    }
+
     public static class CallContext {
         Method method;
         JsonRpc10Request request;
         SettableFuture<Object> future;
+        ObjectReader resultReader;
+        Timeout timeout;
 
         public CallContext(JsonRpc10Request request, Method method, SettableFuture<Object> future) {
             this.method = method;
@@ -75,8 +179,10 @@ public class JsonRpcEndpoint {
 
     ObjectMapper objectMapper;
     Channel nettyChannel;
-    Map<String, CallContext> methodContext = new ConcurrentHashMap<>();
-    Map<Object, OvsdbRPC.Callback> requestCallbacks = new HashMap<>();
+    // Request ids are only unique per channel, which is all JSON-RPC requires
+    private final AtomicLong nextRequestId = new AtomicLong();
+    Map<Long, CallContext> methodContext = new ConcurrentHashMap<>();
+    Map<Object, RegisteredCallback> requestCallbacks = new HashMap<>();
 
     public JsonRpcEndpoint(ObjectMapper objectMapper, Channel channel) {
         this.objectMapper = objectMapper;
@@ -84,17 +190,19 @@ public class JsonRpcEndpoint {
     }
 
     public <T> T getClient(final Object context, Class<T> klazz) {
+        final Map<Method, ObjectReader> resultReaders = resultReaders(klazz);
 
         return Reflection.newProxy(klazz, (proxy, method, args) -> {
             if (method.getName().equals(OvsdbRPC.REGISTER_CALLBACK_METHOD)) {
                 if (args == null || args.length != 1 || !(args[0] instanceof OvsdbRPC.Callback)) {
                     return false;
                 }
-                requestCallbacks.put(context, (OvsdbRPC.Callback)args[0]);
+                requestCallbacks.put(context, registeredCallback((OvsdbRPC.Callback) args[0]));
                 return true;
             }
 
-            JsonRpc10Request request = new JsonRpc10Request(UUID.randomUUID().toString());
+            final long requestId = nextRequestId.incrementAndGet();
+            JsonRpc10Request request = new JsonRpc10Request(Long.toString(requestId));
             request.setMethod(method.getName());
 
             if (args != null && args.length != 0) {
@@ -114,22 +222,22 @@ public class JsonRpcEndpoint {
                 }
             }
 
-            String requestString = objectMapper.writeValueAsString(request);
-            LOG.trace("getClient Request : {}", requestString);
+            LOG.trace("getClient Request : {}", request);
 
             SettableFuture<Object> sf = SettableFuture.create();
-            methodContext.put(request.getId(), new CallContext(request, method, sf));
-            FUTURE_REAPER_SERVICE.schedule(() -> {
-                CallContext cc = methodContext.remove(request.getId());
-                if (cc != null) {
-                    if (cc.getFuture().isDone() || cc.getFuture().isCancelled()) {
-                        return;
-                    }
-                    cc.getFuture().cancel(false);
+            CallContext callContext = new CallContext(request, method, sf);
+            callContext.resultReader = resultReaders.get(method);
+            methodContext.put(requestId, callContext);
+            callContext.timeout = FUTURE_REAPER_TIMER.newTimeout(timeout -> reap(requestId),
+                    reaperInterval, TimeUnit.MILLISECONDS);
+
+            // The request is serialized by the JsonRpcEncoder in the channel pipeline
+            nettyChannel.writeAndFlush(request).addListener(writeFuture -> {
+                if (!writeFuture.isSuccess() && methodContext.remove(requestId) != null) {
+                    callContext.timeout.cancel();
+                    sf.setException(writeFuture.cause());
                 }
-            }, reaperInterval, TimeUnit.MILLISECONDS);
-
-            nettyChannel.writeAndFlush(requestString);
+            });
 
             return sf;
         }
@@ -139,28 +247,37 @@ public class JsonRpcEndpoint {
     public void processResult(JsonNode response) throws NoSuchMethodException {
 
         LOG.trace("Response : {}", response.toString());
-        CallContext returnCtxt = methodContext.remove(response.get("id").asText());
+        // Ids are issued from 1 onwards, anything not parsing as a number cannot be ours
+        CallContext returnCtxt = methodContext.remove(response.get("id").asLong(0));
         if (returnCtxt == null) {
+            LATE_RESPONSES.increment();
+            LOG.debug("Dropping response to unknown or expired request {}", response.get("id"));
             return;
         }
-
-        if (ListenableFuture.class == returnCtxt.getMethod().getReturnType()) {
-            TypeToken<?> retType = TypeToken.of(
-                    returnCtxt.getMethod().getGenericReturnType())
-                    .resolveType(ListenableFuture.class.getMethod("get").getGenericReturnType());
-            JavaType javaType =  TypeFactory.defaultInstance().constructType(retType.getType());
-
+        if (returnCtxt.resultReader != null) {
             JsonNode result = response.get("result");
-            Object result1 = objectMapper.convertValue(result, javaType);
+            Object result1;
+            try {
+                result1 = result == null ? null : returnCtxt.resultReader.readValue(result);
+            } catch (IOException e) {
+                LOG.error("Failed to convert result of {}", returnCtxt.getMethod(), e);
+                returnCtxt.getFuture().setException(e);
+                returnCtxt.timeout.cancel();
+                return;
+            }
             JsonNode error = response.get("error");
             if (error != null && !error.isNull()) {
                 LOG.error("Error : {}", error.toString());
             }
 
             returnCtxt.getFuture().set(result1);
+            returnCtxt.timeout.cancel();
 
         } else {
-            throw new UnexpectedResultException("Don't know how to handle this");
+            UnexpectedResultException exception = new UnexpectedResultException("Don't know how to handle this");
+            returnCtxt.getFuture().setException(exception);
+            returnCtxt.timeout.cancel();
+            throw exception;
         }
     }
 
@@ -169,67 +286,121 @@ public class JsonRpcEndpoint {
         request.setMethod(requestJson.get("method").asText());
         LOG.trace("Request : {} {} {}", requestJson.get("id"), requestJson.get("method"),
                 requestJson.get("params"));
-        OvsdbRPC.Callback callback = requestCallbacks.get(context);
-        if (callback != null) {
-            Method[] methods = callback.getClass().getDeclaredMethods();
-            for (Method method : methods) {
-                if (method.getName().equals(request.getMethod())) {
-                    Class<?>[] parameters = method.getParameterTypes();
-                    JsonNode params = requestJson.get("params");
-                    Object param = objectMapper.convertValue(params, parameters[1]);
-                    try {
-                        Invokable from = Invokable.from(method);
-                        from.setAccessible(true);
-                        from.invoke(callback, context, param);
-                    } catch (IllegalAccessException | InvocationTargetException e) {
-                        LOG.error("Unable to invoke callback {}", method.getName(), e);
-                    }
-                    return;
-                }
-            }
+        RegisteredCallback registered = requestCallbacks.get(context);
+        CallbackInvoker invoker = registered == null ? null : registered.invokers.get(request.getMethod());
+        if (invoker != null) {
+            invokeCallback(invoker, registered.callback, context, request.getMethod(), requestJson.get("params"));
+            return;
         }
 
         // Echo dont need any special processing. hence handling it internally.
 
         if (request.getMethod().equals("echo")) {
-            JsonRpc10Response response = new JsonRpc10Response(request.getId());
-            response.setError(null);
-            try {
-                String jsonString = objectMapper.writeValueAsString(response);
-                nettyChannel.writeAndFlush(jsonString);
-            } catch (JsonProcessingException e) {
-                LOG.error("Exception while processing JSON response {}", response, e);
-            }
+            sendResponse(new JsonRpc10Response(request.getId()));
             return;
         }
 
         // send a null response for list_dbs
         if (request.getMethod().equals("list_dbs")) {
-            JsonRpc10Response response = new JsonRpc10Response(request.getId());
-            response.setError(null);
-            try {
-                String jsonString = objectMapper.writeValueAsString(response);
-                nettyChannel.writeAndFlush(jsonString);
-            } catch (JsonProcessingException e) {
-                LOG.error("Exception while processing JSON response {}", response, e);
-            }
+            sendResponse(new JsonRpc10Response(request.getId()));
             return;
         }
 
         LOG.error("No handler for Request : {} on {}", requestJson.toString(), context);
     }
 
-    public Map<String, CallContext> getMethodContext() {
+    private void sendResponse(JsonRpc10Response response) {
+        response.setError(null);
+        nettyChannel.writeAndFlush(response).addListener(writeFuture -> {
+            if (!writeFuture.isSuccess()) {
+                LOG.error("Exception while sending JSON response to request {}", response.getId(),
+                        writeFuture.cause());
+            }
+        });
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private static void invokeCallback(CallbackInvoker invoker, OvsdbRPC.Callback callback, Object context,
+            String method, JsonNode params) {
+        try {
+            Object param;
+            if (params == null) {
+                param = null;
+            } else if (params instanceof POJONode && ((POJONode) params).getPojo() instanceof TokenBuffer) {
+                // update notification params kept as tokens by JsonRpcDecoder
+                param = invoker.paramReader.readValue(((TokenBuffer) ((POJONode) params).getPojo()).asParser());
+            } else {
+                param = invoker.paramReader.readValue(params);
+            }
+            invoker.handle.invokeExact((Object) callback, context, param);
+        } catch (IOException e) {
+            LOG.error("Unable to convert parameters of callback {}", method, e);
+        } catch (Throwable e) {
+            LOG.error("Unable to invoke callback {}", method, e);
+        }
+    }
+
+    private Map<Method, ObjectReader> resultReaders(Class<?> rpcInterface) {
+        Map<Method, ObjectReader> readers = new HashMap<>();
+        RESULT_TYPES.get(rpcInterface).forEach((method, type) -> readers.put(method, objectMapper.readerFor(type)));
+        return readers;
+    }
+
+    private RegisteredCallback registeredCallback(OvsdbRPC.Callback callback) {
+        Map<String, CallbackInvoker> invokers = new HashMap<>();
+        CALLBACK_METHODS.get(callback.getClass()).forEach((name, method) ->
+                invokers.put(name, new CallbackInvoker(method.handle, objectMapper.readerFor(method.paramType))));
+        return new RegisteredCallback(callback, invokers);
+    }
+
+    private void reap(long requestId) {
+        CallContext cc = methodContext.remove(requestId);
+        if (cc != null && cc.getFuture().cancel(false)) {
+            REAPED_REQUESTS.increment();
+            LOG.debug("Request {} {} timed out after {} ms", requestId, cc.getRequest().getMethod(), reaperInterval);
+        }
+    }
+
+    public Map<Long, CallContext> getMethodContext() {
         return methodContext;
     }
 
+    /**
+     * Returns the number of requests sent on this endpoint which are still waiting for a response.
+     */
+    public int getPendingRequestCount() {
+        return methodContext.size();
+    }
+
+    /**
+     * Returns the number of requests, across all endpoints, cancelled because no response arrived in time.
+     */
+    public static long getReapedRequestCount() {
+        return REAPED_REQUESTS.sum();
+    }
+
+    /**
+     * Returns the number of responses, across all endpoints, which did not match any pending request,
+     * typically because they arrived after the request was reaped.
+     */
+    public static long getLateResponseCount() {
+        return LATE_RESPONSES.sum();
+    }
+
+    /**
+     * Returns the number of pending requests, across all endpoints, waiting on the reaper timer.
+     */
+    public static long getReaperPendingTimeouts() {
+        return FUTURE_REAPER_TIMER.pendingTimeouts();
+    }
+
     public static void setReaperInterval(int interval) {
         reaperInterval = interval;
         LOG.info("Ovsdb Rpc Task interval is set to {} millisecond", reaperInterval);
     }
 
     public static void close() {
-        LOG.info("Shutting down reaper executor service");
-        FUTURE_REAPER_SERVICE.shutdownNow();
+        LOG.info("Shutting down reaper timer");
+        FUTURE_REAPER_TIMER.stop();
     }
 }
@@ -0,0 +1,204 @@
+/*
+ * Copyright © 2018 EBay Software Foundation and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.ovsdb.lib.jsonrpc;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ContainerNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * JSON RPC 1.0 compatible decoder which frames and parses the TCP stream in a single pass.
+ *
+ * <p>Unlike {@link JsonRpcDecoder}, which counts curly braces and then hands the completed frame to
+ * Jackson, this decoder feeds every incoming chunk straight into a non-blocking Jackson parser and
+ * assembles the {@link JsonNode} tree from the token stream as it arrives. A frame is complete when
+ * its root object is closed. All bytes handed to the parser are consumed before {@link #decode}
+ * returns, hence the decoder never accumulates partial frames in the inbound buffer.
+ *
+ * <p>Heap buffers are fed to the parser in place. Direct buffers are fed through a small reusable
+ * scratch array, as the byte-array feeder is the only non-blocking input Jackson offers.
+ */
+public class JsonRpcStreamingDecoder extends ByteToMessageDecoder {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JsonRpcStreamingDecoder.class);
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final int SCRATCH_SIZE = 8192;
+
+    private final int maxFrameLength;
+    //Indicates if the frame limit warning was issued
+    private boolean maxFrameLimitWasReached = false;
+    private final JsonNodeFactory nodeFactory = JsonNodeFactory.instance;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+
+    // partially built tree of the record currently being read
+    private final Deque<ContainerNode<?>> containers = new ArrayDeque<>();
+    private String fieldName;
+    private long frameStartOffset;
+
+    private byte[] scratch;
+    private int recordsRead;
+
+    public JsonRpcStreamingDecoder(int maxFrameLength) {
+        this.maxFrameLength = maxFrameLength;
+        try {
+            this.parser = JSON_FACTORY.createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to create non-blocking JSON parser", e);
+        }
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    @Override
+    protected void decode(ChannelHandlerContext ctx, ByteBuf buf, List<Object> out) throws Exception {
+        LOG.trace("readable bytes {}, records read {}", buf.readableBytes(), recordsRead);
+
+        if (buf.hasArray()) {
+            int start = buf.arrayOffset() + buf.readerIndex();
+            feed(buf.array(), start, start + buf.readableBytes(), out);
+        } else {
+            if (scratch == null) {
+                scratch = new byte[SCRATCH_SIZE];
+            }
+            int index = buf.readerIndex();
+            final int end = buf.writerIndex();
+            while (index < end) {
+                int len = Math.min(scratch.length, end - index);
+                buf.getBytes(index, scratch, 0, len);
+                feed(scratch, 0, len, out);
+                index += len;
+            }
+        }
+
+        // Everything has been consumed by the parser
+        buf.skipBytes(buf.readableBytes());
+    }
+
+    @Override
+    protected void handlerRemoved0(ChannelHandlerContext ctx) throws Exception {
+        feeder.endOfInput();
+        parser.close();
+    }
+
+    public int getRecordsRead() {
+        return recordsRead;
+    }
+
+    private void feed(byte[] bytes, int start, int end, List<Object> out) throws IOException {
+        feeder.feedInput(bytes, start, end);
+
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.NOT_AVAILABLE) {
+            if (token == null) {
+                // end of input, only happens once the channel goes away
+                return;
+            }
+            JsonNode completed = onToken(token);
+            if (completed != null) {
+                out.add(completed);
+                recordsRead++;
+            }
+        }
+
+        /*
+         * Same as JsonRpcDecoder, the frame limit is only a warning. Log only once, not on every
+         * extent of the buffer.
+         */
+        if (!containers.isEmpty() && !maxFrameLimitWasReached
+                && parser.getCurrentLocation().getByteOffset() - frameStartOffset >= maxFrameLength) {
+            maxFrameLimitWasReached = true;
+            LOG.warn("***** OVSDB Frame limit of {} bytes has been reached! *****", this.maxFrameLength);
+        }
+    }
+
+    /**
+     * Folds a single token into the tree being built.
+     *
+     * @return the root node once the token completes a record, null otherwise
+     */
+    private JsonNode onToken(JsonToken token) throws IOException {
+        switch (token) {
+            case START_OBJECT:
+                return startContainer(nodeFactory.objectNode());
+            case START_ARRAY:
+                return startContainer(nodeFactory.arrayNode());
+            case END_OBJECT:
+            case END_ARRAY:
+                ContainerNode<?> done = containers.pop();
+                return containers.isEmpty() ? done : null;
+            case FIELD_NAME:
+                fieldName = parser.getCurrentName();
+                return null;
+            case VALUE_STRING:
+                return addValue(nodeFactory.textNode(parser.getText()));
+            case VALUE_NUMBER_INT:
+                return addValue(intNode());
+            case VALUE_NUMBER_FLOAT:
+                return addValue(nodeFactory.numberNode(parser.getDoubleValue()));
+            case VALUE_TRUE:
+                return addValue(nodeFactory.booleanNode(true));
+            case VALUE_FALSE:
+                return addValue(nodeFactory.booleanNode(false));
+            case VALUE_NULL:
+                return addValue(nodeFactory.nullNode());
+            default:
+                LOG.debug("Ignoring unexpected token {}", token);
+                return null;
+        }
+    }
+
+    private JsonNode intNode() throws IOException {
+        switch (parser.getNumberType()) {
+            case INT:
+                return nodeFactory.numberNode(parser.getIntValue());
+            case LONG:
+                return nodeFactory.numberNode(parser.getLongValue());
+            default:
+                return nodeFactory.numberNode(parser.getBigIntegerValue());
+        }
+    }
+
+    private JsonNode startContainer(ContainerNode<?> node) {
+        if (containers.isEmpty()) {
+            frameStartOffset = parser.getTokenLocation().getByteOffset();
+        } else {
+            addValue(node);
+        }
+        containers.push(node);
+        return null;
+    }
+
+    private JsonNode addValue(JsonNode node) {
+        ContainerNode<?> parent = containers.peek();
+        if (parent instanceof ObjectNode) {
+            ((ObjectNode) parent).set(fieldName, node);
+        } else if (parent instanceof ArrayNode) {
+            ((ArrayNode) parent).add(node);
+        } else {
+            // JSON-RPC messages are always objects, scalar values at the root are not records
+            LOG.debug("Ignoring scalar value {} outside of a record", node);
+        }
+        return null;
+    }
+}
@@ -7,9 +7,13 @@
  */
 package org.opendaylight.ovsdb.lib.jsonrpc;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.IOException;
 
 public final class JsonUtils {
 
@@ -26,4 +30,22 @@ public final class JsonUtils {
             throw new RuntimeException(e);
         }
     }
+
+    /**
+     * Reads the value the parser is positioned at into a tree.
+     */
+    public static JsonNode readTree(JsonParser parser) throws IOException {
+        return mapper.readTree(parser);
+    }
+
+    /**
+     * Advances the parser to the end of the array it is currently positioned in, skipping any nested value.
+     */
+    public static void skipToEndOfArray(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        while (token != null && token != JsonToken.END_ARRAY) {
+            parser.skipChildren();
+            token = parser.nextToken();
+        }
+    }
 }
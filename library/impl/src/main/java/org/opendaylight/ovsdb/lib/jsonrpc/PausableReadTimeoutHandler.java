@@ -0,0 +1,41 @@
+/*
+ * Copyright © 2018 EBay Software Foundation and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.ovsdb.lib.jsonrpc;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link ReadTimeoutHandler} which does not time out while reads are paused on purpose, that is while auto-read
+ * is off. The timeout keeps being checked and applies again once reads are resumed.
+ */
+public class PausableReadTimeoutHandler extends ReadTimeoutHandler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PausableReadTimeoutHandler.class);
+
+    public PausableReadTimeoutHandler(int timeoutSeconds) {
+        super(timeoutSeconds);
+    }
+
+    public PausableReadTimeoutHandler(long timeout, TimeUnit unit) {
+        super(timeout, unit);
+    }
+
+    @Override
+    protected void readTimedOut(ChannelHandlerContext ctx) throws Exception {
+        if (!ctx.channel().config().isAutoRead()) {
+            LOG.debug("Read timeout while reads are paused on {}, ignoring it", ctx.channel());
+            return;
+        }
+        super.readTimedOut(ctx);
+    }
+}
@@ -9,6 +9,7 @@ package org.opendaylight.ovsdb.lib.message;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -22,6 +23,8 @@ public class MonitorRequest {
     @JsonIgnore String tableName;
     Set<String> columns;
     MonitorSelect select;
+    // monitor_cond only: Condition clauses or boolean literals, all of which a row must match
+    List<Object> where;
 
     public MonitorRequest() {
     }
@@ -51,6 +54,14 @@ public class MonitorRequest {
         this.select = select;
     }
 
+    public List<Object> getWhere() {
+        return where;
+    }
+
+    public void setWhere(List<Object> where) {
+        this.where = where;
+    }
+
     public Set<String> getColumns() {
         return columns;
     }
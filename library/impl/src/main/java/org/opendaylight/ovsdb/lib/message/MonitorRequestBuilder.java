@@ -8,9 +8,12 @@
 
 package org.opendaylight.ovsdb.lib.message;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import org.opendaylight.ovsdb.lib.notation.Condition;
+import org.opendaylight.ovsdb.lib.notation.Function;
 import org.opendaylight.ovsdb.lib.schema.ColumnSchema;
 import org.opendaylight.ovsdb.lib.schema.TableSchema;
 
@@ -19,6 +22,7 @@ public class MonitorRequestBuilder<E extends TableSchema<E>> {
     private final E tableSchema;
     private final Collection<String> columns = new HashSet<>();
     private MonitorSelect select;
+    private final List<Object> where = new ArrayList<>();
 
     public MonitorRequestBuilder(E tableSchema) {
         this.tableSchema = tableSchema;
@@ -50,6 +54,31 @@ public class MonitorRequestBuilder<E extends TableSchema<E>> {
         return this.columns;
     }
 
+    /**
+     * Restricts a monitor_cond request to the rows matching the condition, in addition to any condition
+     * already added. The conditions are not sent with plain monitor requests, which do not support them.
+     */
+    public MonitorRequestBuilder<E> addCondition(Condition condition) {
+        this.where.add(condition);
+        return this;
+    }
+
+    public MonitorRequestBuilder<E> addCondition(ColumnSchema<E, ?> column, Function function, Object value) {
+        return addCondition(new Condition(column.getName(), function, value));
+    }
+
+    /**
+     * Adds a literal condition, {@code false} selecting no rows at all and {@code true} all of them.
+     */
+    public MonitorRequestBuilder<E> addCondition(boolean value) {
+        this.where.add(value);
+        return this;
+    }
+
+    public List<Object> getConditions() {
+        return this.where;
+    }
+
     public MonitorRequestBuilder<E> with(MonitorSelect what) {
         this.select = what;
         return this;
@@ -58,6 +87,9 @@ public class MonitorRequestBuilder<E extends TableSchema<E>> {
     public MonitorRequest build() {
         MonitorRequest request = new MonitorRequest(tableSchema.getName(), new HashSet<>(this.columns));
         request.setSelect(select == null ? new MonitorSelect() : select);
+        if (!where.isEmpty()) {
+            request.setWhere(new ArrayList<>(where));
+        }
         return request;
     }
 }
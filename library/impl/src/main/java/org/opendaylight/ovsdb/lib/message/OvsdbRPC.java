@@ -32,11 +32,17 @@ public interface OvsdbRPC {
 
     ListenableFuture<JsonNode> monitor_cancel(Params jsonValue);
 
-    ListenableFuture<Object> lock(List<String> id);
+    ListenableFuture<JsonNode> monitor_cond(Params request);
 
-    ListenableFuture<Object> steal(List<String> id);
+    ListenableFuture<JsonNode> monitor_cond_change(Params request);
 
-    ListenableFuture<Object> unlock(List<String> id);
+    ListenableFuture<JsonNode> monitor_cond_since(Params request);
+
+    ListenableFuture<JsonNode> lock(List<String> id);
+
+    ListenableFuture<JsonNode> steal(List<String> id);
+
+    ListenableFuture<JsonNode> unlock(List<String> id);
 
     boolean registerCallback(Callback callback);
 
@@ -44,6 +50,12 @@ public interface OvsdbRPC {
     interface Callback {
         void update(Object context, UpdateNotification upadateNotification);
 
+        // Notifications of monitor_cond monitors, carrying <table-updates2>
+        void update2(Object context, UpdateNotification updateNotification);
+
+        // Notifications of monitor_cond_since monitors, also carrying the transaction id
+        void update3(Object context, UpdateNotification updateNotification);
+
         void locked(Object context, List<String> ids);
 
         void stolen(Object context, List<String> ids);
@@ -8,22 +8,28 @@
 package org.opendaylight.ovsdb.lib.message;
 
 import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
-import org.opendaylight.ovsdb.lib.notation.json.Converter.UpdateNotificationConverter;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import java.io.IOException;
+import org.opendaylight.ovsdb.lib.jsonrpc.JsonUtils;
+import org.opendaylight.ovsdb.lib.notation.json.Converter.UpdateNotificationDeserializer;
 import org.opendaylight.ovsdb.lib.schema.DatabaseSchema;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-@JsonDeserialize(converter = UpdateNotificationConverter.class)
+@JsonDeserialize(using = UpdateNotificationDeserializer.class)
 public class UpdateNotification {
 
     private static final Logger LOG = LoggerFactory.getLogger(UpdateNotification.class);
 
     private String context;
+    private String lastTxnId;
     private DatabaseSchema databaseSchema;
     private TableUpdates update;
     private JsonNode updatesJson;
+    private TokenBuffer updatesTokens;
 
     public String getContext() {
         return context;
@@ -33,6 +39,26 @@ public class UpdateNotification {
         this.context = context;
     }
 
+    /**
+     * Returns the id of the transaction which caused an update3 notification, null for other notifications.
+     */
+    public String getLastTxnId() {
+        return lastTxnId;
+    }
+
+    public void setLastTxnId(String lastTxnId) {
+        this.lastTxnId = lastTxnId;
+    }
+
+    /**
+     * Returns the table updates of the notification, once they are parsed. The table updates can only be parsed
+     * against the schema of the monitor the notification belongs to, so they are set when the notification is
+     * dispatched to its monitor and are null until then.
+     *
+     * @deprecated use the {@link TableUpdates} handed to the {@link org.opendaylight.ovsdb.lib.MonitorCallBack}
+     *             of the monitor, or {@link #getUpdates()} for the raw table updates
+     */
+    @Deprecated
     public TableUpdates getUpdate() {
         return update;
     }
@@ -48,12 +74,39 @@ public class UpdateNotification {
 
     public void setUpdates(JsonNode jsonNode) {
         this.updatesJson = jsonNode;
+        this.updatesTokens = null;
     }
 
+    public void setUpdates(TokenBuffer tokens) {
+        this.updatesJson = null;
+        this.updatesTokens = tokens;
+    }
+
+    /**
+     * Returns the raw table updates as a tree, which is built on first use when they were read as tokens.
+     * Prefer {@link #getUpdatesParser()}.
+     */
     public JsonNode getUpdates() {
+        if (updatesJson == null && updatesTokens != null) {
+            try (JsonParser parser = updatesTokens.asParser()) {
+                updatesJson = JsonUtils.readTree(parser);
+            } catch (IOException e) {
+                LOG.warn("Failed to read the table updates of {}", context, e);
+            }
+        }
         return updatesJson;
     }
 
+    /**
+     * Returns a new parser over the raw table updates, or null if the notification has none.
+     */
+    public JsonParser getUpdatesParser() {
+        if (updatesTokens != null) {
+            return updatesTokens.asParser();
+        }
+        return updatesJson == null ? null : updatesJson.traverse();
+    }
+
     public DatabaseSchema getDatabaseSchema() {
         return databaseSchema;
     }
@@ -8,11 +8,15 @@
 
 package org.opendaylight.ovsdb.lib.notation.json;
 
-import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import com.fasterxml.jackson.databind.util.StdConverter;
-import org.opendaylight.ovsdb.lib.message.TableUpdates;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import java.io.IOException;
+import org.opendaylight.ovsdb.lib.jsonrpc.JsonUtils;
 import org.opendaylight.ovsdb.lib.message.UpdateNotification;
 import org.opendaylight.ovsdb.lib.notation.OvsdbMap;
 import org.opendaylight.ovsdb.lib.notation.OvsdbSet;
@@ -50,6 +54,48 @@ public final class Converter {
         }
     }
 
+    /**
+     * Reads the params of an update notification from the token stream. The table updates are kept as tokens, to
+     * be parsed against the schema of their monitor.
+     */
+    public static class UpdateNotificationDeserializer extends StdDeserializer<UpdateNotification> {
+        private static final long serialVersionUID = 1L;
+
+        public UpdateNotificationDeserializer() {
+            super(UpdateNotification.class);
+        }
+
+        @Override
+        public UpdateNotification deserialize(JsonParser parser, DeserializationContext ctxt) throws IOException {
+            if (!parser.isExpectedStartArrayToken()) {
+                parser.skipChildren();
+                return null;
+            }
+            UpdateNotification un = new UpdateNotification();
+            if (parser.nextToken() == JsonToken.END_ARRAY) {
+                return null;
+            }
+            un.setContext(ctxt.readValue(parser, JsonNode.class).asText());
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.VALUE_STRING) {
+                // update3: [<json-value>, <last-txn-id>, <table-updates2>]
+                un.setLastTxnId(parser.getText());
+                token = parser.nextToken();
+            }
+            if (token == JsonToken.END_ARRAY) {
+                return null;
+            }
+            TokenBuffer updates = new TokenBuffer(parser, ctxt);
+            updates.copyCurrentStructure(parser);
+            un.setUpdates(updates);
+            if (parser.nextToken() != JsonToken.END_ARRAY) {
+                JsonUtils.skipToEndOfArray(parser);
+                return null;
+            }
+            return un;
+        }
+    }
+
     static class MapDeser {
         public OvsdbMap<Object, Object> deserialize(JsonNode node) {
             if (node.isArray() && node.size() == 2) {
@@ -100,11 +146,16 @@ public final class Converter {
             UpdateNotification un = new UpdateNotification();
             if (node.isArray() && node.size() == 2) {
                 un.setContext(node.get(0).asText());
+                // The table updates are parsed against the monitored DatabaseSchema, see
+                // DatabaseSchema.updatesFromJson(JsonParser)
                 un.setUpdates(node.get(1));
-                ObjectMapper objectMapper = new ObjectMapper();
-                objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-                TableUpdates updates = objectMapper.convertValue(node.get(1), TableUpdates.class);
-                un.setUpdate(updates);
+                return un;
+            }
+            if (node.isArray() && node.size() == 3) {
+                // update3: [<json-value>, <last-txn-id>, <table-updates2>]
+                un.setContext(node.get(0).asText());
+                un.setLastTxnId(node.get(1).asText());
+                un.setUpdates(node.get(2));
                 return un;
             }
             return null;
@@ -8,11 +8,15 @@
 
 package org.opendaylight.ovsdb.lib.schema;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
 import org.opendaylight.ovsdb.lib.error.TyperException;
+import org.opendaylight.ovsdb.lib.jsonrpc.JsonUtils;
 import org.opendaylight.ovsdb.lib.notation.ReferencedRow;
 import org.opendaylight.ovsdb.lib.notation.UUID;
 
@@ -80,6 +84,14 @@ public abstract class BaseType<E extends BaseType<E>> {
 
     public abstract Object toValue(JsonNode value);
 
+    /**
+     * Streaming counterpart of {@link #toValue(JsonNode)}, converting the value at the current token of the
+     * parser. Subclasses handle plain scalars directly, anything else is read into a tree first.
+     */
+    public Object toValue(JsonParser parser) throws IOException {
+        return toValue(JsonUtils.readTree(parser));
+    }
+
     public abstract void validate(Object value);
 
     public static class IntegerBaseType extends BaseType<IntegerBaseType> {
@@ -113,6 +125,11 @@ public abstract class BaseType<E extends BaseType<E>> {
             return value.asLong();
         }
 
+        @Override
+        public Object toValue(JsonParser parser) throws IOException {
+            return parser.currentToken().isScalarValue() ? parser.getValueAsLong() : super.toValue(parser);
+        }
+
         @Override
         public void validate(Object value) {
 
@@ -231,6 +248,11 @@ public abstract class BaseType<E extends BaseType<E>> {
             return value.asDouble();
         }
 
+        @Override
+        public Object toValue(JsonParser parser) throws IOException {
+            return parser.currentToken().isScalarValue() ? parser.getValueAsDouble() : super.toValue(parser);
+        }
+
         @Override
         public void validate(Object value) {
 
@@ -338,6 +360,11 @@ public abstract class BaseType<E extends BaseType<E>> {
             return value.asBoolean();
         }
 
+        @Override
+        public Object toValue(JsonParser parser) throws IOException {
+            return parser.currentToken().isScalarValue() ? parser.getValueAsBoolean() : super.toValue(parser);
+        }
+
         @Override
         public void validate(Object value) {
 
@@ -380,6 +407,11 @@ public abstract class BaseType<E extends BaseType<E>> {
             return value.asText();
         }
 
+        @Override
+        public Object toValue(JsonParser parser) throws IOException {
+            return parser.currentToken().isScalarValue() ? parser.getText() : super.toValue(parser);
+        }
+
         @Override
         public void validate(Object value) {
 
@@ -512,6 +544,25 @@ public abstract class BaseType<E extends BaseType<E>> {
             return null;
         }
 
+        @Override
+        public Object toValue(JsonParser parser) throws IOException {
+            if (parser.currentToken() != JsonToken.START_ARRAY) {
+                return super.toValue(parser);
+            }
+            UUID uuid = null;
+            if (parser.nextToken() == JsonToken.VALUE_STRING && "uuid".equals(parser.getText())
+                    && parser.nextToken() == JsonToken.VALUE_STRING) {
+                uuid = new UUID(parser.getText());
+                parser.nextToken();
+            }
+            if (parser.currentToken() != JsonToken.END_ARRAY) {
+                // not a ["uuid", <uuid>] pair
+                JsonUtils.skipToEndOfArray(parser);
+                return null;
+            }
+            return uuid;
+        }
+
         @Override
         public void validate(Object value) {
 
@@ -8,7 +8,9 @@
 
 package org.opendaylight.ovsdb.lib.schema;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
 import java.util.Map;
 import java.util.Set;
 import org.opendaylight.ovsdb.lib.error.BadSchemaException;
@@ -139,6 +141,10 @@ public class ColumnSchema<E extends TableSchema<E>, D> {
         return (D) this.getType().valueFromJson(value);
     }
 
+    public D valueFromJson(JsonParser parser) throws IOException {
+        return (D) this.getType().valueFromJson(parser);
+    }
+
     public Object getNormalizeData(D value) {
         Object untypedValue;
         if (value instanceof Set) {
@@ -8,11 +8,20 @@
 
 package org.opendaylight.ovsdb.lib.schema;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import org.opendaylight.ovsdb.lib.error.TyperException;
 import org.opendaylight.ovsdb.lib.jsonrpc.JsonUtils;
 import org.opendaylight.ovsdb.lib.notation.OvsdbMap;
 import org.opendaylight.ovsdb.lib.notation.OvsdbSet;
+import org.opendaylight.ovsdb.lib.notation.UUID;
 
 
 public abstract class ColumnType {
@@ -108,6 +117,22 @@ public abstract class ColumnType {
 
     public abstract Object valueFromJson(JsonNode value);
 
+    /**
+     * Streaming counterpart of {@link #valueFromJson(JsonNode)}, reading the value the parser is positioned at.
+     * On return the parser is positioned at the last token of that value.
+     */
+    public Object valueFromJson(JsonParser parser) throws IOException {
+        return valueFromJson(JsonUtils.readTree(parser));
+    }
+
+    /**
+     * Applies an update2 "modify" diff, as read by {@link #valueFromJson}, to the current value of a column
+     * of this type. Single valued columns are simply replaced by the diff.
+     */
+    public Object applyDiff(Object value, Object diff) {
+        return diff;
+    }
+
     public abstract void validate(Object value);
 
     @Override
@@ -219,6 +244,54 @@ public abstract class ColumnType {
             }
         }
 
+        @Override
+        public Object valueFromJson(JsonParser parser) throws IOException {
+            if (!isMultiValued()) {
+                return getBaseType().toValue(parser);
+            }
+            OvsdbSet<Object> result = new OvsdbSet<>();
+            if (parser.currentToken() != JsonToken.START_ARRAY) {
+                result.add(getBaseType().toValue(parser));
+                return result;
+            }
+            if (parser.nextToken() == JsonToken.VALUE_STRING) {
+                if ("set".equals(parser.getText())) {
+                    if (parser.nextToken() == JsonToken.START_ARRAY) {
+                        while (parser.nextToken() != JsonToken.END_ARRAY) {
+                            result.add(getBaseType().toValue(parser));
+                        }
+                        parser.nextToken();
+                    }
+                } else if ("uuid".equals(parser.getText()) && parser.nextToken() == JsonToken.VALUE_STRING) {
+                    // a single ["uuid", <uuid>] atom
+                    result.add(new UUID(parser.getText()));
+                    parser.nextToken();
+                }
+            }
+            JsonUtils.skipToEndOfArray(parser);
+            return result;
+        }
+
+        /**
+         * The diff of a set holds the elements added or removed: the new set is the symmetric difference.
+         * Only sets with a maximum above 1 carry a diff, optional scalars hold their new value as is.
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object applyDiff(Object value, Object diff) {
+            if (getMax() <= 1 || !(diff instanceof Set)) {
+                return diff;
+            }
+            OvsdbSet<Object> result = value instanceof Set ? new OvsdbSet<>(new HashSet<>((Set<Object>) value))
+                    : new OvsdbSet<>();
+            for (Object element : (Set<Object>) diff) {
+                if (!result.remove(element)) {
+                    result.add(element);
+                }
+            }
+            return result;
+        }
+
         @Override
         public void validate(Object value) {
             this.baseType.validate(value);
@@ -287,6 +360,54 @@ public abstract class ColumnType {
             return null;
         }
 
+        @Override
+        public Object valueFromJson(JsonParser parser) throws IOException {
+            if (parser.currentToken() != JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                return null;
+            }
+            OvsdbMap<Object, Object> map = null;
+            if (parser.nextToken() == JsonToken.VALUE_STRING && "map".equals(parser.getText())
+                    && parser.nextToken() == JsonToken.START_ARRAY) {
+                map = new OvsdbMap<>();
+                while (parser.nextToken() == JsonToken.START_ARRAY) {
+                    parser.nextToken();
+                    Object key = getKeyType().toValue(parser);
+                    parser.nextToken();
+                    Object value = getBaseType().toValue(parser);
+                    parser.nextToken();
+                    JsonUtils.skipToEndOfArray(parser);
+                    map.put(key, value);
+                }
+                JsonUtils.skipToEndOfArray(parser);
+                parser.nextToken();
+            }
+            JsonUtils.skipToEndOfArray(parser);
+            return map;
+        }
+
+        /**
+         * The diff of a map holds the pairs added, removed or updated: a key absent from the current map is
+         * added, a pair present as is is removed and a key with a different value gets the new value.
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object applyDiff(Object value, Object diff) {
+            if (!(diff instanceof Map)) {
+                return value;
+            }
+            OvsdbMap<Object, Object> result = value instanceof Map
+                    ? new OvsdbMap<>(new HashMap<>((Map<Object, Object>) value)) : new OvsdbMap<>();
+            for (Map.Entry<Object, Object> entry : ((Map<Object, Object>) diff).entrySet()) {
+                if (Objects.equals(result.get(entry.getKey()), entry.getValue())) {
+                    result.remove(entry.getKey());
+                } else {
+                    result.put(entry.getKey(), entry.getValue());
+                }
+            }
+            return result;
+        }
+
         @Override
         public void validate(Object value) {
             this.baseType.validate(value);
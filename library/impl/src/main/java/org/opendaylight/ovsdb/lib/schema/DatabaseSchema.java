@@ -8,8 +8,11 @@
 
 package org.opendaylight.ovsdb.lib.schema;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.reflect.Invokable;
+import java.io.IOException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.HashMap;
@@ -17,6 +20,10 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 import org.opendaylight.ovsdb.lib.error.ParsingException;
+import org.opendaylight.ovsdb.lib.message.TableUpdate;
+import org.opendaylight.ovsdb.lib.message.TableUpdates;
+import org.opendaylight.ovsdb.lib.notation.Row;
+import org.opendaylight.ovsdb.lib.notation.UUID;
 import org.opendaylight.ovsdb.lib.notation.Version;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -103,6 +110,68 @@ public class DatabaseSchema {
         return new DatabaseSchema(dbName, dbVersion, tables);
     }
 
+    /**
+     * Reads the {@code <table-updates>} object the parser is positioned at into {@link TableUpdates}, driven by
+     * this schema. Rows and columns are built directly from the token stream, tables unknown to the schema are
+     * skipped.
+     */
+    public TableUpdates updatesFromJson(JsonParser parser) throws IOException {
+        return updatesFromJson(parser, false, null);
+    }
+
+    /**
+     * Same as {@link #updatesFromJson(JsonParser)}, for the {@code <table-updates2>} object of monitor_cond
+     * replies and update2 notifications.
+     */
+    public TableUpdates updates2FromJson(JsonParser parser) throws IOException {
+        return updatesFromJson(parser, true, null);
+    }
+
+    /**
+     * Reads a {@code <table-updates2>} object against the rows already received on a monitor, see
+     * {@link TableSchema#updates2FromJson(JsonParser, Map)}.
+     *
+     * @param rowCache rows known to the monitor, keyed by table name then UUID; updated in place
+     */
+    public TableUpdates updates2FromJson(JsonParser parser, Map<String, Map<UUID, Row<?>>> rowCache)
+            throws IOException {
+        return updatesFromJson(parser, true, rowCache);
+    }
+
+    private TableUpdates updatesFromJson(JsonParser parser, boolean update2,
+            Map<String, Map<UUID, Row<?>>> rowCache) throws IOException {
+        TableUpdates tableUpdates = new TableUpdates();
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return tableUpdates;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String tableName = parser.getCurrentName();
+            TableSchema<?> table = tables.get(tableName);
+            if (parser.nextToken() != JsonToken.START_OBJECT || table == null) {
+                LOG.debug("Skipping update for table {} not present in schema {}", tableName, name);
+                parser.skipChildren();
+                continue;
+            }
+            if (!update2) {
+                tableUpdates.getUpdates().put(tableName, table.updatesFromJson(parser));
+            } else if (rowCache == null) {
+                tableUpdates.getUpdates().put(tableName, table.updates2FromJson(parser));
+            } else {
+                tableUpdates.getUpdates().put(tableName, updates2FromJson(table, parser,
+                        rowCache.computeIfAbsent(tableName, key -> new HashMap<>())));
+            }
+        }
+        return tableUpdates;
+    }
+
+    // The row cache of a table is only ever filled by that table's schema, so its rows are all Row<E>
+    @SuppressWarnings("unchecked")
+    private static <E extends TableSchema<E>> TableUpdate<E> updates2FromJson(TableSchema<E> table,
+            JsonParser parser, Map<UUID, Row<?>> rows) throws IOException {
+        return table.updates2FromJson(parser, (Map<UUID, Row<E>>) (Map<UUID, ?>) rows);
+    }
+
     public String getName() {
         return name;
     }
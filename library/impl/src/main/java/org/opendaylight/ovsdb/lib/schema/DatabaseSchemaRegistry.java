@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2018 EBay Software Foundation and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.ovsdb.lib.schema;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Process-wide registry of the database schemas learnt from OVSDB connections. Servers running the same
+ * schema report the same name, version and checksum: they get the same {@link DatabaseSchema} instance, parsed
+ * once and shared by all their connections. Schemas are weakly referenced, they are dropped once no connection
+ * uses them anymore.
+ *
+ * <p>Shared schemas are complete, including the internally generated columns, and must not be modified.
+ */
+public final class DatabaseSchemaRegistry {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DatabaseSchemaRegistry.class);
+
+    private static final Cache<List<String>, DatabaseSchema> SCHEMAS = CacheBuilder.newBuilder().weakValues()
+            .recordStats().build();
+
+    private DatabaseSchemaRegistry() {
+        // Prevent instantiating a utility class
+    }
+
+    /**
+     * Returns the schema described by the given get_schema result, parsing it only if no schema with the same
+     * name, version and checksum is registered. Schemas without checksum are parsed and never shared.
+     *
+     * @param dbName the database name
+     * @param json the get_schema result
+     * @return the database schema, with its internally generated columns populated
+     */
+    public static DatabaseSchema getDatabaseSchema(String dbName, JsonNode json) {
+        JsonNode version = json.get("version");
+        JsonNode cksum = json.get("cksum");
+        if (version == null || cksum == null) {
+            return parse(dbName, json);
+        }
+
+        List<String> key = Arrays.asList(dbName, version.asText(), cksum.asText());
+        try {
+            return SCHEMAS.get(key, () -> {
+                LOG.debug("Registering schema {}", key);
+                return parse(dbName, json);
+            });
+        } catch (ExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new IllegalStateException("Failed to parse schema " + key, e.getCause());
+        }
+    }
+
+    /**
+     * Returns the registered schema with the given name, version and checksum, or null if there is none.
+     */
+    public static DatabaseSchema getRegisteredSchema(String dbName, String version, String cksum) {
+        return SCHEMAS.getIfPresent(Arrays.asList(dbName, version, cksum));
+    }
+
+    private static DatabaseSchema parse(String dbName, JsonNode json) {
+        DatabaseSchema dbSchema = DatabaseSchema.fromJson(dbName, json);
+        dbSchema.populateInternallyGeneratedColumns();
+        return dbSchema;
+    }
+
+    /**
+     * Returns the number of schemas currently registered.
+     */
+    public static long getSchemaCount() {
+        SCHEMAS.cleanUp();
+        return SCHEMAS.size();
+    }
+
+    /**
+     * Returns how many times a registered schema was handed out instead of parsing a new one.
+     */
+    public static long getHitCount() {
+        return SCHEMAS.stats().hitCount();
+    }
+}
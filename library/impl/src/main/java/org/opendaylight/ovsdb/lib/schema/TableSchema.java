@@ -8,8 +8,11 @@
 
 package org.opendaylight.ovsdb.lib.schema;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
@@ -25,10 +28,14 @@ import org.opendaylight.ovsdb.lib.notation.UUID;
 import org.opendaylight.ovsdb.lib.operations.Insert;
 import org.opendaylight.ovsdb.lib.schema.BaseType.UuidBaseType;
 import org.opendaylight.ovsdb.lib.schema.ColumnType.AtomicColumnType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 
 public abstract class TableSchema<E extends TableSchema<E>> {
 
+    private static final Logger LOG = LoggerFactory.getLogger(TableSchema.class);
+
     private String name;
     private Map<String, ColumnSchema> columns;
 
@@ -136,6 +143,157 @@ public abstract class TableSchema<E extends TableSchema<E>> {
         return tableUpdate;
     }
 
+    /**
+     * Streaming counterpart of {@link #updatesFromJson(JsonNode)}, reading the {@code <table-update>} object the
+     * parser is positioned at straight into rows, without building an intermediate tree.
+     */
+    public TableUpdate<E> updatesFromJson(JsonParser parser) throws IOException {
+        TableUpdate<E> tableUpdate = new TableUpdate<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            UUID uuid = new UUID(parser.getCurrentName());
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+
+            Row<E> newRow = null;
+            Row<E> oldRow = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                if (parser.nextToken() != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                } else if ("new".equals(field)) {
+                    newRow = createRow(parser);
+                } else if ("old".equals(field)) {
+                    oldRow = createRow(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+
+            tableUpdate.addRow(uuid, oldRow, newRow);
+        }
+        return tableUpdate;
+    }
+
+    /**
+     * Reads the {@code <table-update2>} object the parser is positioned at. Rows reported as "initial" or
+     * "insert" are returned as new rows, rows reported as "delete" as old rows. For "modify", the new row only
+     * holds the columns which changed, in the diff encoding sent by the server.
+     */
+    public TableUpdate<E> updates2FromJson(JsonParser parser) throws IOException {
+        return updates2FromJson(parser, null);
+    }
+
+    /**
+     * Reads the {@code <table-update2>} object the parser is positioned at, applying it to the rows of this
+     * table previously received on the same monitor. Unlike {@link #updates2FromJson(JsonParser)}, the returned
+     * update holds complete rows: the cached row as old row of modified and deleted rows, and the cached row
+     * with the diff applied as new row of modified ones. The cache is updated accordingly.
+     *
+     * @param rows rows of this table known to the monitor, keyed by UUID, or null to return diffs as is
+     */
+    public TableUpdate<E> updates2FromJson(JsonParser parser, Map<UUID, Row<E>> rows) throws IOException {
+        TableUpdate<E> tableUpdate = new TableUpdate<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            UUID uuid = new UUID(parser.getCurrentName());
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+
+            Row<E> newRow = null;
+            Row<E> oldRow = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken token = parser.nextToken();
+                switch (field) {
+                    case "initial":
+                    case "insert":
+                        newRow = token == JsonToken.START_OBJECT ? createRow(parser) : skipRow(parser);
+                        if (rows != null) {
+                            rows.put(uuid, newRow);
+                        }
+                        break;
+                    case "modify":
+                        newRow = token == JsonToken.START_OBJECT ? createRow(parser) : skipRow(parser);
+                        if (rows != null) {
+                            oldRow = rows.get(uuid);
+                            if (oldRow != null) {
+                                newRow = applyDiff(oldRow, newRow);
+                            } else {
+                                LOG.debug("Modify of unknown row {} in table {}, keeping the diff as row", uuid,
+                                        name);
+                            }
+                            rows.put(uuid, newRow);
+                        }
+                        break;
+                    case "delete":
+                        // the deleted row content is usually omitted ("delete": null)
+                        oldRow = token == JsonToken.START_OBJECT ? createRow(parser) : skipRow(parser);
+                        if (rows != null) {
+                            Row<E> cached = rows.remove(uuid);
+                            if (cached != null) {
+                                oldRow = cached;
+                            }
+                        }
+                        break;
+                    default:
+                        parser.skipChildren();
+                        break;
+                }
+            }
+
+            tableUpdate.addRow(uuid, oldRow, newRow);
+        }
+        return tableUpdate;
+    }
+
+    /**
+     * Returns a new row made of the columns of the given row, with the update2 diff of each column present in
+     * the diff row applied. The given row is not modified.
+     */
+    @SuppressWarnings("unchecked")
+    public Row<E> applyDiff(Row<E> row, Row<E> diff) {
+        Row<E> result = new Row<>(this);
+        for (Column<E, ?> column : row.getColumns()) {
+            result.addColumn(column.getSchema().getName(), column);
+        }
+        for (Column<E, ?> column : diff.getColumns()) {
+            ColumnSchema<E, Object> columnSchema = (ColumnSchema<E, Object>) column.getSchema();
+            Column<E, Object> current = row.getColumn(columnSchema);
+            Object value = columnSchema.getType().applyDiff(current == null ? null : current.getData(),
+                    column.getData());
+            result.addColumn(columnSchema.getName(), new Column<>(columnSchema, value));
+        }
+        return result;
+    }
+
+    private Row<E> skipRow(JsonParser parser) throws IOException {
+        parser.skipChildren();
+        return new Row<>(this);
+    }
+
+    /**
+     * Streaming counterpart of {@link #createRow(ObjectNode)}, reading the {@code <row>} object the parser is
+     * positioned at.
+     */
+    public Row<E> createRow(JsonParser parser) throws IOException {
+        Row<E> row = new Row<>(this);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String columnName = parser.getCurrentName();
+            ColumnSchema<E, Object> schema = column(columnName, Object.class);
+            parser.nextToken();
+            // Same as createRow(ObjectNode), skip the "hidden" columns not reported in getSchema
+            if (schema != null) {
+                row.addColumn(columnName, new Column<>(schema, schema.valueFromJson(parser)));
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return row;
+    }
+
     public Row<E> createRow(ObjectNode rowNode) {
         List<Column<E, ?>> newColumns = new ArrayList<>();
         for (Iterator<Map.Entry<String, JsonNode>> iter = rowNode.fields(); iter.hasNext();) {
@@ -0,0 +1,107 @@
+/*
+ * Copyright © 2018 EBay Software Foundation and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.ovsdb.lib.schema.typed;
+
+import com.google.common.base.Preconditions;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.opendaylight.ovsdb.lib.message.TableUpdate;
+import org.opendaylight.ovsdb.lib.message.TableUpdates;
+import org.opendaylight.ovsdb.lib.notation.UUID;
+import org.opendaylight.ovsdb.lib.schema.DatabaseSchema;
+import org.opendaylight.ovsdb.lib.schema.GenericTableSchema;
+
+/**
+ * Table updates indexed by typed row class, meant to be shared by all the consumers of one update notification.
+ * The rows of each typed table are wrapped once, in a single pass, the first time they are asked for; the
+ * updated, old and removed rows are then handed out as the same unmodifiable maps to every caller.
+ *
+ * <p>{@link TyperUtils#extractRowsUpdated}, {@link TyperUtils#extractRowsOld} and
+ * {@link TyperUtils#extractRowsRemoved} use the index when given an instance of this class and its schema.
+ */
+public class IndexedTableUpdates extends TableUpdates {
+
+    private final DatabaseSchema dbSchema;
+    private final ConcurrentMap<Class<?>, TypedRows<?>> index = new ConcurrentHashMap<>();
+
+    public IndexedTableUpdates(TableUpdates updates, DatabaseSchema dbSchema) {
+        super(Preconditions.checkNotNull(updates).getUpdates());
+        this.dbSchema = Preconditions.checkNotNull(dbSchema);
+    }
+
+    public DatabaseSchema getDatabaseSchema() {
+        return dbSchema;
+    }
+
+    /**
+     * Returns the new version of the rows of type klazz which were inserted or updated.
+     */
+    public <T> Map<UUID, T> getRowsUpdated(Class<T> klazz) {
+        return getTypedRows(klazz).updated;
+    }
+
+    /**
+     * Returns the old version of the rows of type klazz which were updated or removed.
+     */
+    public <T> Map<UUID, T> getRowsOld(Class<T> klazz) {
+        return getTypedRows(klazz).old;
+    }
+
+    /**
+     * Returns the rows of type klazz which were removed.
+     */
+    public <T> Map<UUID, T> getRowsRemoved(Class<T> klazz) {
+        return getTypedRows(klazz).removed;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> TypedRows<T> getTypedRows(Class<T> klazz) {
+        return (TypedRows<T>) index.computeIfAbsent(klazz, key -> new TypedRows<>(klazz));
+    }
+
+    private final class TypedRows<T> {
+        private final Map<UUID, T> updated;
+        private final Map<UUID, T> old;
+        private final Map<UUID, T> removed;
+
+        TypedRows(Class<T> klazz) {
+            Map<UUID, T> updatedRows = new HashMap<>();
+            Map<UUID, T> oldRows = new HashMap<>();
+            Map<UUID, T> removedRows = new HashMap<>();
+            for (TableUpdate<GenericTableSchema>.RowUpdate<GenericTableSchema> rowUpdate
+                    : TyperUtils.extractRowUpdates(klazz, IndexedTableUpdates.this, dbSchema).values()) {
+                if (rowUpdate == null) {
+                    continue;
+                }
+                if (rowUpdate.getNew() != null) {
+                    updatedRows.put(rowUpdate.getUuid(),
+                            TyperUtils.getTypedRowWrapper(dbSchema, klazz, rowUpdate.getNew()));
+                }
+                if (rowUpdate.getOld() != null) {
+                    // The old and removed views share the same wrapper
+                    T oldRow = TyperUtils.getTypedRowWrapper(dbSchema, klazz, rowUpdate.getOld());
+                    oldRows.put(rowUpdate.getUuid(), oldRow);
+                    if (rowUpdate.getNew() == null) {
+                        removedRows.put(rowUpdate.getUuid(), oldRow);
+                    }
+                }
+            }
+            this.updated = unmodifiable(updatedRows);
+            this.old = unmodifiable(oldRows);
+            this.removed = unmodifiable(removedRows);
+        }
+
+        private Map<UUID, T> unmodifiable(Map<UUID, T> rows) {
+            return rows.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(rows);
+        }
+    }
+}
@@ -10,6 +10,10 @@ package org.opendaylight.ovsdb.lib.schema.typed;
 
 import com.google.common.base.Objects;
 import com.google.common.base.Preconditions;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.reflect.Reflection;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.lang.reflect.InvocationHandler;
@@ -17,6 +21,8 @@ import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import org.opendaylight.ovsdb.lib.error.ColumnSchemaNotFoundException;
 import org.opendaylight.ovsdb.lib.error.SchemaVersionMismatchException;
 import org.opendaylight.ovsdb.lib.error.TableSchemaNotFoundException;
@@ -43,6 +49,11 @@ public final class TyperUtils {
     private static final String GETCOLUMN_ENDS_WITH = "Column";
     private static final String GETROW_ENDS_WITH = "Row";
 
+    // Typed row methods resolved once per database schema and typed class. Schemas are weakly referenced (by
+    // identity), the resolved methods only refer to table and column schemas.
+    private static final LoadingCache<DatabaseSchema, ConcurrentMap<Class<?>, TypedRowMethods>> TYPED_ROW_METHODS =
+            CacheBuilder.newBuilder().weakKeys().build(CacheLoader.from(key -> new ConcurrentHashMap<>()));
+
     private TyperUtils() {
         // Prevent instantiating a utility class
     }
@@ -215,6 +226,103 @@ public final class TyperUtils {
         }
     }
 
+    /**
+     * Typed row method whose column schema and versions were resolved and validated against a database schema.
+     */
+    private static final class TypedRowMethod {
+        final MethodType type;
+        final String columnName;
+        final ColumnSchema<GenericTableSchema, Object> columnSchema;
+
+        TypedRowMethod(MethodType type, String columnName, ColumnSchema<GenericTableSchema, Object> columnSchema) {
+            this.type = type;
+            this.columnName = columnName;
+            this.columnSchema = columnSchema;
+        }
+    }
+
+    /**
+     * The methods of a typed class which can be served without further lookups, for a given database schema.
+     * Methods which failed to resolve (unknown column, version mismatch...) are absent and keep going through
+     * the lookups, so that they fail at invocation time as they always did.
+     */
+    private static final class TypedRowMethods {
+        final GenericTableSchema tableSchema;
+        final Map<Method, TypedRowMethod> methods;
+
+        TypedRowMethods(GenericTableSchema tableSchema, Map<Method, TypedRowMethod> methods) {
+            this.tableSchema = tableSchema;
+            this.methods = methods;
+        }
+    }
+
+    /**
+     * Returns the resolved methods of klazz for dbSchema, or null if klazz does not belong to dbSchema.
+     */
+    private static <T> TypedRowMethods getTypedRowMethods(DatabaseSchema dbSchema, Class<T> klazz) {
+        if (dbSchema == null) {
+            return null;
+        }
+        ConcurrentMap<Class<?>, TypedRowMethods> resolved = TYPED_ROW_METHODS.getUnchecked(dbSchema);
+        TypedRowMethods typedRowMethods = resolved.get(klazz);
+        if (typedRowMethods == null) {
+            if (!isValid(dbSchema, klazz)) {
+                return null;
+            }
+            typedRowMethods = resolveTypedRowMethods(dbSchema, klazz);
+            resolved.putIfAbsent(klazz, typedRowMethods);
+        }
+        return typedRowMethods;
+    }
+
+    @SuppressWarnings({"checkstyle:IllegalCatch", "unchecked"})
+    private static <T> TypedRowMethods resolveTypedRowMethods(DatabaseSchema dbSchema, Class<T> klazz) {
+        GenericTableSchema tableSchema;
+        try {
+            tableSchema = getTableSchema(dbSchema, klazz);
+        } catch (RuntimeException e) {
+            return new TypedRowMethods(null, ImmutableMap.of());
+        }
+
+        ImmutableMap.Builder<Method, TypedRowMethod> methods = ImmutableMap.builder();
+        for (Method method : klazz.getMethods()) {
+            if (isGetTableSchema(method)) {
+                methods.put(method, new TypedRowMethod(MethodType.GETTABLESCHEMA, null, null));
+                continue;
+            } else if (isGetRow(method)) {
+                methods.put(method, new TypedRowMethod(MethodType.GETROW, null, null));
+                continue;
+            }
+
+            MethodType type;
+            if (isSetData(method)) {
+                type = MethodType.SETDATA;
+            } else if (isGetData(method)) {
+                type = MethodType.GETDATA;
+            } else if (isGetColumn(method)) {
+                type = MethodType.GETCOLUMN;
+            } else {
+                continue;
+            }
+            String columnName = getColumnName(method);
+            if (columnName == null) {
+                continue;
+            }
+            try {
+                checkColumnSchemaVersion(dbSchema, method);
+            } catch (SchemaVersionMismatchException e) {
+                continue;
+            }
+            ColumnSchema<GenericTableSchema, Object> columnSchema = (ColumnSchema<GenericTableSchema, Object>)
+                    tableSchema.column(columnName);
+            if (columnSchema == null && type != MethodType.SETDATA) {
+                continue;
+            }
+            methods.put(method, new TypedRowMethod(type, columnName, columnSchema));
+        }
+        return new TypedRowMethods(tableSchema, methods.build());
+    }
+
     /**
      * Returns a Typed Proxy implementation for the klazz passed as a parameter.
      * Per design choice, the Typed Proxy implementation is just a Wrapper on top of the actual
@@ -257,13 +365,41 @@ public final class TyperUtils {
      */
     public static <T> T getTypedRowWrapper(final DatabaseSchema dbSchema, final Class<T> klazz,
                                            final Row<GenericTableSchema> row) {
-        if (!isValid(dbSchema, klazz)) {
+        final TypedRowMethods typedRowMethods = getTypedRowMethods(dbSchema, klazz);
+        if (typedRowMethods == null) {
             return null;
         }
         if (row != null) {
-            row.setTableSchema(getTableSchema(dbSchema, klazz));
+            row.setTableSchema(typedRowMethods.tableSchema != null ? typedRowMethods.tableSchema
+                    : getTableSchema(dbSchema, klazz));
         }
         return Reflection.newProxy(klazz, new InvocationHandler() {
+            private Object invokeResolved(Object proxy, TypedRowMethod resolved, Method method, Object[] args) {
+                switch (resolved.type) {
+                    case GETTABLESCHEMA:
+                        return typedRowMethods.tableSchema;
+                    case GETROW:
+                        return row;
+                    case GETDATA:
+                        Column<GenericTableSchema, Object> data = row == null ? null
+                                : row.getColumn(resolved.columnSchema);
+                        return data == null ? null : data.getData();
+                    case GETCOLUMN:
+                        // When the row is null, that might indicate that the user maybe interested
+                        // only in the ColumnSchema and not on the Data.
+                        return row == null ? new Column<>(resolved.columnSchema, null)
+                                : row.getColumn(resolved.columnSchema);
+                    case SETDATA:
+                        if (args == null || args.length != 1) {
+                            throw new TyperException("Setter method : " + method.getName() + " requires 1 argument");
+                        }
+                        row.addColumn(resolved.columnName, new Column<>(resolved.columnSchema, args[0]));
+                        return proxy;
+                    default:
+                        throw new UnsupportedMethodException("Method not supported " + method.toString());
+                }
+            }
+
             private Object processGetData(Method method) {
                 String columnName = getColumnName(method);
                 checkColumnSchemaVersion(dbSchema, method);
@@ -360,6 +496,10 @@ public final class TyperUtils {
 
             @Override
             public Object invoke(Object proxy, Method method, Object[] args) throws Exception {
+                TypedRowMethod resolved = typedRowMethods.methods.get(method);
+                if (resolved != null) {
+                    return invokeResolved(proxy, resolved, method, args);
+                }
                 if (isGetTableSchema(method)) {
                     return processGetTableSchema();
                 } else if (isGetRow(method)) {
@@ -425,12 +565,17 @@ public final class TyperUtils {
      * @param klazz Class for row type to be extracted
      * @param updates TableUpdates from which to extract rowUpdates
      * @param dbSchema Dbschema for the TableUpdates
-     * @return Map&lt;UUID,T&gt; for the type of things being sought
+     * @return Map&lt;UUID,T&gt; for the type of things being sought, shared and unmodifiable if the updates are
+     *     {@link IndexedTableUpdates} for dbSchema
      */
     public static <T> Map<UUID,T> extractRowsUpdated(Class<T> klazz,TableUpdates updates,DatabaseSchema dbSchema) {
         Preconditions.checkNotNull(klazz);
         Preconditions.checkNotNull(updates);
         Preconditions.checkNotNull(dbSchema);
+        IndexedTableUpdates indexed = indexed(updates, dbSchema);
+        if (indexed != null) {
+            return indexed.getRowsUpdated(klazz);
+        }
         Map<UUID,T> result = new HashMap<>();
         Map<UUID,TableUpdate<GenericTableSchema>.RowUpdate<GenericTableSchema>> rowUpdates =
                 extractRowUpdates(klazz,updates,dbSchema);
@@ -454,12 +599,17 @@ public final class TyperUtils {
      * @param klazz Class for row type to be extracted
      * @param updates TableUpdates from which to extract rowUpdates
      * @param dbSchema Dbschema for the TableUpdates
-     * @return Map&lt;UUID,T&gt; for the type of things being sought
+     * @return Map&lt;UUID,T&gt; for the type of things being sought, shared and unmodifiable if the updates are
+     *     {@link IndexedTableUpdates} for dbSchema
      */
     public static <T> Map<UUID, T> extractRowsOld(Class<T> klazz, TableUpdates updates, DatabaseSchema dbSchema) {
         Preconditions.checkNotNull(klazz);
         Preconditions.checkNotNull(updates);
         Preconditions.checkNotNull(dbSchema);
+        IndexedTableUpdates indexed = indexed(updates, dbSchema);
+        if (indexed != null) {
+            return indexed.getRowsOld(klazz);
+        }
         Map<UUID,T> result = new HashMap<>();
         Map<UUID,TableUpdate<GenericTableSchema>.RowUpdate<GenericTableSchema>> rowUpdates =
                 extractRowUpdates(klazz,updates,dbSchema);
@@ -483,12 +633,17 @@ public final class TyperUtils {
      * @param klazz Class for row type to be extracted
      * @param updates TableUpdates from which to extract rowUpdates
      * @param dbSchema Dbschema for the TableUpdates
-     * @return Map&lt;UUID,T&gt; for the type of things being sought
+     * @return Map&lt;UUID,T&gt; for the type of things being sought, shared and unmodifiable if the updates are
+     *     {@link IndexedTableUpdates} for dbSchema
      */
     public static <T> Map<UUID,T> extractRowsRemoved(Class<T> klazz,TableUpdates updates,DatabaseSchema dbSchema) {
         Preconditions.checkNotNull(klazz);
         Preconditions.checkNotNull(updates);
         Preconditions.checkNotNull(dbSchema);
+        IndexedTableUpdates indexed = indexed(updates, dbSchema);
+        if (indexed != null) {
+            return indexed.getRowsRemoved(klazz);
+        }
         Map<UUID,T> result = new HashMap<>();
         Map<UUID,TableUpdate<GenericTableSchema>.RowUpdate<GenericTableSchema>> rowUpdates =
                 extractRowUpdates(klazz,updates,dbSchema);
@@ -501,6 +656,16 @@ public final class TyperUtils {
         return result;
     }
 
+    private static IndexedTableUpdates indexed(TableUpdates updates, DatabaseSchema dbSchema) {
+        if (updates instanceof IndexedTableUpdates) {
+            IndexedTableUpdates indexed = (IndexedTableUpdates) updates;
+            if (indexed.getDatabaseSchema() == dbSchema) {
+                return indexed;
+            }
+        }
+        return null;
+    }
+
     /**
      * This method extracts all RowUpdates of Class&lt;T&gt; klazz from a TableUpdates
      * that correspond to rows of type klazz.
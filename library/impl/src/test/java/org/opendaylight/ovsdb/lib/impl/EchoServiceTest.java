@@ -0,0 +1,126 @@
+/*
+ * Copyright © 2018 EBay Software Foundation and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.SettableFuture;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.ovsdb.lib.EchoServiceCallbackFilters;
+import org.opendaylight.ovsdb.lib.OvsdbClient;
+
+public class EchoServiceTest {
+
+    private final OvsdbClient client = mock(OvsdbClient.class);
+    private final EchoServiceCallbackFilters filters = mock(EchoServiceCallbackFilters.class);
+    private final EmbeddedChannel channel = new EmbeddedChannel();
+
+    @Before
+    public void setUp() {
+        when(filters.getProbeIntervalMillis()).thenReturn(1L);
+        when(filters.getMaxMissedEchoes()).thenReturn(2);
+    }
+
+    private EchoService startSilent() throws InterruptedException {
+        EchoService service = new EchoService(client, channel, filters);
+        service.start();
+        Thread.sleep(5);
+        return service;
+    }
+
+    /**
+     * Test that a silent device is probed and that its replies are recorded.
+     */
+    @Test
+    public void testEchoReplied() throws Exception {
+        SettableFuture<List<String>> reply = SettableFuture.create();
+        when(client.echo()).thenReturn(reply);
+        EchoService service = startSilent();
+
+        service.probe();
+        reply.set(Collections.emptyList());
+        channel.runPendingTasks();
+
+        verify(filters).echoReplied(anyLong(), eq(service));
+        assertTrue(service.isRunning());
+        assertEquals(1, service.getProbes());
+        assertEquals(1, service.getReplies());
+        assertEquals(1, Arrays.stream(service.getRttHistogram()).sum());
+    }
+
+    /**
+     * Test that a device which sent something within the interval is not probed.
+     */
+    @Test
+    public void testBusyDeviceNotProbed() {
+        when(filters.getProbeIntervalMillis()).thenReturn(60000L);
+        EchoService service = new EchoService(client, channel, filters);
+        service.start();
+
+        service.probe();
+
+        verify(client, never()).echo();
+        assertEquals(1, service.getSkippedProbes());
+    }
+
+    /**
+     * Test that a device missing too many echoes in a row is re-probed, then disconnected.
+     */
+    @Test
+    public void testDeadDeviceDisconnected() throws Exception {
+        when(client.echo()).thenReturn(Futures.immediateFailedFuture(new TimeoutException()));
+        EchoService service = startSilent();
+
+        service.probe();
+        channel.runPendingTasks();
+
+        verify(client, times(2)).echo();
+        verify(filters).echoMissed(1, service);
+        verify(filters).echoMissed(2, service);
+        verify(client).disconnect();
+        assertEquals(2, service.getMissed());
+        assertFalse(service.isRunning());
+    }
+
+    /**
+     * Test that an unanswered echo is not missed when the device sent something else meanwhile.
+     */
+    @Test
+    public void testSlowDeviceNotMissed() throws Exception {
+        SettableFuture<List<String>> reply = SettableFuture.create();
+        when(client.echo()).thenReturn(reply);
+        EchoService service = startSilent();
+
+        service.probe();
+        channel.writeInbound("update");
+        reply.setException(new TimeoutException());
+        channel.runPendingTasks();
+
+        verify(filters, never()).echoMissed(anyInt(), any());
+        verify(client, never()).disconnect();
+        assertEquals(0, service.getMissed());
+    }
+}
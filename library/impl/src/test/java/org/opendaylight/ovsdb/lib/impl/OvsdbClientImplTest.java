@@ -0,0 +1,279 @@
+/*
+ * Copyright © 2018 EBay Software Foundation and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import io.netty.channel.Channel;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.net.InetSocketAddress;
+import java.util.Collections;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
+import org.opendaylight.ovsdb.lib.EchoServiceCallbackFilters;
+import org.opendaylight.ovsdb.lib.LockAquisitionCallback;
+import org.opendaylight.ovsdb.lib.LockStolenCallback;
+import org.opendaylight.ovsdb.lib.MonitorCallBack;
+import org.opendaylight.ovsdb.lib.MonitorHandle;
+import org.opendaylight.ovsdb.lib.OvsdbConnectionInfo.ConnectionType;
+import org.opendaylight.ovsdb.lib.OvsdbConnectionInfo.SocketConnectionType;
+import org.opendaylight.ovsdb.lib.jsonrpc.Params;
+import org.opendaylight.ovsdb.lib.message.MonitorRequestBuilder;
+import org.opendaylight.ovsdb.lib.message.OvsdbRPC;
+import org.opendaylight.ovsdb.lib.message.TableUpdate;
+import org.opendaylight.ovsdb.lib.message.TableUpdates;
+import org.opendaylight.ovsdb.lib.message.UpdateNotification;
+import org.opendaylight.ovsdb.lib.notation.UUID;
+import org.opendaylight.ovsdb.lib.schema.DatabaseSchema;
+import org.opendaylight.ovsdb.lib.schema.GenericTableSchema;
+
+public class OvsdbClientImplTest {
+
+    private static final String BR_INT = "11111111-1111-1111-1111-111111111111";
+    private static final String BR_EX = "22222222-2222-2222-2222-222222222222";
+    private static final String BR_TUN = "33333333-3333-3333-3333-333333333333";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final OvsdbRPC rpc = mock(OvsdbRPC.class);
+    private final EmbeddedChannel channel = new EmbeddedChannel();
+    private OvsdbClientImpl client;
+    private DatabaseSchema dbSchema;
+    private GenericTableSchema bridge;
+
+    @Before
+    public void setUp() throws Exception {
+        JsonNode schemaJson = mapper.readTree(getClass().getResourceAsStream(
+                "/org/opendaylight/ovsdb/lib/schema/test_schema.json")).get("result");
+        when(rpc.get_schema(any())).thenReturn(Futures.immediateFuture(schemaJson));
+        client = new OvsdbClientImpl(rpc, channel, ConnectionType.ACTIVE,
+                SocketConnectionType.NON_SSL, MoreExecutors.directExecutor());
+        dbSchema = client.getSchema("Open_vSwitch").get();
+        bridge = dbSchema.table("Bridge", GenericTableSchema.class);
+    }
+
+    private TableUpdate<GenericTableSchema> monitorCondSince(MonitorHandle handle, String reply) throws Exception {
+        when(rpc.monitor_cond_since(any())).thenReturn(Futures.immediateFuture(mapper.readTree(reply)));
+        TableUpdates updates = client.monitorCondSince(dbSchema,
+                Collections.singletonList(new MonitorRequestBuilder<>(bridge).addColumn("name").build()),
+                handle, mock(MonitorCallBack.class));
+        return updates.getUpdate(bridge);
+    }
+
+    private String row(String uuid, String name) {
+        return "\"" + uuid + "\":{\"initial\":{\"name\":\"" + name + "\"}}";
+    }
+
+    /**
+     * Test that resuming a monitor only reports the changes, whether the server replays them from the last
+     * transaction or sends its full contents.
+     */
+    @Test
+    public void testMonitorCondSinceResume() throws Exception {
+        MonitorHandle handle = new MonitorHandle("monitor");
+        TableUpdate<GenericTableSchema> update = monitorCondSince(handle, "[false,\"txn-1\",{\"Bridge\":{"
+                + row(BR_INT, "br-int") + "," + row(BR_EX, "br-ex") + "}}]");
+        assertEquals(2, update.getRows().size());
+        assertEquals("txn-1", handle.getLastTxnId());
+
+        // the server knows txn-1 and replays a single change
+        update = monitorCondSince(handle, "[true,\"txn-2\",{\"Bridge\":{\"" + BR_EX
+                + "\":{\"modify\":{\"name\":\"br-ex0\"}}}}]");
+        assertEquals(1, update.getRows().size());
+        assertEquals("br-ex", update.getOld(new UUID(BR_EX)).getColumn(bridge.column("name", String.class))
+                .getData());
+        assertEquals("br-ex0", update.getNew(new UUID(BR_EX)).getColumn(bridge.column("name", String.class))
+                .getData());
+        assertEquals("txn-2", handle.getLastTxnId());
+        TableUpdate<GenericTableSchema> snapshot = handle.getSnapshotUpdates().getUpdate(bridge);
+        assertEquals(2, snapshot.getRows().size());
+        assertNull(snapshot.getOld(new UUID(BR_EX)));
+        assertEquals("br-ex0", snapshot.getNew(new UUID(BR_EX)).getColumn(bridge.column("name", String.class))
+                .getData());
+
+        // the server lost txn-2: br-int is unchanged, br-ex was deleted and br-tun added
+        update = monitorCondSince(handle, "[false,\"txn-9\",{\"Bridge\":{"
+                + row(BR_INT, "br-int") + "," + row(BR_TUN, "br-tun") + "}}]");
+        assertEquals(2, update.getRows().size());
+        assertNull(update.getOld(new UUID(BR_TUN)));
+        assertEquals("br-ex0", update.getOld(new UUID(BR_EX)).getColumn(bridge.column("name", String.class))
+                .getData());
+        assertNull(update.getNew(new UUID(BR_EX)));
+        assertEquals(2, handle.getSnapshot().get("Bridge").size());
+        assertEquals("txn-9", handle.getLastTxnId());
+    }
+
+    /**
+     * Test that the monitor future completes with the initial contents once the server replies, without any
+     * thread waiting for it.
+     */
+    @Test
+    public void testMonitorAsync() throws Exception {
+        SettableFuture<JsonNode> reply = SettableFuture.create();
+        when(rpc.monitor(any())).thenReturn(reply);
+        ListenableFuture<TableUpdates> monitor = client.monitorAsync(dbSchema,
+                Collections.singletonList(new MonitorRequestBuilder<>(bridge).addColumn("name").build()),
+                mock(MonitorCallBack.class));
+        assertFalse(monitor.isDone());
+
+        reply.set(mapper.readTree("{\"Bridge\":{\"" + BR_INT + "\":{\"new\":{\"name\":\"br-int\"}}}}"));
+        assertTrue(monitor.isDone());
+        assertEquals("br-int", monitor.get().getUpdate(bridge).getNew(new UUID(BR_INT))
+                .getColumn(bridge.column("name", String.class)).getData());
+    }
+
+    /**
+     * Test that the conditions of the requests are not sent with a plain monitor.
+     */
+    @Test
+    public void testMonitorWithoutConditions() throws Exception {
+        when(rpc.monitor(any())).thenReturn(Futures.immediateFuture(mapper.readTree("{}")));
+        client.monitorAsync(dbSchema, Collections.singletonList(new MonitorRequestBuilder<>(bridge).addColumn("name")
+                .addCondition(false).build()), mock(MonitorCallBack.class));
+
+        ArgumentCaptor<Params> params = ArgumentCaptor.forClass(Params.class);
+        verify(rpc).monitor(params.capture());
+        JsonNode request = mapper.valueToTree(params.getValue().params()).get(2).get("Bridge");
+        assertTrue(request.has("columns"));
+        assertFalse(request.has("where"));
+    }
+
+    /**
+     * Test that an update notification is parsed against the schema of its monitor, and hands the parsed table
+     * updates to the monitor callback.
+     */
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testUpdateNotification() throws Exception {
+        when(rpc.monitor(any())).thenReturn(Futures.immediateFuture(mapper.readTree("{}")));
+        MonitorCallBack callback = mock(MonitorCallBack.class);
+        client.monitor(dbSchema, Collections.singletonList(new MonitorRequestBuilder<>(bridge).addColumn("name")
+                .build()), new MonitorHandle("monitor-1"), callback);
+        ArgumentCaptor<OvsdbRPC.Callback> rpcCallback = ArgumentCaptor.forClass(OvsdbRPC.Callback.class);
+        verify(rpc).registerCallback(rpcCallback.capture());
+
+        UpdateNotification notification = new UpdateNotification();
+        notification.setContext("monitor-1");
+        notification.setUpdates(mapper.readTree("{\"Bridge\":{\"" + BR_INT + "\":{\"new\":{\"name\":\"br-int\"}}}}"));
+        rpcCallback.getValue().update(null, notification);
+
+        ArgumentCaptor<TableUpdates> updates = ArgumentCaptor.forClass(TableUpdates.class);
+        verify(callback).update(updates.capture(), any());
+        assertEquals("br-int", updates.getValue().getUpdate(bridge).getNew(new UUID(BR_INT))
+                .getColumn(bridge.column("name", String.class)).getData());
+        assertSame(updates.getValue(), notification.getUpdate());
+    }
+
+    /**
+     * Test that a client using an outdated cached schema caches the schema of the device and disconnects.
+     */
+    @Test
+    public void testOutdatedCachedSchema() throws Exception {
+        JsonNode schemaJson = rpc.get_schema(Collections.singletonList("Open_vSwitch")).get();
+        ObjectNode outdated = schemaJson.deepCopy();
+        outdated.put("cksum", "1 1");
+        SchemaCache schemaCache = new SchemaCache(folder.getRoot().toPath());
+        schemaCache.put("10.0.0.1:6640", "Open_vSwitch", outdated);
+        Channel activeChannel = mock(Channel.class);
+        when(activeChannel.remoteAddress()).thenReturn(new InetSocketAddress("10.0.0.1", 6640));
+        OvsdbClientImpl cachedClient = new OvsdbClientImpl(rpc, activeChannel, ConnectionType.ACTIVE,
+                SocketConnectionType.NON_SSL, MoreExecutors.directExecutor());
+        cachedClient.setSchemaCache(schemaCache);
+
+        assertNotNull(cachedClient.getSchema("Open_vSwitch").get());
+        verify(activeChannel).disconnect();
+        assertTrue(schemaCache.isCurrent("10.0.0.1:6640", "Open_vSwitch", schemaJson));
+    }
+
+    /**
+     * Test that the echo statistics are only available while the echo service runs on an open channel.
+     */
+    @Test
+    public void testEchoStatistics() {
+        EchoServiceCallbackFilters filters = mock(EchoServiceCallbackFilters.class);
+        when(filters.getProbeIntervalMillis()).thenReturn(60000L);
+        when(filters.getMaxMissedEchoes()).thenReturn(2);
+        assertNull(client.getEchoStatistics());
+
+        client.startEchoService(filters);
+        assertNotNull(client.getEchoStatistics());
+
+        channel.close();
+        assertNull(client.getEchoStatistics());
+    }
+
+    /**
+     * Test that pausing reads turns auto-read off until reads are resumed, and accounts for the pause time.
+     */
+    @Test
+    public void testPauseReads() throws Exception {
+        assertEquals(0, client.getReadPausedMillis());
+        client.pauseReads();
+        client.pauseReads();
+        assertFalse(channel.config().isAutoRead());
+        Thread.sleep(20);
+        assertTrue(client.getReadPausedMillis() >= 20);
+
+        client.resumeReads();
+        client.resumeReads();
+        assertTrue(channel.config().isAutoRead());
+        long paused = client.getReadPausedMillis();
+        assertTrue(paused >= 20);
+        Thread.sleep(20);
+        assertEquals(paused, client.getReadPausedMillis());
+    }
+
+    /**
+     * Test that the lock callbacks follow the lock replies and notifications, until the lock is released.
+     */
+    @Test
+    public void testLock() throws Exception {
+        final LockAquisitionCallback lockedCallback = mock(LockAquisitionCallback.class);
+        final LockStolenCallback stolenCallback = mock(LockStolenCallback.class);
+        when(rpc.lock(any())).thenReturn(Futures.immediateFuture(mapper.readTree("{\"locked\":false}")));
+        client.lock("southbound", lockedCallback, stolenCallback);
+        verify(lockedCallback, never()).lockAcquired();
+
+        ArgumentCaptor<OvsdbRPC.Callback> rpcCallback = ArgumentCaptor.forClass(OvsdbRPC.Callback.class);
+        verify(rpc).registerCallback(rpcCallback.capture());
+        rpcCallback.getValue().locked(null, Collections.singletonList("southbound"));
+        verify(lockedCallback).lockAcquired();
+        rpcCallback.getValue().stolen(null, Collections.singletonList("southbound"));
+        verify(stolenCallback).lockStolen();
+
+        when(rpc.steal(any())).thenReturn(Futures.immediateFuture(mapper.readTree("{\"locked\":true}")));
+        assertTrue(client.steal("southbound").get());
+
+        when(rpc.unlock(any())).thenReturn(Futures.immediateFuture(mapper.readTree("{}")));
+        assertTrue(client.unLock("southbound").get());
+        rpcCallback.getValue().locked(null, Collections.singletonList("southbound"));
+        verify(lockedCallback).lockAcquired();
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright © 2018 EBay Software Foundation and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.opendaylight.ovsdb.lib.notation.Version;
+import org.opendaylight.ovsdb.lib.schema.DatabaseSchema;
+import org.opendaylight.ovsdb.lib.schema.DatabaseSchemaRegistry;
+
+public class SchemaCacheTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private JsonNode schemaJson;
+    private SchemaCache cache;
+
+    @Before
+    public void setUp() throws IOException {
+        schemaJson = new ObjectMapper().readTree(getClass().getResourceAsStream(
+                "/org/opendaylight/ovsdb/lib/schema/test_schema.json")).get("result");
+        cache = new SchemaCache(folder.getRoot().toPath());
+    }
+
+    /**
+     * Test that the schema last reported by a node is returned for that node only, as the shared instance.
+     */
+    @Test
+    public void testPutAndGet() throws IOException {
+        assertNull(cache.get("10.0.0.1", "Open_vSwitch"));
+        cache.put("10.0.0.1", "Open_vSwitch", schemaJson);
+
+        DatabaseSchema dbSchema = cache.get("10.0.0.1", "Open_vSwitch");
+        assertNotNull(dbSchema);
+        assertSame(DatabaseSchemaRegistry.getDatabaseSchema("Open_vSwitch", schemaJson), dbSchema);
+        assertNull(cache.get("10.0.0.2", "Open_vSwitch"));
+        assertNull(cache.get("10.0.0.1", "hardware_vtep"));
+
+        // a new cache on the same directory, as after a restart
+        assertEquals(dbSchema.getVersion(), new SchemaCache(folder.getRoot().toPath())
+                .get("10.0.0.1", "Open_vSwitch").getVersion());
+    }
+
+    /**
+     * Test that an upgraded node replaces its cache entry.
+     */
+    @Test
+    public void testUpgradedNode() {
+        cache.put("fe80::1", "Open_vSwitch", schemaJson);
+        ObjectNode upgraded = schemaJson.deepCopy();
+        upgraded.put("version", "7.0.0");
+        upgraded.put("cksum", "1 1");
+        cache.put("fe80::1", "Open_vSwitch", upgraded);
+
+        assertEquals(Version.fromString("7.0.0"), cache.get("fe80::1", "Open_vSwitch").getVersion());
+    }
+
+    /**
+     * Test that a reply is current only with the version and checksum recorded for the node, and that a reply
+     * without checksum clears the entry of the node.
+     */
+    @Test
+    public void testIsCurrent() {
+        cache.put("10.0.0.4", "Open_vSwitch", schemaJson);
+        assertTrue(cache.isCurrent("10.0.0.4", "Open_vSwitch", schemaJson.deepCopy()));
+        assertFalse(cache.isCurrent("10.0.0.5", "Open_vSwitch", schemaJson));
+
+        ObjectNode upgraded = schemaJson.deepCopy();
+        upgraded.put("cksum", "1 1");
+        assertFalse(cache.isCurrent("10.0.0.4", "Open_vSwitch", upgraded));
+
+        ObjectNode noCksum = schemaJson.deepCopy();
+        noCksum.remove("cksum");
+        assertFalse(cache.isCurrent("10.0.0.4", "Open_vSwitch", noCksum));
+        cache.put("10.0.0.4", "Open_vSwitch", noCksum);
+        assertNull(cache.get("10.0.0.4", "Open_vSwitch"));
+    }
+
+    /**
+     * Test that unreadable entries are ignored.
+     */
+    @Test
+    public void testMalformedEntry() throws IOException {
+        Path nodes = folder.getRoot().toPath().resolve("nodes");
+        Files.write(nodes.resolve("10.0.0.3-Open_vSwitch"), "garbage".getBytes(StandardCharsets.UTF_8));
+        assertNull(cache.get("10.0.0.3", "Open_vSwitch"));
+
+        Files.write(nodes.resolve("10.0.0.3-Open_vSwitch"), "1.0.0\n2 2\n".getBytes(StandardCharsets.UTF_8));
+        assertNull(cache.get("10.0.0.3", "Open_vSwitch"));
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2018 EBay Software Foundation and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Test;
+
+public class SerialCallbackExecutorTest {
+
+    private final ExecutorService pool = Executors.newFixedThreadPool(4);
+
+    @After
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Test that callbacks of one connection run one at a time and in order, even on a multi-threaded pool.
+     */
+    @Test
+    public void testSerialExecution() throws Exception {
+        SerialCallbackExecutor executor = new SerialCallbackExecutor("test", pool);
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(1000);
+
+        for (int i = 0; i < 1000; i++) {
+            final int index = i;
+            executor.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                order.add(index);
+                running.decrementAndGet();
+                done.countDown();
+            });
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(1, maxRunning.get());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, order.get(i).intValue());
+        }
+        assertEquals(1000, executor.getExecutedCount());
+        assertEquals(0, executor.getQueueDepth());
+        assertTrue(executor.getMaxQueueDepth() >= 1);
+    }
+
+    /**
+     * Test that callbacks run in the calling thread when the pool rejects them, and are counted as saturation.
+     */
+    @Test
+    public void testSaturation() {
+        SerialCallbackExecutor executor = new SerialCallbackExecutor("test", task -> {
+            throw new RejectedExecutionException("full");
+        });
+        Thread caller = Thread.currentThread();
+        List<Thread> threads = new ArrayList<>();
+
+        executor.execute(() -> threads.add(Thread.currentThread()));
+        executor.execute(() -> threads.add(Thread.currentThread()));
+
+        assertEquals(Collections.nCopies(2, caller), threads);
+        assertEquals(2, executor.getSaturationCount());
+        assertEquals(2, executor.getExecutedCount());
+    }
+
+    /**
+     * Test that a shut down executor rejects new callbacks.
+     */
+    @Test(expected = RejectedExecutionException.class)
+    public void testShutdown() {
+        SerialCallbackExecutor executor = new SerialCallbackExecutor("test", pool);
+        assertFalse(executor.isShutdown());
+        executor.shutdown();
+        executor.execute(() -> { });
+    }
+}
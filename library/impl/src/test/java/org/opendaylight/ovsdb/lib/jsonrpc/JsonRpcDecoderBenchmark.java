@@ -0,0 +1,116 @@
+/*
+ * Copyright © 2018 EBay Software Foundation and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.jsonrpc;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares {@link JsonRpcDecoder} with {@link JsonRpcStreamingDecoder} on synthetic monitor update
+ * frames of 1 KB, 100 KB and 10 MB, delivered in 64 KB direct buffer chunks as the receive buffer
+ * allocator of the connection service does.
+ *
+ * <p>Run with {@code java -cp <test classpath> org.opendaylight.ovsdb.lib.jsonrpc.JsonRpcDecoderBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonRpcDecoderBenchmark {
+
+    private static final int CHUNK_SIZE = 65535;
+
+    @Param({"1024", "102400", "10485760"})
+    public int frameSize;
+
+    @Param({"brace-counting", "streaming"})
+    public String decoder;
+
+    private byte[] frame;
+    private EmbeddedChannel channel;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        frame = updateNotification(frameSize).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpChannel() {
+        ChannelHandler handler = "streaming".equals(decoder)
+                ? new JsonRpcStreamingDecoder(Integer.MAX_VALUE) : new JsonRpcDecoder(Integer.MAX_VALUE);
+        channel = new EmbeddedChannel(handler);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDownChannel() {
+        channel.finishAndReleaseAll();
+    }
+
+    @Benchmark
+    public void decode(Blackhole blackhole) {
+        for (int offset = 0; offset < frame.length; offset += CHUNK_SIZE) {
+            int len = Math.min(CHUNK_SIZE, frame.length - offset);
+            ByteBuf chunk = PooledByteBufAllocator.DEFAULT.directBuffer(len);
+            chunk.writeBytes(frame, offset, len);
+            channel.writeInbound(chunk);
+        }
+        Object msg;
+        while ((msg = channel.readInbound()) != null) {
+            blackhole.consume(msg);
+        }
+    }
+
+    /**
+     * Builds an "update" notification for the Interface table padded with rows up to the given size.
+     */
+    static String updateNotification(int size) {
+        StringBuilder sb = new StringBuilder(size + 512);
+        sb.append("{\"id\":null,\"method\":\"update\",\"params\":[\"monitor-1\",{\"Interface\":{");
+        int row = 0;
+        while (sb.length() < size) {
+            if (row > 0) {
+                sb.append(',');
+            }
+            sb.append("\"").append(String.format("%08x-0000-0000-0000-%012x", row, row)).append("\":{\"new\":{")
+                .append("\"name\":\"tap").append(row).append("\",\"ofport\":").append(row)
+                .append(",\"admin_state\":\"up\",\"external_ids\":[\"map\",[[\"iface-id\",\"")
+                .append(row).append("\"],[\"attached-mac\",\"fa:16:3e:00:00:01\"]]],")
+                .append("\"statistics\":[\"map\",[[\"rx_bytes\",1234567],[\"tx_bytes\",7654321]]]}}");
+            row++;
+        }
+        sb.append("}}]}");
+        return sb.toString();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JsonRpcDecoderBenchmark.class.getSimpleName()).build()).run();
+    }
+}
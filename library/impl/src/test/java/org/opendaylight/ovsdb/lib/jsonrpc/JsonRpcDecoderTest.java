@@ -9,7 +9,11 @@ package org.opendaylight.ovsdb.lib.jsonrpc;
 
 import static io.netty.buffer.Unpooled.copiedBuffer;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.POJONode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import com.google.common.io.Resources;
 import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.handler.codec.DecoderException;
@@ -107,6 +111,26 @@ public class JsonRpcDecoderTest {
         ch.finish();
     }
 
+    /**
+     * Test that the params of update notifications are kept as tokens, whether they come before or after the
+     * method, and that the params of other messages are decoded into a tree.
+     */
+    @Test
+    public void testDecodeUpdateNotification() throws Exception {
+        ch.writeInbound(copiedBuffer("{\"params\":[\"monitor-1\",{\"Bridge\":{}}],\"method\":\"update2\",\"id\":null}"
+                + "{\"id\":null,\"method\":\"update\",\"params\":[\"monitor-1\",{}]}"
+                + "{\"params\":[\"ping\"],\"method\":\"echo\",\"id\":\"echo\"}", CharsetUtil.UTF_8));
+
+        JsonNode update2 = ch.readInbound();
+        assertEquals("update2", update2.get("method").asText());
+        assertTrue(((POJONode) update2.get("params")).getPojo() instanceof TokenBuffer);
+        JsonNode update = ch.readInbound();
+        assertTrue(((POJONode) update.get("params")).getPojo() instanceof TokenBuffer);
+        JsonNode echo = ch.readInbound();
+        assertEquals("ping", echo.get("params").get(0).asText());
+        ch.finish();
+    }
+
     /* Disabling this test as the limit was changed
      * from exception to a log warning...
     /**
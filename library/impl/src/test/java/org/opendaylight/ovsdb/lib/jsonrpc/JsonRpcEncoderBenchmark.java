@@ -0,0 +1,150 @@
+/*
+ * Copyright © 2018 EBay Software Foundation and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.jsonrpc;
+
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.codec.string.StringEncoder;
+import io.netty.handler.flush.FlushConsolidationHandler;
+import io.netty.util.CharsetUtil;
+import java.net.InetSocketAddress;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures echo requests per second sent in bursts over a loopback TCP connection to a minimal OVSDB
+ * stand-in answering every request, comparing the former String plus {@link StringEncoder} path with
+ * {@link JsonRpcEncoder}, with and without flush consolidation.
+ *
+ * <p>Run with {@code java -cp <test classpath> org.opendaylight.ovsdb.lib.jsonrpc.JsonRpcEncoderBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonRpcEncoderBenchmark {
+
+    private static final int BURST = 256;
+
+    @Param({"string", "bytebuf", "bytebuf-consolidated"})
+    public String encoder;
+
+    private final ObjectMapper mapper = new ObjectMapper().setSerializationInclusion(Include.NON_NULL);
+    private final Semaphore responses = new Semaphore(0);
+    private EventLoopGroup group;
+    private Channel server;
+    private Channel client;
+    private long requestId;
+
+    /**
+     * Answers every request with an empty result, flushing once per read like JsonRpcServiceBinderHandler.
+     */
+    private static class OvsdbStandIn extends SimpleChannelInboundHandler<JsonNode> {
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, JsonNode msg) {
+            JsonRpc10Response response = new JsonRpc10Response(msg.get("id").asText());
+            ctx.write(response);
+        }
+
+        @Override
+        public void channelReadComplete(ChannelHandlerContext ctx) {
+            ctx.flush();
+        }
+    }
+
+    @Setup
+    public void setUp() throws InterruptedException {
+        group = new NioEventLoopGroup(2);
+        server = new ServerBootstrap().group(group).channel(NioServerSocketChannel.class)
+                .childHandler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    public void initChannel(SocketChannel channel) {
+                        channel.pipeline().addLast(new JsonRpcDecoder(Integer.MAX_VALUE), new JsonRpcEncoder(),
+                                new OvsdbStandIn());
+                    }
+                })
+                .bind("127.0.0.1", 0).sync().channel();
+
+        client = new Bootstrap().group(group).channel(NioSocketChannel.class)
+                .option(ChannelOption.TCP_NODELAY, true)
+                .handler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    public void initChannel(SocketChannel channel) {
+                        if ("bytebuf-consolidated".equals(encoder)) {
+                            channel.pipeline().addLast(new FlushConsolidationHandler(256, true));
+                        }
+                        channel.pipeline().addLast(new JsonRpcDecoder(Integer.MAX_VALUE),
+                                "string".equals(encoder) ? new StringEncoder(CharsetUtil.UTF_8) : new JsonRpcEncoder(),
+                                new SimpleChannelInboundHandler<JsonNode>() {
+                                    @Override
+                                    protected void channelRead0(ChannelHandlerContext ctx, JsonNode msg) {
+                                        responses.release();
+                                    }
+                                });
+                    }
+                })
+                .connect((InetSocketAddress) server.localAddress()).sync().channel();
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        client.close().sync();
+        server.close().sync();
+        group.shutdownGracefully(0, 1, TimeUnit.SECONDS).sync();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BURST)
+    public void echoBurst() throws Exception {
+        for (int i = 0; i < BURST; i++) {
+            JsonRpc10Request request = new JsonRpc10Request(Long.toString(++requestId));
+            request.setMethod("echo");
+            if ("string".equals(encoder)) {
+                client.writeAndFlush(mapper.writeValueAsString(request));
+            } else {
+                client.writeAndFlush(request);
+            }
+        }
+        responses.acquire(BURST);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JsonRpcEncoderBenchmark.class.getSimpleName()).build()).run();
+    }
+}
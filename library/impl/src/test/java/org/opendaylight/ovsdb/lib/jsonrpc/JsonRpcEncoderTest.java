@@ -0,0 +1,77 @@
+/*
+ * Copyright © 2018 EBay Software Foundation and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.jsonrpc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class JsonRpcEncoderTest {
+
+    private EmbeddedChannel ch;
+
+    @Before
+    public void setUp() {
+        ch = new EmbeddedChannel(new JsonRpcEncoder());
+    }
+
+    @After
+    public void tearDown() {
+        ch.finishAndReleaseAll();
+    }
+
+    private String readOutbound() {
+        ByteBuf buf = ch.readOutbound();
+        try {
+            return buf.toString(StandardCharsets.UTF_8);
+        } finally {
+            buf.release();
+        }
+    }
+
+    /**
+     * Test that requests and responses are written exactly as the endpoint's ObjectMapper would serialize them.
+     */
+    @Test
+    public void testEncodeMessages() throws Exception {
+        ObjectMapper mapper = new ObjectMapper().setSerializationInclusion(Include.NON_NULL);
+        JsonRpc10Request request = new JsonRpc10Request("1");
+        request.setMethod("transact");
+        request.setParams(Arrays.asList("Open_vSwitch", "é"));
+        JsonRpc10Response response = new JsonRpc10Response("echo");
+
+        ch.writeOutbound(request, response);
+
+        assertEquals(mapper.writeValueAsString(request), readOutbound());
+        assertEquals(mapper.writeValueAsString(response), readOutbound());
+    }
+
+    /**
+     * Test that strings are written as UTF-8 and buffers are passed through untouched.
+     */
+    @Test
+    public void testEncodeStringsAndBuffers() {
+        ByteBuf raw = Unpooled.copiedBuffer("{}", StandardCharsets.UTF_8);
+        ch.writeOutbound("{\"id\":\"é\"}", raw);
+
+        assertEquals("{\"id\":\"é\"}", readOutbound());
+        ByteBuf passed = ch.readOutbound();
+        assertSame(raw, passed);
+        passed.release();
+    }
+}
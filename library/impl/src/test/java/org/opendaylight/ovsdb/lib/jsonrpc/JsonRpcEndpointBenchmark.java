@@ -0,0 +1,162 @@
+/*
+ * Copyright © 2018 EBay Software Foundation and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.jsonrpc;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.google.common.reflect.Invokable;
+import com.google.common.reflect.TypeToken;
+import com.google.common.util.concurrent.ListenableFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.ReferenceCountUtil;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.ovsdb.lib.message.OvsdbRPC;
+import org.opendaylight.ovsdb.lib.message.UpdateNotification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures responses and notifications dispatched per second by {@link JsonRpcEndpoint}. The
+ * {@code reflective} benchmarks replay the per-message reflection the endpoint used to do before
+ * dispatch was precomputed, as a baseline for the {@code cached} ones.
+ *
+ * <p>Run with {@code java -cp <test classpath> org.opendaylight.ovsdb.lib.jsonrpc.JsonRpcEndpointBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonRpcEndpointBenchmark {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private EmbeddedChannel channel;
+    private JsonRpcEndpoint endpoint;
+    private OvsdbRPC rpc;
+    private long requestId;
+    private ObjectNode response;
+    private JsonNode notification;
+    private Object delivered;
+
+    private final OvsdbRPC.Callback callback = new OvsdbRPC.Callback() {
+        @Override
+        public void update(Object context, UpdateNotification upadateNotification) {
+            delivered = upadateNotification;
+        }
+
+        @Override
+        public void update2(Object context, UpdateNotification updateNotification) {
+            delivered = updateNotification;
+        }
+
+        @Override
+        public void update3(Object context, UpdateNotification updateNotification) {
+            delivered = updateNotification;
+        }
+
+        @Override
+        public void locked(Object context, List<String> ids) {
+            delivered = ids;
+        }
+
+        @Override
+        public void stolen(Object context, List<String> ids) {
+            delivered = ids;
+        }
+    };
+
+    @Setup
+    public void setUp() throws Exception {
+        channel = new EmbeddedChannel(new ChannelOutboundHandlerAdapter() {
+            @Override
+            public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+                ReferenceCountUtil.release(msg);
+                promise.setSuccess();
+            }
+        });
+        endpoint = new JsonRpcEndpoint(mapper, channel);
+        rpc = endpoint.getClient(channel, OvsdbRPC.class);
+        rpc.registerCallback(callback);
+        response = (ObjectNode) mapper.readTree("{\"id\":\"0\",\"result\":[\"Open_vSwitch\",\"hardware_vtep\"],"
+                + "\"error\":null}");
+        notification = mapper.readTree("{\"id\":null,\"method\":\"update\",\"params\":[\"monitor-1\","
+                + "{\"Interface\":{\"13548b08-dca3-4d4b-9e9b-f50c237dcb9e\":{\"new\":{\"name\":\"vif0\"}}}}]}");
+    }
+
+    @TearDown
+    public void tearDown() {
+        channel.finishAndReleaseAll();
+    }
+
+    @Benchmark
+    public Object cachedResponse() throws Exception {
+        ListenableFuture<List<String>> future = rpc.list_dbs();
+        response.put("id", Long.toString(++requestId));
+        endpoint.processResult(response);
+        return future.get();
+    }
+
+    @Benchmark
+    public Object reflectiveResponse() throws Exception {
+        ListenableFuture<List<String>> future = rpc.list_dbs();
+        response.put("id", Long.toString(++requestId));
+        JsonRpcEndpoint.CallContext returnCtxt = endpoint.getMethodContext().remove(requestId);
+        returnCtxt.timeout.cancel();
+        TypeToken<?> retType = TypeToken.of(returnCtxt.getMethod().getGenericReturnType())
+                .resolveType(ListenableFuture.class.getMethod("get").getGenericReturnType());
+        JavaType javaType = TypeFactory.defaultInstance().constructType(retType.getType());
+        returnCtxt.getFuture().set(mapper.convertValue(response.get("result"), javaType));
+        return future.get();
+    }
+
+    @Benchmark
+    public Object cachedNotification() {
+        endpoint.processRequest(channel, notification);
+        return delivered;
+    }
+
+    @Benchmark
+    public Object reflectiveNotification() throws Exception {
+        String methodName = notification.get("method").asText();
+        for (Method method : callback.getClass().getDeclaredMethods()) {
+            if (method.getName().equals(methodName)) {
+                Object param = mapper.convertValue(notification.get("params"), method.getParameterTypes()[1]);
+                Invokable from = Invokable.from(method);
+                from.setAccessible(true);
+                from.invoke(callback, channel, param);
+                break;
+            }
+        }
+        return delivered;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JsonRpcEndpointBenchmark.class.getSimpleName()).build()).run();
+    }
+}
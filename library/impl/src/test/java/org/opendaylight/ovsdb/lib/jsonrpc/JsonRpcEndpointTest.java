@@ -0,0 +1,188 @@
+/*
+ * Copyright © 2018 EBay Software Foundation and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.jsonrpc;
+
+import static io.netty.buffer.Unpooled.copiedBuffer;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.util.concurrent.ListenableFuture;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.CharsetUtil;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.ovsdb.lib.message.OvsdbRPC;
+import org.opendaylight.ovsdb.lib.message.UpdateNotification;
+
+public class JsonRpcEndpointTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private EmbeddedChannel ch;
+    private JsonRpcEndpoint endpoint;
+    private OvsdbRPC rpc;
+
+    @Before
+    public void setUp() {
+        ch = new EmbeddedChannel(new JsonRpcEncoder());
+        endpoint = new JsonRpcEndpoint(mapper, ch);
+        rpc = endpoint.getClient(ch, OvsdbRPC.class);
+    }
+
+    @After
+    public void tearDown() {
+        JsonRpcEndpoint.setReaperInterval(1000);
+        ch.finishAndReleaseAll();
+    }
+
+    private JsonNode readOutbound() throws IOException {
+        ByteBuf buf = ch.readOutbound();
+        try {
+            return mapper.readTree(new ByteBufInputStream(buf));
+        } finally {
+            buf.release();
+        }
+    }
+
+    /**
+     * Test that requests are numbered per endpoint and that a response completes the matching call.
+     */
+    @Test
+    public void testResponseCompletesPendingRequest() throws Exception {
+        ListenableFuture<List<String>> first = rpc.list_dbs();
+        ListenableFuture<List<String>> second = rpc.echo();
+        JsonNode firstRequest = readOutbound();
+        JsonNode secondRequest = readOutbound();
+        assertEquals("1", firstRequest.get("id").asText());
+        assertEquals("2", secondRequest.get("id").asText());
+        assertEquals(2, endpoint.getPendingRequestCount());
+
+        endpoint.processResult(mapper.readTree("{\"id\":\"2\",\"result\":[],\"error\":null}"));
+        endpoint.processResult(mapper.readTree("{\"id\":\"1\",\"result\":[\"Open_vSwitch\"],\"error\":null}"));
+
+        assertEquals(Collections.singletonList("Open_vSwitch"), first.get());
+        assertEquals(Collections.emptyList(), second.get());
+        assertEquals(0, endpoint.getPendingRequestCount());
+    }
+
+    /**
+     * Test that a result which cannot be converted fails the call instead of leaving it pending.
+     */
+    @Test
+    public void testUnconvertibleResultFailsRequest() throws Exception {
+        ListenableFuture<List<String>> future = rpc.list_dbs();
+        readOutbound();
+
+        endpoint.processResult(mapper.readTree("{\"id\":\"1\",\"result\":{\"not\":\"a list\"},\"error\":null}"));
+
+        assertTrue(future.isDone());
+        assertEquals(0, endpoint.getPendingRequestCount());
+        try {
+            future.get();
+            fail("Expected the call to fail");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IOException);
+        }
+    }
+
+    /**
+     * Test that a request without a response is cancelled by the reaper and a late response is dropped.
+     */
+    @Test
+    public void testUnansweredRequestIsReaped() throws Exception {
+        JsonRpcEndpoint.setReaperInterval(200);
+        long reaped = JsonRpcEndpoint.getReapedRequestCount();
+        long late = JsonRpcEndpoint.getLateResponseCount();
+
+        ListenableFuture<List<String>> future = rpc.echo();
+        for (int i = 0; i < 50 && !future.isDone(); i++) {
+            TimeUnit.MILLISECONDS.sleep(100);
+        }
+
+        assertTrue(future.isCancelled());
+        assertEquals(0, endpoint.getPendingRequestCount());
+        assertEquals(reaped + 1, JsonRpcEndpoint.getReapedRequestCount());
+
+        endpoint.processResult(mapper.readTree("{\"id\":\"1\",\"result\":[],\"error\":null}"));
+        assertEquals(late + 1, JsonRpcEndpoint.getLateResponseCount());
+    }
+
+    /**
+     * Test that notifications are dispatched to the registered callback with converted parameters.
+     */
+    @Test
+    public void testNotificationDispatch() throws Exception {
+        List<Object> received = new ArrayList<>();
+        assertTrue(rpc.registerCallback(new OvsdbRPC.Callback() {
+            @Override
+            public void update(Object context, UpdateNotification upadateNotification) {
+                received.add(context);
+                received.add(upadateNotification);
+            }
+
+            @Override
+            public void update2(Object context, UpdateNotification updateNotification) {
+                received.add(context);
+                received.add(updateNotification);
+            }
+
+            @Override
+            public void update3(Object context, UpdateNotification updateNotification) {
+                received.add(updateNotification);
+            }
+
+            @Override
+            public void locked(Object context, List<String> ids) {
+                received.add(ids);
+            }
+
+            @Override
+            public void stolen(Object context, List<String> ids) {
+                received.add(ids);
+            }
+        }));
+
+        endpoint.processRequest(ch, mapper.readTree(
+                "{\"id\":null,\"method\":\"update\",\"params\":[\"monitor-1\",{\"Bridge\":{}}]}"));
+        endpoint.processRequest(ch, mapper.readTree("{\"id\":null,\"method\":\"locked\",\"params\":[\"lock\"]}"));
+        endpoint.processRequest(ch, mapper.readTree("{\"id\":null,\"method\":\"update3\",\"params\":[\"monitor-2\","
+                + "\"8f8c3b4e-1c4e-4e3e-9b0b-0a5d1e6f7a88\",{\"Port\":{}}]}"));
+        EmbeddedChannel decoderChannel = new EmbeddedChannel(new JsonRpcDecoder(1000));
+        decoderChannel.writeInbound(copiedBuffer("{\"id\":null,\"method\":\"update2\",\"params\":[\"monitor-3\","
+                + "{\"Interface\":{}}]}", CharsetUtil.UTF_8));
+        endpoint.processRequest(ch, decoderChannel.readInbound());
+        decoderChannel.finish();
+
+        assertEquals(6, received.size());
+        assertSame(ch, received.get(0));
+        UpdateNotification notification = (UpdateNotification) received.get(1);
+        assertEquals("monitor-1", notification.getContext());
+        assertTrue(notification.getUpdates().has("Bridge"));
+        assertEquals(Collections.singletonList("lock"), received.get(2));
+        notification = (UpdateNotification) received.get(3);
+        assertEquals("monitor-2", notification.getContext());
+        assertEquals("8f8c3b4e-1c4e-4e3e-9b0b-0a5d1e6f7a88", notification.getLastTxnId());
+        assertTrue(notification.getUpdates().has("Port"));
+        assertSame(ch, received.get(4));
+        notification = (UpdateNotification) received.get(5);
+        assertEquals("monitor-3", notification.getContext());
+        assertTrue(notification.getUpdates().has("Interface"));
+    }
+}
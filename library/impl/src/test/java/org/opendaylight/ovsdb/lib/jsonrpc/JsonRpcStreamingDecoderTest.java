@@ -0,0 +1,140 @@
+/*
+ * Copyright © 2018 EBay Software Foundation and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.jsonrpc;
+
+import static io.netty.buffer.Unpooled.copiedBuffer;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.io.Resources;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.DecoderException;
+import io.netty.util.CharsetUtil;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import org.junit.Before;
+import org.junit.Test;
+
+public class JsonRpcStreamingDecoderTest {
+
+    String testJson;
+    String prettyTestJson;
+    static final String PREAMBLE = "                    ";
+    static final String PARTIAL_START = "{\"foo\":";
+    static final String PARTIAL_END = "{\"bar\":\"baz\"}}";
+
+    JsonRpcStreamingDecoder decoder;
+    EmbeddedChannel ch;
+
+    @Before
+    public void setUp() throws Exception {
+        decoder = new JsonRpcStreamingDecoder(1000);
+        ch = new EmbeddedChannel(decoder);
+
+        URL testJsonUrl = Resources.getResource(JsonRpcStreamingDecoderTest.class, "test.json");
+        testJson = Resources.toString(testJsonUrl, StandardCharsets.UTF_8);
+        URL prettyTestJsoUrl = Resources.getResource(JsonRpcStreamingDecoderTest.class, "pretty-test.json");
+        prettyTestJson = Resources.toString(prettyTestJsoUrl, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Test decoding the Stringified Json text in test.json to individual Json node objects, which
+     * must be identical to what a regular Jackson parse produces.
+     */
+    @Test
+    public void testDecode() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            ch.writeInbound(copiedBuffer(testJson, CharsetUtil.UTF_8));
+        }
+        assertEquals(10, decoder.getRecordsRead());
+        JsonNode expected = new ObjectMapper().readTree(testJson);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(expected, ch.readInbound());
+        }
+        ch.finish();
+    }
+
+    /**
+     * Test decoding the Stringified Json text in pretty-test.json to
+     * individual Json node objects.
+     */
+    @Test
+    public void testDecodePrettyJson() throws Exception {
+        ch.writeInbound(copiedBuffer(prettyTestJson, CharsetUtil.UTF_8));
+        assertEquals(new ObjectMapper().readTree(prettyTestJson), ch.readInbound());
+        assertEquals(1, decoder.getRecordsRead());
+        ch.finish();
+    }
+
+    /**
+     * Test decoding back to back records without any separator, as sent by ovsdb-server.
+     */
+    @Test
+    public void testDecodeConcatenated() throws Exception {
+        ch.writeInbound(copiedBuffer(testJson.trim() + testJson.trim() + PREAMBLE + testJson, CharsetUtil.UTF_8));
+        assertEquals(3, decoder.getRecordsRead());
+        ch.finish();
+    }
+
+    /**
+     * Test decoding the Stringified Json text with large spaces to
+     * individual Json node objects.
+     */
+    @Test
+    public void testDecodeSkipSpaces() throws Exception {
+        ch.writeInbound(copiedBuffer(PREAMBLE + testJson + PREAMBLE + testJson, CharsetUtil.UTF_8));
+        assertEquals(2, decoder.getRecordsRead());
+        ch.finish();
+    }
+
+    /**
+     * Test whether phased decoding is allowed by writing Json string over two separate iterations, and
+     * checking that the decoder collates the record without keeping the partial bytes in the buffer.
+     */
+    @Test
+    public void testDecodePartial() throws Exception {
+        ch.writeInbound(copiedBuffer(PARTIAL_START, CharsetUtil.UTF_8));
+        assertNull(ch.readInbound());
+        ch.writeInbound(copiedBuffer(PARTIAL_END, CharsetUtil.UTF_8));
+        JsonNode node = ch.readInbound();
+        assertEquals("baz", node.get("foo").get("bar").asText());
+        assertEquals(1, decoder.getRecordsRead());
+        ch.finish();
+    }
+
+    /**
+     * Test decoding from direct buffers, split at every byte boundary.
+     */
+    @Test
+    public void testDecodeDirectBuffers() throws Exception {
+        byte[] bytes = testJson.getBytes(StandardCharsets.UTF_8);
+        for (byte b : bytes) {
+            ByteBuf direct = Unpooled.directBuffer(1);
+            direct.writeByte(b);
+            ch.writeInbound(direct);
+        }
+        assertEquals(1, decoder.getRecordsRead());
+        assertEquals(new ObjectMapper().readTree(testJson), ch.readInbound());
+        ch.finish();
+    }
+
+    /**
+     * Test whether decoder throws appropriate DecoderException when
+     * passing a Json string using an unsupported (i.e., UTF-16)
+     * character set.
+     */
+    @Test(expected = DecoderException.class)
+    public void testDecodeInvalidEncoding() throws Exception {
+        ch.writeInbound(copiedBuffer(testJson, CharsetUtil.UTF_16));
+        ch.finish();
+    }
+}
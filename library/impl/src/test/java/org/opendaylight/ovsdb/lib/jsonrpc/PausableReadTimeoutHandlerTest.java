@@ -0,0 +1,66 @@
+/*
+ * Copyright © 2018 EBay Software Foundation and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.jsonrpc;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.timeout.ReadTimeoutException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PausableReadTimeoutHandlerTest {
+
+    private static final long TIMEOUT_MILLIS = 50;
+    private final AtomicBoolean timedOut = new AtomicBoolean();
+    private EmbeddedChannel ch;
+
+    @Before
+    public void setUp() {
+        ch = new EmbeddedChannel(new PausableReadTimeoutHandler(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS),
+            new ChannelInboundHandlerAdapter() {
+                @Override
+                public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+                    timedOut.set(cause instanceof ReadTimeoutException);
+                }
+            });
+    }
+
+    @After
+    public void tearDown() {
+        ch.finishAndReleaseAll();
+    }
+
+    private void waitForTimeout() throws InterruptedException {
+        TimeUnit.MILLISECONDS.sleep(TIMEOUT_MILLIS * 3);
+        ch.runScheduledPendingTasks();
+    }
+
+    /**
+     * Test that the channel is kept open while reads are paused, and times out once they are resumed.
+     */
+    @Test
+    public void testNoTimeoutWhileReadsArePaused() throws Exception {
+        ch.config().setAutoRead(false);
+        waitForTimeout();
+        waitForTimeout();
+        assertTrue(ch.isOpen());
+        assertFalse(timedOut.get());
+
+        ch.config().setAutoRead(true);
+        waitForTimeout();
+        assertFalse(ch.isOpen());
+        assertTrue(timedOut.get());
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2018 EBay Software Foundation and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.schema;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import org.junit.Test;
+
+public class DatabaseSchemaRegistryTest {
+
+    private static JsonNode readTestSchema() throws IOException {
+        return new ObjectMapper().readTree(DatabaseSchemaRegistryTest.class.getResourceAsStream("test_schema.json"))
+                .get("result");
+    }
+
+    /**
+     * Test that schemas with the same name, version and checksum are parsed once and shared, with their
+     * internally generated columns.
+     */
+    @Test
+    public void testSharedSchema() throws IOException {
+        long hits = DatabaseSchemaRegistry.getHitCount();
+        DatabaseSchema first = DatabaseSchemaRegistry.getDatabaseSchema("Open_vSwitch", readTestSchema());
+        DatabaseSchema second = DatabaseSchemaRegistry.getDatabaseSchema("Open_vSwitch", readTestSchema());
+
+        assertSame(first, second);
+        assertTrue(DatabaseSchemaRegistry.getHitCount() > hits);
+        assertTrue(first.table("Bridge", GenericTableSchema.class).hasColumn("_uuid"));
+        assertTrue(DatabaseSchemaRegistry.getSchemaCount() >= 1);
+    }
+
+    /**
+     * Test that a different checksum, or none, yields a different schema.
+     */
+    @Test
+    public void testDistinctSchemas() throws IOException {
+        DatabaseSchema registered = DatabaseSchemaRegistry.getDatabaseSchema("Open_vSwitch", readTestSchema());
+
+        ObjectNode changed = (ObjectNode) readTestSchema();
+        changed.put("cksum", "1 1");
+        assertNotSame(registered, DatabaseSchemaRegistry.getDatabaseSchema("Open_vSwitch", changed));
+
+        ObjectNode unchecked = (ObjectNode) readTestSchema();
+        unchecked.remove("cksum");
+        DatabaseSchema unshared = DatabaseSchemaRegistry.getDatabaseSchema("Open_vSwitch", unchecked);
+        assertNotSame(unshared, DatabaseSchemaRegistry.getDatabaseSchema("Open_vSwitch", unchecked));
+        assertTrue(unshared.table("Bridge", GenericTableSchema.class).hasColumn("_uuid"));
+    }
+}
@@ -8,13 +8,29 @@
 package org.opendaylight.ovsdb.lib.schema;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
 import org.junit.Test;
+import org.opendaylight.ovsdb.lib.message.MonitorRequest;
+import org.opendaylight.ovsdb.lib.message.MonitorRequestBuilder;
+import org.opendaylight.ovsdb.lib.message.TableUpdate;
+import org.opendaylight.ovsdb.lib.message.TableUpdates;
+import org.opendaylight.ovsdb.lib.notation.Function;
+import org.opendaylight.ovsdb.lib.notation.Row;
+import org.opendaylight.ovsdb.lib.notation.UUID;
 import org.opendaylight.ovsdb.lib.notation.Version;
 
 public class OvsdbSchemaTest {
@@ -36,4 +52,190 @@ public class OvsdbSchemaTest {
         assertNotNull(schema);
         assertEquals(Version.fromString("6.12.0"), schema.getVersion());
     }
+
+    /**
+     * Test that reading the table updates in monitor_response1.json straight from the token stream yields
+     * the same rows as the tree based TableSchema.updatesFromJson().
+     */
+    @Test
+    public void testStreamingTableUpdates() throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        DatabaseSchema schema = DatabaseSchema.fromJson("Open_vSwitch",
+                mapper.readTree(OvsdbSchemaTest.class.getResourceAsStream("test_schema.json")).get("result"));
+        JsonNode updatesJson = mapper.readTree(OvsdbSchemaTest.class.getResourceAsStream(
+                "/org/opendaylight/ovsdb/lib/message/monitor_response1.json"));
+
+        TableUpdates streamed;
+        try (JsonParser parser = updatesJson.traverse()) {
+            parser.nextToken();
+            streamed = schema.updatesFromJson(parser);
+        }
+
+        assertFalse(streamed.getUpdates().isEmpty());
+        assertEquals(updatesJson.size(), streamed.getUpdates().size());
+        for (Iterator<Map.Entry<String, JsonNode>> itr = updatesJson.fields(); itr.hasNext();) {
+            Map.Entry<String, JsonNode> entry = itr.next();
+            TableUpdate<?> expected = schema.table(entry.getKey(), TableSchema.class)
+                    .updatesFromJson(entry.getValue());
+            TableUpdate<?> actual = streamed.getUpdates().get(entry.getKey());
+            assertEquals(expected.getRows().keySet(), actual.getRows().keySet());
+            for (UUID uuid : expected.getRows().keySet()) {
+                assertEquals(expected.getOld(uuid), actual.getOld(uuid));
+                assertEquals(expected.getNew(uuid), actual.getNew(uuid));
+            }
+        }
+    }
+
+    /**
+     * Test that the initial, insert, delete and modify row updates of a {@code <table-updates2>} object are
+     * mapped to new and old rows.
+     */
+    @Test
+    public void testTableUpdates2() throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        DatabaseSchema schema = DatabaseSchema.fromJson("Open_vSwitch",
+                mapper.readTree(OvsdbSchemaTest.class.getResourceAsStream("test_schema.json")).get("result"));
+        GenericTableSchema bridge = schema.table("Bridge", GenericTableSchema.class);
+        String initial = "11111111-1111-1111-1111-111111111111";
+        String insert = "22222222-2222-2222-2222-222222222222";
+        String delete = "33333333-3333-3333-3333-333333333333";
+        String modify = "44444444-4444-4444-4444-444444444444";
+        JsonNode updatesJson = mapper.readTree("{\"Bridge\":{"
+                + "\"" + initial + "\":{\"initial\":{\"name\":\"br-int\",\"datapath_type\":\"system\"}},"
+                + "\"" + insert + "\":{\"insert\":{\"name\":\"br-ex\"}},"
+                + "\"" + delete + "\":{\"delete\":null},"
+                + "\"" + modify + "\":{\"modify\":{\"datapath_type\":\"netdev\"}}},"
+                + "\"Unknown\":{\"" + initial + "\":{\"initial\":{\"name\":\"x\"}}}}");
+
+        TableUpdates updates;
+        try (JsonParser parser = updatesJson.traverse()) {
+            parser.nextToken();
+            updates = schema.updates2FromJson(parser);
+        }
+
+        assertEquals(1, updates.getUpdates().size());
+        TableUpdate<GenericTableSchema> update = updates.getUpdate(bridge);
+        assertEquals(4, update.getRows().size());
+
+        Row<GenericTableSchema> row = update.getNew(new UUID(initial));
+        assertNull(update.getOld(new UUID(initial)));
+        assertEquals("br-int", row.getColumn(bridge.column("name", String.class)).getData());
+        assertEquals("system", row.getColumn(bridge.column("datapath_type", String.class)).getData());
+        assertEquals("br-ex", update.getNew(new UUID(insert)).getColumn(bridge.column("name", String.class))
+                .getData());
+
+        assertNull(update.getNew(new UUID(delete)));
+        assertNotNull(update.getOld(new UUID(delete)));
+
+        row = update.getNew(new UUID(modify));
+        assertEquals(1, row.getColumns().size());
+        assertEquals("netdev", row.getColumn(bridge.column("datapath_type", String.class)).getData());
+    }
+
+    /**
+     * Test that update2 diffs of scalar, set and map columns are applied onto the cached rows, giving complete
+     * old and new rows, and that the cache follows inserts and deletes.
+     */
+    @Test
+    public void testTableUpdates2Diffs() throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        DatabaseSchema schema = DatabaseSchema.fromJson("Open_vSwitch",
+                mapper.readTree(OvsdbSchemaTest.class.getResourceAsStream("test_schema.json")).get("result"));
+        GenericTableSchema bridge = schema.table("Bridge", GenericTableSchema.class);
+        UUID uuid = new UUID("11111111-1111-1111-1111-111111111111");
+        String port1 = "aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa";
+        String port2 = "bbbbbbbb-bbbb-bbbb-bbbb-bbbbbbbbbbbb";
+        Map<String, Map<UUID, Row<?>>> rowCache = new HashMap<>();
+
+        TableUpdate<GenericTableSchema> update = readUpdates2(schema, rowCache, "{\"Bridge\":{\"" + uuid
+                + "\":{\"initial\":{\"name\":\"br-int\",\"datapath_type\":\"system\","
+                + "\"ports\":[\"set\",[[\"uuid\",\"" + port1 + "\"]]],"
+                + "\"external_ids\":[\"map\",[[\"a\",\"1\"],[\"b\",\"2\"]]]}}}}").getUpdate(bridge);
+        Row<GenericTableSchema> initial = update.getNew(uuid);
+        assertEquals(initial, rowCache.get("Bridge").get(uuid));
+
+        // add port2 and remove port1, update a, remove b and add c
+        update = readUpdates2(schema, rowCache, "{\"Bridge\":{\"" + uuid
+                + "\":{\"modify\":{\"datapath_type\":\"netdev\","
+                + "\"ports\":[\"set\",[[\"uuid\",\"" + port1 + "\"],[\"uuid\",\"" + port2 + "\"]]],"
+                + "\"external_ids\":[\"map\",[[\"a\",\"3\"],[\"b\",\"2\"],[\"c\",\"4\"]]]}}}}")
+                .getUpdate(bridge);
+        assertEquals(initial, update.getOld(uuid));
+        Row<GenericTableSchema> modified = update.getNew(uuid);
+        assertEquals("br-int", modified.getColumn(bridge.column("name", String.class)).getData());
+        assertEquals("netdev", modified.getColumn(bridge.column("datapath_type", String.class)).getData());
+        assertEquals(Collections.singleton(new UUID(port2)),
+                modified.getColumn(bridge.multiValuedColumn("ports", UUID.class)).getData());
+        Map<String, String> externalIds = new HashMap<>();
+        externalIds.put("a", "3");
+        externalIds.put("c", "4");
+        assertEquals(externalIds,
+                modified.getColumn(bridge.multiValuedColumn("external_ids", String.class, String.class)).getData());
+        assertEquals("system", initial.getColumn(bridge.column("datapath_type", String.class)).getData());
+
+        update = readUpdates2(schema, rowCache, "{\"Bridge\":{\"" + uuid + "\":{\"delete\":null}}}")
+                .getUpdate(bridge);
+        assertEquals(modified, update.getOld(uuid));
+        assertNull(update.getNew(uuid));
+        assertTrue(rowCache.get("Bridge").isEmpty());
+    }
+
+    /**
+     * Test that update2 modifications of an optional scalar column replace its value instead of being applied
+     * as a set diff.
+     */
+    @Test
+    public void testTableUpdates2OptionalColumn() throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        DatabaseSchema schema = DatabaseSchema.fromJson("Open_vSwitch",
+                mapper.readTree(OvsdbSchemaTest.class.getResourceAsStream("test_schema.json")).get("result"));
+        GenericTableSchema intf = schema.table("Interface", GenericTableSchema.class);
+        ColumnSchema<GenericTableSchema, Set<Long>> ofport = intf.multiValuedColumn("ofport", Long.class);
+        UUID uuid = new UUID("22222222-2222-2222-2222-222222222222");
+        Map<String, Map<UUID, Row<?>>> rowCache = new HashMap<>();
+
+        readUpdates2(schema, rowCache, "{\"Interface\":{\"" + uuid
+                + "\":{\"initial\":{\"name\":\"tap0\",\"ofport\":1}}}}");
+
+        TableUpdate<GenericTableSchema> update = readUpdates2(schema, rowCache, "{\"Interface\":{\"" + uuid
+                + "\":{\"modify\":{\"ofport\":2}}}}").getUpdate(intf);
+        assertEquals(Collections.singleton(2L), update.getNew(uuid).getColumn(ofport).getData());
+
+        // an unchanged value sent again keeps the column
+        update = readUpdates2(schema, rowCache, "{\"Interface\":{\"" + uuid
+                + "\":{\"modify\":{\"ofport\":2}}}}").getUpdate(intf);
+        assertEquals(Collections.singleton(2L), update.getNew(uuid).getColumn(ofport).getData());
+
+        update = readUpdates2(schema, rowCache, "{\"Interface\":{\"" + uuid
+                + "\":{\"modify\":{\"ofport\":[\"set\",[]]}}}}").getUpdate(intf);
+        assertEquals(Collections.singleton(2L), update.getOld(uuid).getColumn(ofport).getData());
+        assertTrue(update.getNew(uuid).getColumn(ofport).getData().isEmpty());
+    }
+
+    private static TableUpdates readUpdates2(DatabaseSchema schema, Map<String, Map<UUID, Row<?>>> rowCache,
+            String json) throws IOException {
+        try (JsonParser parser = new ObjectMapper().getFactory().createParser(json)) {
+            parser.nextToken();
+            return schema.updates2FromJson(parser, rowCache);
+        }
+    }
+
+    /**
+     * Test that monitor requests only carry a where clause when conditions were added.
+     */
+    @Test
+    public void testMonitorRequestConditions() throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        DatabaseSchema schema = DatabaseSchema.fromJson("Open_vSwitch",
+                mapper.readTree(OvsdbSchemaTest.class.getResourceAsStream("test_schema.json")).get("result"));
+        GenericTableSchema bridge = schema.table("Bridge", GenericTableSchema.class);
+
+        MonitorRequest plain = new MonitorRequestBuilder<>(bridge).addColumn("name").build();
+        assertNull(mapper.valueToTree(plain).get("where"));
+
+        MonitorRequest conditional = new MonitorRequestBuilder<>(bridge).addColumn("name")
+                .addCondition(bridge.column("name", String.class), Function.EQUALS, "br-int").build();
+        assertEquals(mapper.readTree("[[\"name\",\"==\",\"br-int\"]]"),
+                mapper.valueToTree(conditional).get("where"));
+    }
 }
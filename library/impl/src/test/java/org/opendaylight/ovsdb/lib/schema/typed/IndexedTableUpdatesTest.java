@@ -0,0 +1,106 @@
+/*
+ * Copyright © 2018 EBay Software Foundation and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.schema.typed;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableSet;
+import java.io.IOException;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.ovsdb.lib.message.TableUpdates;
+import org.opendaylight.ovsdb.lib.notation.UUID;
+import org.opendaylight.ovsdb.lib.schema.DatabaseSchema;
+import org.opendaylight.ovsdb.lib.schema.GenericTableSchema;
+
+public class IndexedTableUpdatesTest {
+
+    private static final UUID INSERTED = new UUID("00000000-0000-0000-0000-000000000001");
+    private static final UUID MODIFIED = new UUID("00000000-0000-0000-0000-000000000002");
+    private static final UUID DELETED = new UUID("00000000-0000-0000-0000-000000000003");
+
+    @TypedTable(name = "Port", database = "Open_vSwitch")
+    public interface TestPort extends TypedBaseTable<GenericTableSchema> {
+        @TypedColumn(name = "name", method = MethodType.GETDATA)
+        String getName();
+    }
+
+    private DatabaseSchema dbSchema;
+    private TableUpdates updates;
+
+    @Before
+    public void setUp() throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        dbSchema = DatabaseSchema.fromJson("Open_vSwitch", mapper.readTree(getClass().getResourceAsStream(
+                "/org/opendaylight/ovsdb/lib/schema/test_schema.json")).get("result"));
+        String json = "{\"Port\":{"
+                + "\"" + INSERTED + "\":{\"new\":{\"name\":\"p1\"}},"
+                + "\"" + MODIFIED + "\":{\"new\":{\"name\":\"p2\"},\"old\":{\"name\":\"p2-old\"}},"
+                + "\"" + DELETED + "\":{\"old\":{\"name\":\"p3\"}}}}";
+        try (JsonParser parser = mapper.getFactory().createParser(json)) {
+            parser.nextToken();
+            updates = dbSchema.updatesFromJson(parser);
+        }
+    }
+
+    /**
+     * Test that the indexed updates yield the same rows as the plain ones, wrapped once and shared.
+     */
+    @Test
+    public void testSharedRows() {
+        IndexedTableUpdates indexed = new IndexedTableUpdates(updates, dbSchema);
+
+        Map<UUID, TestPort> updated = TyperUtils.extractRowsUpdated(TestPort.class, indexed, dbSchema);
+        Map<UUID, TestPort> old = TyperUtils.extractRowsOld(TestPort.class, indexed, dbSchema);
+        Map<UUID, TestPort> removed = TyperUtils.extractRowsRemoved(TestPort.class, indexed, dbSchema);
+
+        assertEquals(ImmutableSet.of(INSERTED, MODIFIED), updated.keySet());
+        assertEquals(ImmutableSet.of(MODIFIED, DELETED), old.keySet());
+        assertEquals(ImmutableSet.of(DELETED), removed.keySet());
+        assertEquals(TyperUtils.extractRowsUpdated(TestPort.class, updates, dbSchema).keySet(), updated.keySet());
+        assertEquals(TyperUtils.extractRowsOld(TestPort.class, updates, dbSchema).keySet(), old.keySet());
+        assertEquals(TyperUtils.extractRowsRemoved(TestPort.class, updates, dbSchema).keySet(), removed.keySet());
+        assertEquals("p2", updated.get(MODIFIED).getName());
+        assertEquals("p2-old", old.get(MODIFIED).getName());
+
+        assertSame(updated, TyperUtils.extractRowsUpdated(TestPort.class, indexed, dbSchema));
+        assertSame(old, TyperUtils.extractRowsOld(TestPort.class, indexed, dbSchema));
+        assertSame(old.get(DELETED), removed.get(DELETED));
+    }
+
+    /**
+     * Test that the shared rows cannot be modified.
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void testUnmodifiable() {
+        IndexedTableUpdates indexed = new IndexedTableUpdates(updates, dbSchema);
+        TyperUtils.extractRowsUpdated(TestPort.class, indexed, dbSchema).remove(INSERTED);
+    }
+
+    /**
+     * Test that the index is not used for another schema, nor for tables without updates.
+     */
+    @Test
+    public void testFallback() throws IOException {
+        IndexedTableUpdates indexed = new IndexedTableUpdates(updates, dbSchema);
+        DatabaseSchema otherSchema = DatabaseSchema.fromJson("Open_vSwitch", new ObjectMapper().readTree(
+                getClass().getResourceAsStream("/org/opendaylight/ovsdb/lib/schema/test_schema.json")).get("result"));
+
+        Map<UUID, TestPort> updated = TyperUtils.extractRowsUpdated(TestPort.class, indexed, otherSchema);
+        assertEquals(ImmutableSet.of(INSERTED, MODIFIED), updated.keySet());
+        assertNotSame(updated, TyperUtils.extractRowsUpdated(TestPort.class, indexed, otherSchema));
+
+        assertTrue(TyperUtils.extractRowsUpdated(TyperUtilsTest.TestBridge.class, indexed, dbSchema).isEmpty());
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright © 2018 EBay Software Foundation and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.schema.typed;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.ovsdb.lib.message.TableUpdates;
+import org.opendaylight.ovsdb.lib.schema.DatabaseSchema;
+import org.opendaylight.ovsdb.lib.schema.GenericTableSchema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares per-command {@link TyperUtils} row extraction with a shared {@link IndexedTableUpdates} on a
+ * synthetic initial dump of 5000 ports, their interfaces and 10 bridges, making the Port, Interface and
+ * Bridge extractions the southbound operational commands make for one update.
+ *
+ * <p>Run with {@code java -cp <test classpath> org.openjdk.jmh.Main TableUpdatesIndexBenchmark -prof gc} to
+ * compare allocation rates as well.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TableUpdatesIndexBenchmark {
+
+    private static final int BRIDGES = 10;
+
+    @TypedTable(name = "Port", database = "Open_vSwitch")
+    public interface BenchPort extends TypedBaseTable<GenericTableSchema> {
+        @TypedColumn(name = "name", method = MethodType.GETDATA)
+        String getName();
+    }
+
+    @TypedTable(name = "Interface", database = "Open_vSwitch")
+    public interface BenchInterface extends TypedBaseTable<GenericTableSchema> {
+        @TypedColumn(name = "name", method = MethodType.GETDATA)
+        String getName();
+    }
+
+    @TypedTable(name = "Bridge", database = "Open_vSwitch")
+    public interface BenchBridge extends TypedBaseTable<GenericTableSchema> {
+        @TypedColumn(name = "name", method = MethodType.GETDATA)
+        String getName();
+    }
+
+    @Param({"5000"})
+    public int ports;
+
+    private DatabaseSchema dbSchema;
+    private TableUpdates updates;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        dbSchema = DatabaseSchema.fromJson("Open_vSwitch", mapper.readTree(getClass().getResourceAsStream(
+                "/org/opendaylight/ovsdb/lib/schema/test_schema.json")).get("result"));
+        try (JsonParser parser = mapper.getFactory().createParser(initialDump(ports))) {
+            parser.nextToken();
+            updates = dbSchema.updatesFromJson(parser);
+        }
+    }
+
+    @Benchmark
+    public void perCommand(Blackhole blackhole) {
+        extractAll(updates, blackhole);
+    }
+
+    @Benchmark
+    public void shared(Blackhole blackhole) {
+        extractAll(new IndexedTableUpdates(updates, dbSchema), blackhole);
+    }
+
+    private void extractAll(TableUpdates tableUpdates, Blackhole blackhole) {
+        for (int i = 0; i < 2; i++) {
+            blackhole.consume(TyperUtils.extractRowsUpdated(BenchPort.class, tableUpdates, dbSchema));
+        }
+        blackhole.consume(TyperUtils.extractRowsOld(BenchPort.class, tableUpdates, dbSchema));
+        blackhole.consume(TyperUtils.extractRowsRemoved(BenchPort.class, tableUpdates, dbSchema));
+        blackhole.consume(TyperUtils.extractRowsUpdated(BenchInterface.class, tableUpdates, dbSchema));
+        blackhole.consume(TyperUtils.extractRowsOld(BenchInterface.class, tableUpdates, dbSchema));
+        for (int i = 0; i < 4; i++) {
+            blackhole.consume(TyperUtils.extractRowsUpdated(BenchBridge.class, tableUpdates, dbSchema));
+        }
+        for (int i = 0; i < 2; i++) {
+            blackhole.consume(TyperUtils.extractRowsOld(BenchBridge.class, tableUpdates, dbSchema));
+        }
+        blackhole.consume(TyperUtils.extractRowsRemoved(BenchBridge.class, tableUpdates, dbSchema));
+    }
+
+    /**
+     * Builds the {@code <table-updates>} of an initial monitor reply with the given number of ports, each with
+     * one interface, spread over {@value #BRIDGES} bridges.
+     */
+    static String initialDump(int ports) {
+        StringBuilder port = new StringBuilder();
+        StringBuilder iface = new StringBuilder();
+        StringBuilder bridge = new StringBuilder();
+        for (int row = 0; row < ports; row++) {
+            String sep = row > 0 ? "," : "";
+            port.append(sep).append('"').append(uuid(1, row)).append("\":{\"new\":{\"name\":\"tap").append(row)
+                .append("\",\"interfaces\":[\"uuid\",\"").append(uuid(2, row))
+                .append("\"],\"external_ids\":[\"map\",[[\"iface-id\",\"").append(row).append("\"]]]}}");
+            iface.append(sep).append('"').append(uuid(2, row)).append("\":{\"new\":{\"name\":\"tap").append(row)
+                .append("\",\"ofport\":").append(row + 1).append(",\"admin_state\":\"up\",")
+                .append("\"statistics\":[\"map\",[[\"rx_bytes\",1234567],[\"tx_bytes\",7654321]]]}}");
+        }
+        for (int row = 0; row < BRIDGES; row++) {
+            bridge.append(row > 0 ? "," : "").append('"').append(uuid(3, row)).append("\":{\"new\":{\"name\":\"br")
+                .append(row).append("\",\"datapath_type\":\"system\"}}");
+        }
+        return "{\"Port\":{" + port + "},\"Interface\":{" + iface + "},\"Bridge\":{" + bridge + "}}";
+    }
+
+    private static String uuid(int table, int row) {
+        return String.format("%08x-0000-0000-0000-%012x", table, row);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(TableUpdatesIndexBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -9,14 +9,21 @@
 package org.opendaylight.ovsdb.lib.schema.typed;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Collections;
 import org.junit.Assert;
 import org.junit.Test;
+import org.opendaylight.ovsdb.lib.error.ColumnSchemaNotFoundException;
 import org.opendaylight.ovsdb.lib.error.SchemaVersionMismatchException;
+import org.opendaylight.ovsdb.lib.notation.Column;
+import org.opendaylight.ovsdb.lib.notation.Row;
 import org.opendaylight.ovsdb.lib.notation.Version;
 import org.opendaylight.ovsdb.lib.schema.DatabaseSchema;
 import org.opendaylight.ovsdb.lib.schema.GenericTableSchema;
@@ -38,6 +45,29 @@ public class TyperUtilsTest {
 
     }
 
+    @TypedTable(name = "Bridge", database = "Open_vSwitch")
+    public interface TestBridge extends TypedBaseTable<GenericTableSchema> {
+        @TypedColumn(name = "name", method = MethodType.GETDATA)
+        String getName();
+
+        @TypedColumn(name = "name", method = MethodType.SETDATA)
+        void setName(String name);
+
+        @TypedColumn(name = "name", method = MethodType.GETCOLUMN)
+        Column<GenericTableSchema, String> getNameColumn();
+
+        @TypedColumn(name = "datapath_type", method = MethodType.GETDATA, fromVersion = "99.0.0")
+        String getFutureColumn();
+
+        @TypedColumn(name = "no_such_column", method = MethodType.GETCOLUMN)
+        Column<GenericTableSchema, String> getMissingColumn();
+    }
+
+    private static DatabaseSchema readTestSchema() throws IOException {
+        return DatabaseSchema.fromJson("Open_vSwitch", new ObjectMapper().readTree(TyperUtilsTest.class
+                .getResourceAsStream("/org/opendaylight/ovsdb/lib/schema/test_schema.json")).get("result"));
+    }
+
     /**
      * Test that {@link TyperUtils#getTableSchema(DatabaseSchema, Class)} returns the appropriate schema when given a
      * table containing the appropriate schema, for a typed table (annotated).
@@ -98,6 +128,48 @@ public class TyperUtilsTest {
         TyperUtils.getTableSchema(dbSchema, TestUntypedTable.class);
     }
 
+    /**
+     * Test that typed row wrappers read and write the row through the column schemas resolved for the database
+     * schema, and that wrappers created later for the same schema share them.
+     */
+    @Test
+    public void testTypedRowWrapper() throws IOException {
+        DatabaseSchema dbSchema = readTestSchema();
+        Row<GenericTableSchema> row = new Row<>();
+        TestBridge bridge = TyperUtils.getTypedRowWrapper(dbSchema, TestBridge.class, row);
+        GenericTableSchema tableSchema = dbSchema.table("Bridge", GenericTableSchema.class);
+
+        assertNull(bridge.getName());
+        bridge.setName("br-int");
+        assertEquals("br-int", bridge.getName());
+        assertSame(row, bridge.getRow());
+        assertSame(tableSchema, bridge.getSchema());
+        assertSame(tableSchema.column("name"), bridge.getNameColumn().getSchema());
+
+        TestBridge other = TyperUtils.getTypedRowWrapper(dbSchema, TestBridge.class, row);
+        assertEquals("br-int", other.getName());
+        assertSame(bridge.getNameColumn().getSchema(), other.getNameColumn().getSchema());
+        assertNull(TyperUtils.getTypedRowWrapper(dbSchema, TestBridge.class, null).getNameColumn().getData());
+    }
+
+    /**
+     * Test that methods not applicable to the database schema still fail when invoked, not when wrapping.
+     */
+    @Test(expected = SchemaVersionMismatchException.class)
+    public void testTypedRowWrapperVersionMismatch() throws IOException {
+        TestBridge bridge = TyperUtils.getTypedRowWrapper(readTestSchema(), TestBridge.class, new Row<>());
+        bridge.getFutureColumn();
+    }
+
+    /**
+     * Test that a column absent from the database schema is reported when its getter is invoked.
+     */
+    @Test(expected = ColumnSchemaNotFoundException.class)
+    public void testTypedRowWrapperMissingColumn() throws IOException {
+        TestBridge bridge = TyperUtils.getTypedRowWrapper(readTestSchema(), TestBridge.class, new Row<>());
+        bridge.getMissingColumn();
+    }
+
     /**
      * Test that {@link TyperUtils#checkVersion(Version, Version, Version)} detects an old version. (The aim here isn't
      * to test {@link Version#compareTo(Version)}, that should be done in
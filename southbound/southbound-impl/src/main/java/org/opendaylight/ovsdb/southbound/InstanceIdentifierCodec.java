@@ -8,6 +8,9 @@
 
 package org.opendaylight.ovsdb.southbound;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import java.net.URI;
 import org.opendaylight.mdsal.binding.dom.codec.api.BindingNormalizedNodeSerializer;
 import org.opendaylight.mdsal.dom.api.DOMSchemaService;
@@ -26,10 +29,14 @@ public class InstanceIdentifierCodec extends AbstractModuleStringInstanceIdentif
     implements SchemaContextListener {
 
     private static final Logger LOG = LoggerFactory.getLogger(InstanceIdentifierCodec.class);
+    private static final int CACHE_SIZE = 16384;
 
     private DataSchemaContextTree dataSchemaContextTree;
     private SchemaContext context;
     private final BindingNormalizedNodeSerializer bindingNormalizedNodeSerializer;
+    // Conversions of the identifiers stamped on OVSDB rows, both ways, as they are seen on every row update
+    private final Cache<InstanceIdentifier<?>, String> serializeCache = newCache();
+    private final Cache<String, InstanceIdentifier<?>> deserializeCache = newCache();
 
     public InstanceIdentifierCodec(DOMSchemaService schemaService,
             BindingNormalizedNodeSerializer bindingNormalizedNodeSerializer) {
@@ -52,15 +59,26 @@ public class InstanceIdentifierCodec extends AbstractModuleStringInstanceIdentif
         return context.findModules(namespace).stream().map(Module::getName).findFirst().orElse(null);
     }
 
+    private static <K, V> Cache<K, V> newCache() {
+        return CacheBuilder.newBuilder().maximumSize(CACHE_SIZE).recordStats().build();
+    }
+
     @Override
     public void onGlobalContextUpdated(SchemaContext schemaContext) {
         this.context = schemaContext;
         this.dataSchemaContextTree = DataSchemaContextTree.from(schemaContext);
+        serializeCache.invalidateAll();
+        deserializeCache.invalidateAll();
     }
 
     public String serialize(InstanceIdentifier<?> iid) {
-        YangInstanceIdentifier normalizedIid = bindingNormalizedNodeSerializer.toYangInstanceIdentifier(iid);
-        return serialize(normalizedIid);
+        String iidString = serializeCache.getIfPresent(iid);
+        if (iidString == null) {
+            YangInstanceIdentifier normalizedIid = bindingNormalizedNodeSerializer.toYangInstanceIdentifier(iid);
+            iidString = serialize(normalizedIid);
+            cache(iid, iidString);
+        }
+        return iidString;
     }
 
     public YangInstanceIdentifier getYangInstanceIdentifier(InstanceIdentifier<?> iid) {
@@ -68,8 +86,34 @@ public class InstanceIdentifierCodec extends AbstractModuleStringInstanceIdentif
     }
 
     public InstanceIdentifier<?> bindingDeserializer(String iidString) throws DeserializationException {
-        YangInstanceIdentifier normalizedYangIid = deserialize(iidString);
-        return bindingNormalizedNodeSerializer.fromYangInstanceIdentifier(normalizedYangIid);
+        InstanceIdentifier<?> iid = deserializeCache.getIfPresent(iidString);
+        if (iid == null) {
+            YangInstanceIdentifier normalizedYangIid = deserialize(iidString);
+            iid = bindingNormalizedNodeSerializer.fromYangInstanceIdentifier(normalizedYangIid);
+            cache(iid, iidString);
+        }
+        return iid;
+    }
+
+    private void cache(InstanceIdentifier<?> iid, String iidString) {
+        if (iid != null && iidString != null) {
+            serializeCache.put(iid, iidString);
+            deserializeCache.put(iidString, iid);
+        }
+    }
+
+    /**
+     * Returns the statistics of the cache of {@link #serialize(InstanceIdentifier)}.
+     */
+    public CacheStats getSerializeCacheStats() {
+        return serializeCache.stats();
+    }
+
+    /**
+     * Returns the statistics of the cache of {@link #bindingDeserializer(String)}.
+     */
+    public CacheStats getDeserializeCacheStats() {
+        return deserializeCache.stats();
     }
 
     public InstanceIdentifier<?> bindingDeserializer(YangInstanceIdentifier yangIID) {
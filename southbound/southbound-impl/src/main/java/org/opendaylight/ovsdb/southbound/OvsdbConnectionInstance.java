@@ -10,7 +10,10 @@ package org.opendaylight.ovsdb.southbound;
 import static org.opendaylight.ovsdb.lib.operations.Operations.op;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -20,6 +23,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import javax.annotation.Nonnull;
 import org.opendaylight.controller.md.sal.binding.api.DataTreeModification;
 import org.opendaylight.mdsal.eos.binding.api.Entity;
@@ -71,12 +76,16 @@ public class OvsdbConnectionInstance {
     private ConnectionInfo connectionInfo;
     private final TransactionInvoker txInvoker;
     private Map<DatabaseSchema,TransactInvoker> transactInvokers;
-    private MonitorCallBack callback;
+    private volatile MonitorCallBack callback;
     private InstanceIdentifier<Node> instanceIdentifier;
     private volatile boolean hasDeviceOwnership = false;
     private Entity connectedEntity;
     private EntityOwnershipCandidateRegistration deviceOwnershipCandidateRegistration;
     private OvsdbNodeAugmentation initialCreateData = null;
+    private final AtomicInteger queuedCommands = new AtomicInteger();
+    private final OvsdbDeviceInfo deviceInfo = new OvsdbDeviceInfo();
+    private TransactionInvoker transactionLane;
+    private volatile MonitorHandle monitorHandle;
 
     OvsdbConnectionInstance(ConnectionInfo key, OvsdbClient client, TransactionInvoker txInvoker,
                             InstanceIdentifier<Node> iid) {
@@ -128,19 +137,27 @@ public class OvsdbConnectionInstance {
                 this.updateConnectionAttributes(instanceIdentifierCodec);
             }
 
-            try {
-                String database = SouthboundConstants.OPEN_V_SWITCH;
-                DatabaseSchema dbSchema = getSchema(database).get();
-                if (dbSchema != null) {
-                    LOG.info("Monitoring database: {}", database);
-                    callback = new OvsdbMonitorCallback(instanceIdentifierCodec, this, txInvoker);
-                    monitorTables(database, dbSchema);
-                } else {
-                    LOG.info("No database {} found on {}", database, connectionInfo);
+            String database = SouthboundConstants.OPEN_V_SWITCH;
+            // Set right away so that calls made before the schema is received do not monitor twice
+            callback = new OvsdbMonitorCallback(instanceIdentifierCodec, this, txInvoker);
+            Futures.addCallback(getSchema(database), new FutureCallback<DatabaseSchema>() {
+                @Override
+                public void onSuccess(DatabaseSchema dbSchema) {
+                    if (dbSchema != null) {
+                        LOG.info("Monitoring database: {}", database);
+                        monitorTables(database, dbSchema);
+                    } else {
+                        LOG.info("No database {} found on {}", database, connectionInfo);
+                        callback = null;
+                    }
                 }
-            } catch (InterruptedException | ExecutionException e) {
-                LOG.warn("Exception attempting to registerCallbacks {}: ", connectionInfo, e);
-            }
+
+                @Override
+                public void onFailure(Throwable throwable) {
+                    LOG.warn("Exception attempting to registerCallbacks {}: ", connectionInfo, throwable);
+                    callback = null;
+                }
+            }, MoreExecutors.directExecutor());
         }
     }
 
@@ -179,12 +196,46 @@ public class OvsdbConnectionInstance {
                             .with(new MonitorSelect(true, true, true, true)).build());
                 }
             }
-            this.callback.update(monitor(dbSchema, monitorRequests, callback), dbSchema);
+            final MonitorCallBack monitorCallBack = this.callback;
+            Futures.addCallback(monitorNode(dbSchema, monitorRequests, monitorCallBack),
+                new FutureCallback<TableUpdates>() {
+                    @Override
+                    public void onSuccess(TableUpdates updates) {
+                        monitorCallBack.update(updates, dbSchema);
+                    }
+
+                    @Override
+                    public void onFailure(Throwable throwable) {
+                        LOG.warn("Failed to monitor database {} on {}", database, connectionInfo, throwable);
+                    }
+                }, MoreExecutors.directExecutor());
         } else {
             LOG.warn("No tables for schema {} for database {} for key {}",dbSchema,database,connectionInfo);
         }
     }
 
+    /**
+     * Monitors the node with monitor_cond_since when it has a {@link MonitorHandle}, so that a reconnecting node
+     * only sends the changes since the last transaction seen, and with monitor otherwise or when the server does
+     * not support monitor_cond_since. The operational data of the node is removed on disconnect, so the complete
+     * rows kept by the handle are reported rather than the changes.
+     */
+    private ListenableFuture<TableUpdates> monitorNode(DatabaseSchema dbSchema, List<MonitorRequest> monitorRequests,
+            MonitorCallBack monitorCallBack) {
+        final MonitorHandle handle = this.monitorHandle;
+        if (handle == null) {
+            return monitorAsync(dbSchema, monitorRequests, monitorCallBack);
+        }
+        LOG.info("Monitoring {} since transaction {}", connectionInfo, handle.getLastTxnId());
+        ListenableFuture<TableUpdates> resumed = Futures.transform(
+                client.monitorCondSinceAsync(dbSchema, monitorRequests, handle, monitorCallBack),
+                updates -> handle.getSnapshotUpdates(), MoreExecutors.directExecutor());
+        return Futures.catchingAsync(resumed, Exception.class, e -> {
+            LOG.info("Failed to monitor {} since the last transaction, monitoring all of it", connectionInfo, e);
+            return monitorAsync(dbSchema, monitorRequests, monitorCallBack);
+        }, MoreExecutors.directExecutor());
+    }
+
     private void updateConnectionAttributes(InstanceIdentifierCodec instanceIdentifierCodec) {
         LOG.debug("Update attributes of ovsdb node ip: {} port: {}",
                     this.initialCreateData.getConnectionInfo().getRemoteIp(),
@@ -281,6 +332,67 @@ public class OvsdbConnectionInstance {
         return client.monitor(schema, monitorRequests, callbackArgument);
     }
 
+    public ListenableFuture<TableUpdates> monitorAsync(
+            DatabaseSchema schema, List<MonitorRequest> monitorRequests,
+            MonitorCallBack callbackArgument) {
+        return client.monitorAsync(schema, monitorRequests, callbackArgument);
+    }
+
+    /**
+     * Stops reading updates from the device, see {@link OvsdbClient#pauseReads()}.
+     */
+    public void pauseReads() {
+        client.pauseReads();
+    }
+
+    /**
+     * Resumes reading updates from the device after {@link #pauseReads()}.
+     */
+    public void resumeReads() {
+        client.resumeReads();
+    }
+
+    /**
+     * Returns the total time reads from the device were paused, in milliseconds.
+     */
+    public long getReadPausedMillis() {
+        return client.getReadPausedMillis();
+    }
+
+    /**
+     * Returns the number of operational commands of this connection waiting in the transaction invoker queue.
+     */
+    public int getQueuedCommands() {
+        return queuedCommands.get();
+    }
+
+    /**
+     * Accounts for operational commands of this connection entering (positive delta) or leaving (negative delta)
+     * the transaction invoker queue.
+     */
+    public void updateQueuedCommands(int delta) {
+        queuedCommands.addAndGet(delta);
+    }
+
+    /**
+     * Returns the transaction invoker lane the operational commands of this connection go through, taken from
+     * laneSupplier on the first call. The lane is kept for the life of the connection, so that its commands stay
+     * in order when its instance identifier changes.
+     */
+    public synchronized TransactionInvoker getTransactionLane(Supplier<TransactionInvoker> laneSupplier) {
+        if (transactionLane == null) {
+            transactionLane = laneSupplier.get();
+        }
+        return transactionLane;
+    }
+
+    /**
+     * Returns the in-memory shadow of the bridges and ports of this node, as of the last applied monitor update.
+     */
+    public OvsdbDeviceInfo getDeviceInfo() {
+        return deviceInfo;
+    }
+
     public void cancelMonitor(MonitorHandle handler) {
         client.cancelMonitor(handler);
     }
@@ -352,6 +464,14 @@ public class OvsdbConnectionInstance {
         this.instanceIdentifier = iid;
     }
 
+    /**
+     * Sets the handle the node is monitored with, which outlives the connection so that the monitor can be resumed
+     * from its last transaction on reconnect.
+     */
+    public void setMonitorHandle(MonitorHandle monitorHandle) {
+        this.monitorHandle = monitorHandle;
+    }
+
     public Entity getConnectedEntity() {
         return this.connectedEntity;
     }
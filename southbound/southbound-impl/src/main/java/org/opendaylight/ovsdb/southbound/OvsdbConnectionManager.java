@@ -21,6 +21,7 @@ import java.net.UnknownHostException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -38,6 +39,7 @@ import org.opendaylight.mdsal.eos.binding.api.EntityOwnershipListenerRegistratio
 import org.opendaylight.mdsal.eos.binding.api.EntityOwnershipService;
 import org.opendaylight.mdsal.eos.common.api.CandidateAlreadyRegisteredException;
 import org.opendaylight.mdsal.eos.common.api.EntityOwnershipState;
+import org.opendaylight.ovsdb.lib.MonitorHandle;
 import org.opendaylight.ovsdb.lib.OvsdbClient;
 import org.opendaylight.ovsdb.lib.OvsdbConnection;
 import org.opendaylight.ovsdb.lib.OvsdbConnectionListener;
@@ -53,6 +55,7 @@ import org.opendaylight.ovsdb.southbound.reconciliation.ReconciliationTask;
 import org.opendaylight.ovsdb.southbound.reconciliation.configuration.BridgeConfigReconciliationTask;
 import org.opendaylight.ovsdb.southbound.reconciliation.connection.ConnectionReconciliationTask;
 import org.opendaylight.ovsdb.southbound.transactions.md.OvsdbNodeRemoveCommand;
+import org.opendaylight.ovsdb.southbound.transactions.md.TransactionCommand;
 import org.opendaylight.ovsdb.southbound.transactions.md.TransactionInvoker;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.OvsdbBridgeAttributes;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.OvsdbBridgeAugmentation;
@@ -79,6 +82,8 @@ public class OvsdbConnectionManager implements OvsdbConnectionListener, AutoClos
             new ConcurrentHashMap<>();
     private final Map<Entity, OvsdbConnectionInstance> entityConnectionMap =
             new ConcurrentHashMap<>();
+    // monitor handles of the nodes, kept across reconnects to resume monitoring from the last transaction
+    private final Map<InstanceIdentifier<Node>, MonitorHandle> monitorHandles = new ConcurrentHashMap<>();
     private final EntityOwnershipService entityOwnershipService;
     private final OvsdbDeviceEntityOwnershipListener ovsdbDeviceEntityOwnershipListener;
     private final OvsdbConnection ovsdbConnection;
@@ -250,6 +255,7 @@ public class OvsdbConnectionManager implements OvsdbConnectionListener, AutoClos
             client.disconnect();
 
             removeInstanceIdentifier(ovsdbNode.getConnectionInfo());
+            monitorHandles.remove(client.getInstanceIdentifier());
 
             stopBridgeConfigReconciliationIfActive(client.getInstanceIdentifier());
         } else {
@@ -475,7 +481,7 @@ public class OvsdbConnectionManager implements OvsdbConnectionListener, AutoClos
         @SuppressWarnings("unchecked")
         final InstanceIdentifier<Node> nodeIid = (InstanceIdentifier<Node>) entity.getIdentifier();
 
-        txInvoker.invoke(transaction -> {
+        TransactionCommand cleanup = transaction -> {
             Optional<Node> ovsdbNodeOpt = SouthboundUtil.readNode(transaction, nodeIid);
             if (ovsdbNodeOpt.isPresent()) {
                 Node ovsdbNode = ovsdbNodeOpt.get();
@@ -492,8 +498,14 @@ public class OvsdbConnectionManager implements OvsdbConnectionListener, AutoClos
                 }
                 transaction.delete(LogicalDatastoreType.OPERATIONAL, nodeIid);
             }
-        });
-
+        };
+        // Keep the clean-up in order with the updates of a connection of the node, through the lane it is pinned to
+        OvsdbConnectionInstance connection = nodeIdVsConnectionInstance.get(nodeIid);
+        if (connection != null) {
+            txInvoker.invoke(cleanup, connection);
+        } else {
+            txInvoker.invoke(cleanup, nodeIid);
+        }
     }
 
     private OpenVSwitch getOpenVswitchTableEntry(OvsdbConnectionInstance connectionInstance) {
@@ -566,6 +578,9 @@ public class OvsdbConnectionManager implements OvsdbConnectionListener, AutoClos
         }
         nodeIdVsConnectionInstance.put((InstanceIdentifier<Node>) candidateEntity.getIdentifier(),
                 ovsdbConnectionInstance);
+        ovsdbConnectionInstance.setMonitorHandle(monitorHandles.computeIfAbsent(
+                (InstanceIdentifier<Node>) candidateEntity.getIdentifier(),
+                nodeIid -> new MonitorHandle(UUID.randomUUID().toString())));
         entityConnectionMap.put(candidateEntity, ovsdbConnectionInstance);
         ovsdbConnectionInstance.setConnectedEntity(candidateEntity);
         try {
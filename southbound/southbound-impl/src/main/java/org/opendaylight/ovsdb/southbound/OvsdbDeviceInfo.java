@@ -0,0 +1,127 @@
+/*
+ * Copyright © 2018 EBay Software Foundation and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.ovsdb.southbound;
+
+import com.google.common.collect.ImmutableSet;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.opendaylight.ovsdb.lib.notation.UUID;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.topology.Node;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * In-memory shadow of the bridges, ports and interfaces of an OVSDB node, maintained incrementally from its monitor
+ * updates. There is one instance per connected node.
+ *
+ * <p>The initial monitor reply carries every bridge and port, so after it the shadow is authoritative: the
+ * operational commands use it to find the bridge of a termination point instead of reading each managed bridge
+ * from the operational datastore.
+ */
+public class OvsdbDeviceInfo {
+
+    private final Map<UUID, InstanceIdentifier<Node>> bridgeIids = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<UUID>> bridgePorts = new ConcurrentHashMap<>();
+    private final Map<UUID, UUID> portBridges = new ConcurrentHashMap<>();
+    private final Map<UUID, String> portNames = new ConcurrentHashMap<>();
+    private final Map<String, UUID> namedPorts = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<UUID>> portInterfaces = new ConcurrentHashMap<>();
+    private final Map<UUID, UUID> interfacePorts = new ConcurrentHashMap<>();
+
+    public void updateBridge(UUID bridgeUuid, InstanceIdentifier<Node> bridgeIid, Set<UUID> ports) {
+        bridgeIids.put(bridgeUuid, bridgeIid);
+        Set<UUID> newPorts = ports == null ? Collections.emptySet() : ImmutableSet.copyOf(ports);
+        Set<UUID> oldPorts = bridgePorts.put(bridgeUuid, newPorts);
+        if (oldPorts != null) {
+            for (UUID port : oldPorts) {
+                if (!newPorts.contains(port)) {
+                    portBridges.remove(port, bridgeUuid);
+                }
+            }
+        }
+        for (UUID port : newPorts) {
+            portBridges.put(port, bridgeUuid);
+        }
+    }
+
+    public void removeBridge(UUID bridgeUuid) {
+        bridgeIids.remove(bridgeUuid);
+        Set<UUID> ports = bridgePorts.remove(bridgeUuid);
+        if (ports != null) {
+            for (UUID port : ports) {
+                portBridges.remove(port, bridgeUuid);
+            }
+        }
+    }
+
+    public void updatePort(UUID portUuid, String name, Set<UUID> interfaces) {
+        String oldName = name == null ? portNames.remove(portUuid) : portNames.put(portUuid, name);
+        if (oldName != null && !oldName.equals(name)) {
+            namedPorts.remove(oldName, portUuid);
+        }
+        if (name != null) {
+            namedPorts.put(name, portUuid);
+        }
+        Set<UUID> newInterfaces = interfaces == null ? Collections.emptySet() : ImmutableSet.copyOf(interfaces);
+        Set<UUID> oldInterfaces = portInterfaces.put(portUuid, newInterfaces);
+        if (oldInterfaces != null) {
+            for (UUID iface : oldInterfaces) {
+                if (!newInterfaces.contains(iface)) {
+                    interfacePorts.remove(iface, portUuid);
+                }
+            }
+        }
+        for (UUID iface : newInterfaces) {
+            interfacePorts.put(iface, portUuid);
+        }
+    }
+
+    public void removePort(UUID portUuid) {
+        String name = portNames.remove(portUuid);
+        if (name != null) {
+            namedPorts.remove(name, portUuid);
+        }
+        Set<UUID> interfaces = portInterfaces.remove(portUuid);
+        if (interfaces != null) {
+            for (UUID iface : interfaces) {
+                interfacePorts.remove(iface, portUuid);
+            }
+        }
+    }
+
+    /**
+     * Returns the identifier of the bridge the given port belongs to, or null if it is not attached to any.
+     */
+    public InstanceIdentifier<Node> getPortBridgeIid(UUID portUuid) {
+        UUID bridgeUuid = portBridges.get(portUuid);
+        return bridgeUuid == null ? null : bridgeIids.get(bridgeUuid);
+    }
+
+    /**
+     * Returns the identifier of the bridge the port with the given name, that is the termination point with the
+     * given id, belongs to, or null if there is none.
+     */
+    public InstanceIdentifier<Node> getPortBridgeIid(String portName) {
+        UUID portUuid = namedPorts.get(portName);
+        return portUuid == null ? null : getPortBridgeIid(portUuid);
+    }
+
+    public String getPortName(UUID portUuid) {
+        return portNames.get(portUuid);
+    }
+
+    public Set<UUID> getPortInterfaces(UUID portUuid) {
+        return portInterfaces.getOrDefault(portUuid, Collections.emptySet());
+    }
+
+    public UUID getInterfacePort(UUID interfaceUuid) {
+        return interfacePorts.get(interfaceUuid);
+    }
+}
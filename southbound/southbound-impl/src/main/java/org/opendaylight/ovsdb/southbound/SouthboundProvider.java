@@ -38,8 +38,7 @@ import org.opendaylight.mdsal.eos.binding.api.EntityOwnershipListenerRegistratio
 import org.opendaylight.mdsal.eos.binding.api.EntityOwnershipService;
 import org.opendaylight.mdsal.eos.common.api.CandidateAlreadyRegisteredException;
 import org.opendaylight.ovsdb.lib.OvsdbConnection;
-import org.opendaylight.ovsdb.southbound.transactions.md.TransactionInvoker;
-import org.opendaylight.ovsdb.southbound.transactions.md.TransactionInvokerImpl;
+import org.opendaylight.ovsdb.southbound.transactions.md.ShardedTransactionInvoker;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NetworkTopology;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.Topology;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.TopologyBuilder;
@@ -64,7 +63,8 @@ public class SouthboundProvider implements ClusteredDataTreeChangeListener<Topol
     @SuppressFBWarnings("ST_WRITE_TO_STATIC_FROM_INSTANCE_METHOD")
     private static DataBroker db;
     private OvsdbConnectionManager cm;
-    private TransactionInvoker txInvoker;
+    private ShardedTransactionInvoker txInvoker;
+    private int transactionInvokerLanes = ShardedTransactionInvoker.DEFAULT_LANES;
     private OvsdbDataTreeChangeListener ovsdbDataTreeChangeListener;
     private final EntityOwnershipService entityOwnershipService;
     private EntityOwnershipCandidateRegistration registration;
@@ -103,7 +103,7 @@ public class SouthboundProvider implements ClusteredDataTreeChangeListener<Topol
     public void init() {
         LOG.info("SouthboundProvider Session Initiated");
         ovsdbStatusProvider.reportStatus(ServiceState.STARTING, "OVSDB initialization in progress");
-        this.txInvoker = new TransactionInvokerImpl(db);
+        this.txInvoker = new ShardedTransactionInvoker(db, transactionInvokerLanes);
         cm = new OvsdbConnectionManager(db, txInvoker, entityOwnershipService, ovsdbConnection,
                 instanceIdentifierCodec);
         ovsdbDataTreeChangeListener = new OvsdbDataTreeChangeListener(db, cm, instanceIdentifierCodec);
@@ -232,4 +232,16 @@ public class SouthboundProvider implements ClusteredDataTreeChangeListener<Topol
             SouthboundConstants.SKIP_COLUMN_FROM_TABLE.get("Manager").remove("status");
         }
     }
+
+    /**
+     * Sets the number of lanes the operational updates of the devices are spread over. Lanes are started when the
+     * first device connects, later changes only apply after a restart.
+     */
+    public void setTransactionInvokerLanes(int lanes) {
+        LOG.debug("transactionInvokerLanes set to {}", lanes);
+        transactionInvokerLanes = lanes;
+        if (txInvoker != null) {
+            txInvoker.setLaneCount(lanes);
+        }
+    }
 }
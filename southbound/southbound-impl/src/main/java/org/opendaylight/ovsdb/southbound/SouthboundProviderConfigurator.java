@@ -21,6 +21,7 @@ public class SouthboundProviderConfigurator {
     private static final Logger LOG = LoggerFactory.getLogger(SouthboundProviderConfigurator.class);
 
     private static final String SKIP_MONITORING_MANAGER_STATUS_PARAM = "skip-monitoring-manager-status";
+    private static final String TRANSACTION_INVOKER_LANES_PARAM = "transaction-invoker-lanes";
 
     private final SouthboundProvider southboundProvider;
 
@@ -32,6 +33,10 @@ public class SouthboundProviderConfigurator {
         southboundProvider.setSkipMonitoringManagerStatus(flag);
     }
 
+    public void setTransactionInvokerLanes(int lanes) {
+        southboundProvider.setTransactionInvokerLanes(lanes);
+    }
+
     public void updateConfigParameter(Map<String, Object> configParameters) {
         if (configParameters != null && !configParameters.isEmpty()) {
             LOG.debug("Config parameters received : {}", configParameters.entrySet());
@@ -39,7 +44,9 @@ public class SouthboundProviderConfigurator {
                 if (paramEntry.getKey().equalsIgnoreCase(SKIP_MONITORING_MANAGER_STATUS_PARAM)) {
                     southboundProvider
                             .setSkipMonitoringManagerStatus(Boolean.parseBoolean((String) paramEntry.getValue()));
-                    break;
+                } else if (paramEntry.getKey().equalsIgnoreCase(TRANSACTION_INVOKER_LANES_PARAM)) {
+                    southboundProvider
+                            .setTransactionInvokerLanes(Integer.parseInt((String) paramEntry.getValue()));
                 }
             }
         }
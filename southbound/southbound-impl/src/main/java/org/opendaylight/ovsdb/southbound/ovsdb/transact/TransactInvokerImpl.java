@@ -8,11 +8,13 @@
 package org.opendaylight.ovsdb.southbound.ovsdb.transact;
 
 import com.google.common.base.Strings;
-import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CancellationException;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
 import org.opendaylight.controller.md.sal.binding.api.DataTreeModification;
 import org.opendaylight.ovsdb.lib.operations.OperationResult;
 import org.opendaylight.ovsdb.lib.operations.TransactionBuilder;
@@ -25,8 +27,11 @@ import org.slf4j.LoggerFactory;
 
 public class TransactInvokerImpl implements TransactInvoker {
     private static final Logger LOG = LoggerFactory.getLogger(TransactInvokerImpl.class);
+    // Maximum number of transactions sent to the device and not answered yet
+    private static final int MAX_IN_FLIGHT = 16;
     private final OvsdbConnectionInstance connectionInstance;
     private final DatabaseSchema dbSchema;
+    private final Semaphore inFlight = new Semaphore(MAX_IN_FLIGHT);
 
     public TransactInvokerImpl(OvsdbConnectionInstance connectionInstance, DatabaseSchema dbSchema) {
         this.connectionInstance = connectionInstance;
@@ -49,26 +54,42 @@ public class TransactInvokerImpl implements TransactInvoker {
         invoke(command, tb);
     }
 
-    private static void invoke(TransactCommand command, TransactionBuilder tb) {
-        ListenableFuture<List<OperationResult>> result = tb.execute();
+    private void invoke(TransactCommand command, TransactionBuilder tb) {
         LOG.debug("invoke: command: {}, tb: {}", command, tb);
-        if (tb.getOperations().size() > 0) {
-            try {
-                if (!result.isCancelled()) {
-                    List<OperationResult> got = result.get();
-                    if (got != null) {
-                        got.stream()
-                                .filter(response -> !Strings.isNullOrEmpty(response.getError()))
-                                .peek(response -> LOG.error("Failed to transact to device {}", response.getError()));
-                    }
-                    LOG.debug("OVSDB transaction result: {}", got);
-                } else {
+        if (tb.getOperations().isEmpty()) {
+            return;
+        }
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            LOG.warn("Interrupted while waiting to transact {}", tb, e);
+            Thread.currentThread().interrupt();
+            return;
+        }
+        // The device runs the transactions of a connection in the order they are sent, later ones see the changes
+        // of earlier ones even if their results are not received yet
+        Futures.addCallback(tb.execute(), new FutureCallback<List<OperationResult>>() {
+            @Override
+            public void onSuccess(List<OperationResult> got) {
+                inFlight.release();
+                if (got != null) {
+                    got.stream()
+                            .filter(response -> !Strings.isNullOrEmpty(response.getError()))
+                            .forEach(response -> LOG.error("Failed to transact to device {}", response.getError()));
+                }
+                LOG.debug("OVSDB transaction result: {}", got);
+                LOG.trace("invoke exit command: {}, tb: {}", command, tb);
+            }
+
+            @Override
+            public void onFailure(Throwable throwable) {
+                inFlight.release();
+                if (throwable instanceof CancellationException) {
                     LOG.debug("Operation task cancelled for transaction : {}", tb);
+                } else {
+                    LOG.warn("Transact execution exception: ", throwable);
                 }
-            } catch (InterruptedException | ExecutionException | CancellationException e) {
-                LOG.warn("Transact execution exception: ", e);
             }
-            LOG.trace("invoke exit command: {}, tb: {}", command, tb);
-        }
+        }, MoreExecutors.directExecutor());
     }
 }
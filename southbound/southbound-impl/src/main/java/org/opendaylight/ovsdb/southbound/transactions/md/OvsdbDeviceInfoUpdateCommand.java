@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2018 EBay Software Foundation and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.ovsdb.southbound.transactions.md;
+
+import java.util.Map;
+import java.util.Map.Entry;
+import org.opendaylight.controller.md.sal.binding.api.ReadWriteTransaction;
+import org.opendaylight.ovsdb.lib.message.TableUpdates;
+import org.opendaylight.ovsdb.lib.notation.UUID;
+import org.opendaylight.ovsdb.lib.schema.DatabaseSchema;
+import org.opendaylight.ovsdb.lib.schema.typed.TyperUtils;
+import org.opendaylight.ovsdb.schema.openvswitch.Bridge;
+import org.opendaylight.ovsdb.schema.openvswitch.Port;
+import org.opendaylight.ovsdb.southbound.InstanceIdentifierCodec;
+import org.opendaylight.ovsdb.southbound.OvsdbConnectionInstance;
+import org.opendaylight.ovsdb.southbound.OvsdbDeviceInfo;
+import org.opendaylight.ovsdb.southbound.SouthboundMapper;
+
+/**
+ * Applies the bridge and port rows of an update to the {@link OvsdbDeviceInfo} of the node. It runs before the
+ * other operational commands of the update, which can then rely on the device info reflecting it.
+ */
+public class OvsdbDeviceInfoUpdateCommand extends AbstractTransactionCommand {
+
+    private final InstanceIdentifierCodec instanceIdentifierCodec;
+
+    public OvsdbDeviceInfoUpdateCommand(InstanceIdentifierCodec instanceIdentifierCodec, OvsdbConnectionInstance key,
+            TableUpdates updates, DatabaseSchema dbSchema) {
+        super(key, updates, dbSchema);
+        this.instanceIdentifierCodec = instanceIdentifierCodec;
+    }
+
+    @Override
+    public void execute(ReadWriteTransaction transaction) {
+        OvsdbDeviceInfo deviceInfo = getOvsdbConnectionInstance().getDeviceInfo();
+        Map<UUID, Bridge> bridgeUpdatedRows = TyperUtils.extractRowsUpdated(Bridge.class, getUpdates(), getDbSchema());
+        for (Entry<UUID, Bridge> entry : bridgeUpdatedRows.entrySet()) {
+            deviceInfo.updateBridge(entry.getKey(), SouthboundMapper.createInstanceIdentifier(instanceIdentifierCodec,
+                    getOvsdbConnectionInstance(), entry.getValue()), entry.getValue().getPortsColumn().getData());
+        }
+        for (UUID bridgeUuid : TyperUtils.extractRowsRemoved(Bridge.class, getUpdates(), getDbSchema()).keySet()) {
+            deviceInfo.removeBridge(bridgeUuid);
+        }
+
+        Map<UUID, Port> portUpdatedRows = TyperUtils.extractRowsUpdated(Port.class, getUpdates(), getDbSchema());
+        for (Entry<UUID, Port> entry : portUpdatedRows.entrySet()) {
+            deviceInfo.updatePort(entry.getKey(), entry.getValue().getNameColumn().getData(),
+                    entry.getValue().getInterfacesColumn().getData());
+        }
+        for (UUID portUuid : TyperUtils.extractRowsRemoved(Port.class, getUpdates(), getDbSchema()).keySet()) {
+            deviceInfo.removePort(portUuid);
+        }
+    }
+}
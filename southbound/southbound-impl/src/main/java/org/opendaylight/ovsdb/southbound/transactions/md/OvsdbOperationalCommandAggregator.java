@@ -15,6 +15,7 @@ import org.opendaylight.controller.md.sal.binding.api.ReadWriteTransaction;
 import org.opendaylight.ovsdb.lib.message.TableUpdates;
 import org.opendaylight.ovsdb.lib.notation.Version;
 import org.opendaylight.ovsdb.lib.schema.DatabaseSchema;
+import org.opendaylight.ovsdb.lib.schema.typed.IndexedTableUpdates;
 import org.opendaylight.ovsdb.southbound.InstanceIdentifierCodec;
 import org.opendaylight.ovsdb.southbound.OvsdbConnectionInstance;
 import org.opendaylight.ovsdb.southbound.SouthboundConstants;
@@ -27,7 +28,10 @@ public class OvsdbOperationalCommandAggregator implements TransactionCommand {
     private final List<TransactionCommand> commands = new ArrayList<>();
 
     public OvsdbOperationalCommandAggregator(InstanceIdentifierCodec instanceIdentifierCodec,
-            OvsdbConnectionInstance key, TableUpdates updates, DatabaseSchema dbSchema) {
+            OvsdbConnectionInstance key, TableUpdates tableUpdates, DatabaseSchema dbSchema) {
+        // Rows are extracted and wrapped once per table, then shared by all the commands
+        TableUpdates updates = new IndexedTableUpdates(tableUpdates, dbSchema);
+        commands.add(new OvsdbDeviceInfoUpdateCommand(instanceIdentifierCodec, key, updates, dbSchema));
         commands.add(new OpenVSwitchUpdateCommand(instanceIdentifierCodec, key, updates, dbSchema));
         commands.add(new OvsdbManagersUpdateCommand(key, updates,  dbSchema));
         commands.add(new OvsdbManagersRemovedCommand(key, updates,  dbSchema));
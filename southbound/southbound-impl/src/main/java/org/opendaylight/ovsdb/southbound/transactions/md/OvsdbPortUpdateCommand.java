@@ -13,6 +13,7 @@ import static org.opendaylight.ovsdb.southbound.SouthboundUtil.schemaMismatchLog
 import com.google.common.base.Optional;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -35,6 +36,7 @@ import org.opendaylight.ovsdb.schema.openvswitch.Port;
 import org.opendaylight.ovsdb.schema.openvswitch.Qos;
 import org.opendaylight.ovsdb.southbound.InstanceIdentifierCodec;
 import org.opendaylight.ovsdb.southbound.OvsdbConnectionInstance;
+import org.opendaylight.ovsdb.southbound.OvsdbDeviceInfo;
 import org.opendaylight.ovsdb.southbound.SouthboundConstants;
 import org.opendaylight.ovsdb.southbound.SouthboundMapper;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Uri;
@@ -46,7 +48,6 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.re
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.OvsdbQosRef;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.OvsdbTerminationPointAugmentation;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.OvsdbTerminationPointAugmentationBuilder;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.ovsdb.node.attributes.ManagedNodeEntry;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.ovsdb.node.attributes.QosEntries;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.ovsdb.node.attributes.QosEntriesKey;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.ovsdb.port._interface.attributes.InterfaceBfd;
@@ -105,8 +106,9 @@ public class OvsdbPortUpdateCommand extends AbstractTransactionCommand {
         this.instanceIdentifierCodec = instanceIdentifierCodec;
         portUpdatedRows = TyperUtils.extractRowsUpdated(Port.class, updates, dbSchema);
         portOldRows = TyperUtils.extractRowsOld(Port.class, updates, dbSchema);
-        interfaceUpdatedRows = TyperUtils.extractRowsUpdated(Interface.class, updates, dbSchema);
-        interfaceOldRows = TyperUtils.extractRowsOld(Interface.class, updates, dbSchema);
+        // Copied, interfaces are removed from these as their ports are processed
+        interfaceUpdatedRows = new HashMap<>(TyperUtils.extractRowsUpdated(Interface.class, updates, dbSchema));
+        interfaceOldRows = new HashMap<>(TyperUtils.extractRowsOld(Interface.class, updates, dbSchema));
         bridgeUpdatedRows = TyperUtils.extractRowsUpdated(Bridge.class, updates, dbSchema);
         qosUpdatedRows = TyperUtils.extractRowsUpdated(Qos.class, updates, dbSchema);
     }
@@ -130,7 +132,7 @@ public class OvsdbPortUpdateCommand extends AbstractTransactionCommand {
             portName = portUpdate.getValue().getNameColumn().getData();
             Optional<InstanceIdentifier<Node>> bridgeIid = getTerminationPointBridge(portUpdate.getKey());
             if (!bridgeIid.isPresent()) {
-                bridgeIid = getTerminationPointBridge(transaction, node, portName);
+                bridgeIid = getTerminationPointBridgeByName(portName);
             }
             if (bridgeIid.isPresent()) {
                 TerminationPointKey tpKey = new TerminationPointKey(new TpId(portName));
@@ -159,11 +161,13 @@ public class OvsdbPortUpdateCommand extends AbstractTransactionCommand {
             }
         }
         for (Entry<UUID, Interface> interfaceUpdate : interfaceUpdatedRows.entrySet()) {
-            String interfaceName = null;
-            interfaceName = interfaceUpdatedRows.get(interfaceUpdate.getKey()).getNameColumn().getData();
-            Optional<InstanceIdentifier<Node>> bridgeIid = getTerminationPointBridge(transaction, node, interfaceName);
+            String tpName = getInterfaceTerminationPointName(interfaceUpdate.getKey());
+            if (tpName == null) {
+                continue;
+            }
+            Optional<InstanceIdentifier<Node>> bridgeIid = getTerminationPointBridgeByName(tpName);
             if (bridgeIid.isPresent()) {
-                TerminationPointKey tpKey = new TerminationPointKey(new TpId(interfaceName));
+                TerminationPointKey tpKey = new TerminationPointKey(new TpId(tpName));
                 TerminationPointBuilder tpBuilder = new TerminationPointBuilder();
                 tpBuilder.withKey(tpKey);
                 tpBuilder.setTpId(tpKey.getTpId());
@@ -228,25 +232,26 @@ public class OvsdbPortUpdateCommand extends AbstractTransactionCommand {
                                 this.bridgeUpdatedRows.get(bridgeUuid)));
             }
         }
-        return Optional.absent();
+        return Optional.fromNullable(getOvsdbConnectionInstance().getDeviceInfo().getPortBridgeIid(portUuid));
     }
 
-    @SuppressWarnings("unchecked")
-    private Optional<InstanceIdentifier<Node>> getTerminationPointBridge(
-            final ReadWriteTransaction transaction, Node node, String tpName) {
-        OvsdbNodeAugmentation ovsdbNode = node.augmentation(OvsdbNodeAugmentation.class);
-        List<ManagedNodeEntry> managedNodes = ovsdbNode.getManagedNodeEntry();
-        TpId tpId = new TpId(tpName);
-        for (ManagedNodeEntry managedNodeEntry : managedNodes) {
-            Node managedNode = readNode(transaction,
-                    (InstanceIdentifier<Node>)managedNodeEntry.getBridgeRef().getValue()).get();
-            for (TerminationPoint tpEntry : managedNode.getTerminationPoint()) {
-                if (tpId.equals(tpEntry.getTpId())) {
-                    return Optional.of((InstanceIdentifier<Node>)managedNodeEntry.getBridgeRef().getValue());
-                }
-            }
+    /**
+     * Returns the name of the termination point of the port the given interface belongs to, or null if the
+     * interface is not the only one of a port, as the termination points of ports with several interfaces do not
+     * reflect them.
+     */
+    private String getInterfaceTerminationPointName(UUID interfaceUuid) {
+        OvsdbDeviceInfo deviceInfo = getOvsdbConnectionInstance().getDeviceInfo();
+        UUID portUuid = deviceInfo.getInterfacePort(interfaceUuid);
+        if (portUuid == null || deviceInfo.getPortInterfaces(portUuid).size() != 1) {
+            return null;
         }
-        return Optional.absent();
+        return deviceInfo.getPortName(portUuid);
+    }
+
+    private Optional<InstanceIdentifier<Node>> getTerminationPointBridgeByName(String tpName) {
+        // Termination points are named after their port, the device info knows the bridge of every port
+        return Optional.fromNullable(getOvsdbConnectionInstance().getDeviceInfo().getPortBridgeIid(tpName));
     }
 
     private void updateInterfaces(Interface interfaceUpdate,
@@ -0,0 +1,143 @@
+/*
+ * Copyright © 2018 EBay Software Foundation and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.ovsdb.southbound.transactions.md;
+
+import com.google.common.base.Preconditions;
+import org.opendaylight.controller.md.sal.binding.api.DataBroker;
+import org.opendaylight.ovsdb.lib.OvsdbConnectionInfo;
+import org.opendaylight.ovsdb.southbound.OvsdbConnectionInstance;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.topology.Node;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link TransactionInvoker} spreading the operational commands over ordered lanes, each a
+ * {@link TransactionInvokerImpl} with its own thread, queue, transaction chain and failure tracking. The commands
+ * of a device always go through the same lane and keep their order, while devices in different lanes are
+ * processed in parallel, so a busy or slow device only holds back the devices sharing its lane.
+ *
+ * <p>Devices are assigned to lanes by node identifier, so that a reconnecting device stays in the lane of its
+ * previous connection, and its new updates are written after the clean-up of the old ones, whichever connection or
+ * controller queued it. Connections whose node is not known yet are assigned by remote address. A connection keeps
+ * the lane it was first assigned to. Commands tied neither to a connection nor to a node go through the first lane.
+ *
+ * <p>The lanes are started on first use, the lane count set until then applies.
+ */
+public class ShardedTransactionInvoker implements TransactionInvoker {
+    private static final Logger LOG = LoggerFactory.getLogger(ShardedTransactionInvoker.class);
+    public static final int DEFAULT_LANES = 4;
+
+    private final DataBroker db;
+    private volatile int laneCount;
+    private volatile TransactionInvokerImpl[] lanes;
+
+    public ShardedTransactionInvoker(DataBroker db) {
+        this(db, DEFAULT_LANES);
+    }
+
+    public ShardedTransactionInvoker(DataBroker db, int laneCount) {
+        Preconditions.checkArgument(laneCount > 0, "At least one lane is required");
+        this.db = db;
+        this.laneCount = laneCount;
+    }
+
+    /**
+     * Sets the number of lanes. It has no effect once the lanes are started, until the next restart.
+     */
+    public void setLaneCount(int laneCount) {
+        Preconditions.checkArgument(laneCount > 0, "At least one lane is required");
+        synchronized (this) {
+            if (lanes != null && lanes.length != laneCount) {
+                LOG.warn("Transaction invoker already running {} lanes, {} lanes will be used after a restart",
+                        lanes.length, laneCount);
+            }
+            this.laneCount = laneCount;
+        }
+    }
+
+    public int getLaneCount() {
+        TransactionInvokerImpl[] current = lanes;
+        return current == null ? laneCount : current.length;
+    }
+
+    @Override
+    public void invoke(TransactionCommand command) {
+        OvsdbConnectionInstance connection = command instanceof AbstractTransactionCommand
+                ? ((AbstractTransactionCommand) command).getOvsdbConnectionInstance() : null;
+        TransactionInvoker lane = connection != null ? getLane(connection) : getLane((Object) null);
+        lane.invoke(command);
+    }
+
+    @Override
+    public void invoke(TransactionCommand command, OvsdbConnectionInstance connection) {
+        getLane(connection).invoke(command, connection);
+    }
+
+    @Override
+    public void invoke(TransactionCommand command, InstanceIdentifier<Node> nodeIid) {
+        getLane(nodeIid).invoke(command);
+    }
+
+    /**
+     * Returns the lane of the given connection, pinned on the connection when it is first routed: its instance
+     * identifier is set or replaced while its updates are queued, routing on it each time could reorder them.
+     */
+    private TransactionInvoker getLane(OvsdbConnectionInstance connection) {
+        return connection.getTransactionLane(() -> getLane(getLaneKey(connection)));
+    }
+
+    private static Object getLaneKey(OvsdbConnectionInstance connection) {
+        if (connection.getInstanceIdentifier() != null) {
+            return connection.getInstanceIdentifier();
+        }
+        OvsdbConnectionInfo connectionInfo = connection.getConnectionInfo();
+        return connectionInfo != null && connectionInfo.getRemoteAddress() != null
+                ? connectionInfo.getRemoteAddress() : connection;
+    }
+
+    private TransactionInvokerImpl getLane(Object key) {
+        TransactionInvokerImpl[] current = getLanes();
+        if (key == null || current.length == 1) {
+            return current[0];
+        }
+        return current[Math.floorMod(key.hashCode(), current.length)];
+    }
+
+    private TransactionInvokerImpl[] getLanes() {
+        TransactionInvokerImpl[] current = lanes;
+        if (current == null) {
+            synchronized (this) {
+                current = lanes;
+                if (current == null) {
+                    LOG.info("Starting {} transaction invoker lanes", laneCount);
+                    current = new TransactionInvokerImpl[laneCount];
+                    for (int i = 0; i < current.length; i++) {
+                        current[i] = new TransactionInvokerImpl(db, "transaction-invoker-lane-" + i);
+                    }
+                    lanes = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        TransactionInvokerImpl[] current;
+        synchronized (this) {
+            current = lanes;
+        }
+        if (current != null) {
+            for (TransactionInvokerImpl lane : current) {
+                lane.close();
+            }
+        }
+    }
+}
@@ -8,9 +8,36 @@
 
 package org.opendaylight.ovsdb.southbound.transactions.md;
 
+import org.opendaylight.ovsdb.southbound.OvsdbConnectionInstance;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.topology.Node;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
 public interface TransactionInvoker {
 
     void invoke(TransactionCommand command);
 
+    /**
+     * Queues a command processing the updates received from the given connection. While the queue is saturated,
+     * reads from the connections queuing commands are paused, so that the devices are held back instead of their
+     * updates being dropped.
+     *
+     * @param command the command
+     * @param connection the connection the command originates from
+     */
+    default void invoke(TransactionCommand command, OvsdbConnectionInstance connection) {
+        invoke(command);
+    }
+
+    /**
+     * Queues a command on the given OVSDB node, when it is not tied to a connection of that node, so that it is
+     * ordered with the commands of the node's connections.
+     *
+     * @param command the command
+     * @param nodeIid the OVSDB node the command applies to
+     */
+    default void invoke(TransactionCommand command, InstanceIdentifier<Node> nodeIid) {
+        invoke(command);
+    }
+
     void close() throws InterruptedException;
 }
@@ -14,9 +14,12 @@ import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -30,6 +33,7 @@ import org.opendaylight.controller.md.sal.binding.api.ReadWriteTransaction;
 import org.opendaylight.controller.md.sal.common.api.data.AsyncTransaction;
 import org.opendaylight.controller.md.sal.common.api.data.TransactionChain;
 import org.opendaylight.controller.md.sal.common.api.data.TransactionChainListener;
+import org.opendaylight.ovsdb.southbound.OvsdbConnectionInstance;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -37,6 +41,12 @@ import org.slf4j.LoggerFactory;
 public class TransactionInvokerImpl implements TransactionInvoker,TransactionChainListener, Runnable, AutoCloseable {
     private static final Logger LOG = LoggerFactory.getLogger(TransactionInvokerImpl.class);
     private static final int QUEUE_SIZE = 10000;
+    // Reads from the connections queuing commands are paused above the high watermark, and resumed below the low one
+    private static final int HIGH_WATERMARK = QUEUE_SIZE * 8 / 10;
+    private static final int LOW_WATERMARK = QUEUE_SIZE / 2;
+    // Commands drained together are executed in shared transactions, up to this many or this long per transaction
+    private static final int MAX_BATCH_COMMANDS = 100;
+    private static final long MAX_BATCH_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
     private BindingTransactionChain chain;
     private final DataBroker db;
     private final BlockingQueue<TransactionCommand> inputQueue = new LinkedBlockingQueue<>(QUEUE_SIZE);
@@ -49,11 +59,17 @@ public class TransactionInvokerImpl implements TransactionInvoker,TransactionCha
         = new HashMap<>();
     private List<ReadWriteTransaction> pendingTransactions = new ArrayList<>();
     private final AtomicBoolean runTask = new AtomicBoolean(true);
+    private final Set<OvsdbConnectionInstance> pausedConnections = new HashSet<>();
+    private boolean retrying;
 
     public TransactionInvokerImpl(DataBroker db) {
+        this(db, "transaction-invoker-impl-%d");
+    }
+
+    TransactionInvokerImpl(DataBroker db, String threadNameFormat) {
         this.db = db;
         this.chain = db.createTransactionChain(this);
-        ThreadFactory threadFact = new ThreadFactoryBuilder().setNameFormat("transaction-invoker-impl-%d").build();
+        ThreadFactory threadFact = new ThreadFactoryBuilder().setNameFormat(threadNameFormat).build();
         executor = Executors.newSingleThreadExecutor(threadFact);
         executor.execute(this);
     }
@@ -66,6 +82,41 @@ public class TransactionInvokerImpl implements TransactionInvoker,TransactionCha
         }
     }
 
+    @Override
+    public void invoke(final TransactionCommand command, final OvsdbConnectionInstance connection) {
+        connection.updateQueuedCommands(1);
+        if (!inputQueue.offer(new ConnectionCommand(command, connection))) {
+            connection.updateQueuedCommands(-1);
+            LOG.error("inputQueue is full (size: {}) - could not offer {}", inputQueue.size(), command);
+            return;
+        }
+        if (inputQueue.size() >= HIGH_WATERMARK) {
+            synchronized (pausedConnections) {
+                if (pausedConnections.add(connection)) {
+                    LOG.info("inputQueue is above {} commands, pausing reads from {}", HIGH_WATERMARK,
+                            connection.getConnectionInfo());
+                    connection.pauseReads();
+                    // The queue may have been drained before the connection was recorded as paused
+                    resumeBelowLowWatermark();
+                }
+            }
+        }
+    }
+
+    private void resumeBelowLowWatermark() {
+        synchronized (pausedConnections) {
+            if (!pausedConnections.isEmpty() && inputQueue.size() <= LOW_WATERMARK) {
+                for (OvsdbConnectionInstance connection : pausedConnections) {
+                    connection.resumeReads();
+                    LOG.info("inputQueue is below {} commands, resumed reads from {} ({} commands queued, reads "
+                            + "paused for {} ms in total)", LOW_WATERMARK, connection.getConnectionInfo(),
+                            connection.getQueuedCommands(), connection.getReadPausedMillis());
+                }
+                pausedConnections.clear();
+            }
+        }
+    }
+
     @Override
     public void onTransactionChainFailed(TransactionChain<?, ?> chainArg,
             AsyncTransaction<?, ?> transaction, Throwable cause) {
@@ -91,29 +142,31 @@ public class TransactionInvokerImpl implements TransactionInvoker,TransactionCha
                 continue;
             }
 
+            // Commands resubmitted after a failure get a transaction each, so that a failing one is isolated
+            int maxBatchCommands = retrying ? 1 : MAX_BATCH_COMMANDS;
+            retrying = false;
+
             ReadWriteTransaction transactionInFlight = null;
             try {
+                BatchCommand batch = null;
+                long batchStart = 0;
                 for (TransactionCommand command: commands) {
-                    final ReadWriteTransaction transaction = chain.newReadWriteTransaction();
-                    transactionInFlight = transaction;
-                    recordPendingTransaction(command, transaction);
-                    command.execute(transaction);
-                    Futures.addCallback(transaction.submit(), new FutureCallback<Void>() {
-                        @Override
-                        public void onSuccess(final Void result) {
-                            if (!successfulTransactionQueue.offer(transaction)) {
-                                LOG.error("successfulTransactionQueue is full (size: {}) - could not offer {}",
-                                        successfulTransactionQueue.size(), transaction);
-                            }
-                            command.onSuccess();
-                        }
-
-                        @Override
-                        public void onFailure(final Throwable throwable) {
-                            command.onFailure(throwable);
-                            // NOOP - handled by failure of transaction chain
-                        }
-                    }, MoreExecutors.directExecutor());
+                    if (batch == null) {
+                        transactionInFlight = chain.newReadWriteTransaction();
+                        batch = new BatchCommand();
+                        batchStart = System.nanoTime();
+                        recordPendingTransaction(batch, transactionInFlight);
+                    }
+                    batch.commands.add(command);
+                    command.execute(transactionInFlight);
+                    if (batch.commands.size() >= maxBatchCommands
+                            || System.nanoTime() - batchStart >= MAX_BATCH_NANOS) {
+                        submit(transactionInFlight, batch);
+                        batch = null;
+                    }
+                }
+                if (batch != null) {
+                    submit(transactionInFlight, batch);
                 }
             } catch (IllegalStateException e) {
                 if (transactionInFlight != null) {
@@ -125,9 +178,29 @@ public class TransactionInvokerImpl implements TransactionInvoker,TransactionCha
                 }
                 LOG.warn("Failed to process an update notification from OVS.", e);
             }
+            resumeBelowLowWatermark();
         }
     }
 
+    private void submit(final ReadWriteTransaction transaction, final TransactionCommand command) {
+        Futures.addCallback(transaction.submit(), new FutureCallback<Void>() {
+            @Override
+            public void onSuccess(final Void result) {
+                if (!successfulTransactionQueue.offer(transaction)) {
+                    LOG.error("successfulTransactionQueue is full (size: {}) - could not offer {}",
+                            successfulTransactionQueue.size(), transaction);
+                }
+                command.onSuccess();
+            }
+
+            @Override
+            public void onFailure(final Throwable throwable) {
+                command.onFailure(throwable);
+                // NOOP - handled by failure of transaction chain
+            }
+        }, MoreExecutors.directExecutor());
+    }
+
     private void offerFailedTransaction(AsyncTransaction<?, ?> transaction) {
         if (!failedTransactionQueue.offer(transaction)) {
             LOG.warn("failedTransactionQueue is full (size: {})", failedTransactionQueue.size());
@@ -141,11 +214,17 @@ public class TransactionInvokerImpl implements TransactionInvoker,TransactionCha
         if (transaction != null) {
             int index = pendingTransactions.lastIndexOf(transaction);
             List<ReadWriteTransaction> transactions =
-                    pendingTransactions.subList(index, pendingTransactions.size() - 1);
+                    pendingTransactions.subList(index, pendingTransactions.size());
             for (ReadWriteTransaction tx: transactions) {
-                commands.add(transactionToCommand.get(tx));
+                TransactionCommand command = transactionToCommand.get(tx);
+                if (command instanceof BatchCommand) {
+                    commands.addAll(((BatchCommand) command).commands);
+                } else {
+                    commands.add(command);
+                }
             }
             resetTransactionQueue();
+            retrying = !commands.isEmpty();
         }
         return commands;
     }
@@ -177,6 +256,11 @@ public class TransactionInvokerImpl implements TransactionInvoker,TransactionCha
         List<TransactionCommand> result = new ArrayList<>();
         TransactionCommand command = inputQueue.take();
         while (command != null) {
+            if (command instanceof ConnectionCommand) {
+                ConnectionCommand connectionCommand = (ConnectionCommand) command;
+                connectionCommand.connection.updateQueuedCommands(-1);
+                command = connectionCommand.command;
+            }
             result.add(command);
             command = inputQueue.poll();
         }
@@ -201,4 +285,65 @@ public class TransactionInvokerImpl implements TransactionInvoker,TransactionCha
             this.executor.shutdownNow();
         }
     }
+
+    /**
+     * A command queued on behalf of a connection, only found in the input queue.
+     */
+    private static final class ConnectionCommand implements TransactionCommand {
+        private final TransactionCommand command;
+        private final OvsdbConnectionInstance connection;
+
+        ConnectionCommand(TransactionCommand command, OvsdbConnectionInstance connection) {
+            this.command = command;
+            this.connection = connection;
+        }
+
+        @Override
+        public void execute(ReadWriteTransaction transaction) {
+            command.execute(transaction);
+        }
+
+        @Override
+        public String toString() {
+            return command.toString();
+        }
+    }
+
+    /**
+     * Commands executed in the same transaction.
+     */
+    @VisibleForTesting
+    static final class BatchCommand implements TransactionCommand {
+        private final List<TransactionCommand> commands = new ArrayList<>();
+
+        BatchCommand(TransactionCommand... commands) {
+            this.commands.addAll(Arrays.asList(commands));
+        }
+
+        @Override
+        public void execute(ReadWriteTransaction transaction) {
+            for (TransactionCommand command : commands) {
+                command.execute(transaction);
+            }
+        }
+
+        @Override
+        public void onSuccess() {
+            for (TransactionCommand command : commands) {
+                command.onSuccess();
+            }
+        }
+
+        @Override
+        public void onFailure(Throwable throwable) {
+            for (TransactionCommand command : commands) {
+                command.onFailure(throwable);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "BatchCommand" + commands;
+        }
+    }
 }
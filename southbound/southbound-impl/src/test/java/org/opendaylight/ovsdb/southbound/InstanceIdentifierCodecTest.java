@@ -11,10 +11,12 @@ package org.opendaylight.ovsdb.southbound;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.powermock.reflect.Whitebox.getField;
 
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableSet;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -57,6 +59,10 @@ public class InstanceIdentifierCodecTest {
         getField(InstanceIdentifierCodec.class, "context").set(instanceIdCodec, context);
         getField(InstanceIdentifierCodec.class, "bindingNormalizedNodeSerializer").set(instanceIdCodec,
                 bindingNormalizedNodeSerializer);
+        getField(InstanceIdentifierCodec.class, "serializeCache").set(instanceIdCodec,
+                CacheBuilder.newBuilder().recordStats().build());
+        getField(InstanceIdentifierCodec.class, "deserializeCache").set(instanceIdCodec,
+                CacheBuilder.newBuilder().recordStats().build());
     }
 
     @Test
@@ -118,4 +124,24 @@ public class InstanceIdentifierCodecTest {
         assertNull("Error, did not return correct InstanceIdentifier<?> object",
             instanceIdCodec.bindingDeserializer(""));
     }
+
+    @Test
+    public void testCache() throws Exception {
+        InstanceIdentifier<?> iid = mock(InstanceIdentifier.class);
+        YangInstanceIdentifier yiid = mock(YangInstanceIdentifier.class);
+        when(bindingNormalizedNodeSerializer.toYangInstanceIdentifier(iid)).thenReturn(yiid);
+
+        String iidString = instanceIdCodec.serialize(iid);
+        assertEquals(iidString, instanceIdCodec.serialize(iid));
+        verify(bindingNormalizedNodeSerializer, times(1)).toYangInstanceIdentifier(iid);
+        assertEquals(1, instanceIdCodec.getSerializeCacheStats().hitCount());
+
+        // the reverse conversion was cached as well
+        assertEquals(iid, instanceIdCodec.bindingDeserializer(iidString));
+        assertEquals(1, instanceIdCodec.getDeserializeCacheStats().hitCount());
+
+        instanceIdCodec.onGlobalContextUpdated(context);
+        instanceIdCodec.serialize(iid);
+        verify(bindingNormalizedNodeSerializer, times(2)).toYangInstanceIdentifier(iid);
+    }
 }
@@ -9,6 +9,7 @@
 package org.opendaylight.ovsdb.southbound;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
@@ -21,6 +22,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.powermock.reflect.Whitebox.getField;
 
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -31,6 +33,7 @@ import java.util.Set;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.runners.MockitoJUnitRunner;
@@ -118,10 +121,8 @@ public class OvsdbConnectionInstanceTest {
         doReturn(listenableFuture).when(ovsdbConnectionInstance).getDatabases();
         when(listenableFuture.get()).thenReturn(databases);
 
-        ListenableFuture<DatabaseSchema> listenableDbSchema = mock(ListenableFuture.class);
         DatabaseSchema dbSchema = mock(DatabaseSchema.class);
-        doReturn(listenableDbSchema).when(ovsdbConnectionInstance).getSchema(anyString());
-        when(listenableDbSchema.get()).thenReturn(dbSchema);
+        doReturn(Futures.immediateFuture(dbSchema)).when(ovsdbConnectionInstance).getSchema(anyString());
 
         doNothing().when(ovsdbConnectionInstance).monitorTables(anyString(), any(DatabaseSchema.class));
         ovsdbConnectionInstance.registerCallbacks(instanceIdentifierCodec);
@@ -173,13 +174,43 @@ public class OvsdbConnectionInstanceTest {
         when(tableSchema.getColumns()).thenReturn(columns);
 
         TableUpdates tableUpdates = mock(TableUpdates.class);
-        doReturn(tableUpdates).when(ovsdbConnectionInstance).monitor(any(DatabaseSchema.class), any(List.class),
-            any(MonitorCallBack.class));
+        doReturn(Futures.immediateFuture(tableUpdates)).when(ovsdbConnectionInstance).monitorAsync(
+            any(DatabaseSchema.class), any(List.class), any(MonitorCallBack.class));
         getField(OvsdbConnectionInstance.class, "callback").set(ovsdbConnectionInstance, callback);
         doNothing().when(callback).update(any(TableUpdates.class), any(DatabaseSchema.class));
 
         Whitebox.invokeMethod(ovsdbConnectionInstance, "monitorTables", "database", dbSchema);
         verify(ovsdbConnectionInstance, times(1)).monitorTables(anyString(), any(DatabaseSchema.class));
+        verify(callback).update(tableUpdates, dbSchema);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testMonitorTablesSinceLastTransaction() throws Exception {
+        DatabaseSchema dbSchema = mock(DatabaseSchema.class);
+        when(dbSchema.getTables()).thenReturn(new HashSet<>());
+        getField(OvsdbConnectionInstance.class, "client").set(ovsdbConnectionInstance, client);
+        getField(OvsdbConnectionInstance.class, "callback").set(ovsdbConnectionInstance, callback);
+        MonitorHandle monitorHandle = new MonitorHandle("monitor");
+        ovsdbConnectionInstance.setMonitorHandle(monitorHandle);
+
+        // the complete rows of the handle are reported, not the changes
+        TableUpdates changes = mock(TableUpdates.class);
+        when(client.monitorCondSinceAsync(any(DatabaseSchema.class), any(List.class), eq(monitorHandle),
+                any(MonitorCallBack.class))).thenReturn(Futures.immediateFuture(changes));
+        ovsdbConnectionInstance.monitorTables("database", dbSchema);
+        ArgumentCaptor<TableUpdates> updates = ArgumentCaptor.forClass(TableUpdates.class);
+        verify(callback).update(updates.capture(), eq(dbSchema));
+        assertNotSame(changes, updates.getValue());
+
+        // servers without monitor_cond_since are monitored in full
+        TableUpdates tableUpdates = mock(TableUpdates.class);
+        when(client.monitorCondSinceAsync(any(DatabaseSchema.class), any(List.class), eq(monitorHandle),
+                any(MonitorCallBack.class))).thenReturn(Futures.immediateFailedFuture(new IllegalStateException()));
+        doReturn(Futures.immediateFuture(tableUpdates)).when(ovsdbConnectionInstance).monitorAsync(
+            any(DatabaseSchema.class), any(List.class), any(MonitorCallBack.class));
+        ovsdbConnectionInstance.monitorTables("database", dbSchema);
+        verify(callback).update(tableUpdates, dbSchema);
     }
 
     @SuppressWarnings({ "unchecked" })
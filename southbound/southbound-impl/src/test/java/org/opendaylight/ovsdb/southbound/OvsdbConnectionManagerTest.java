@@ -9,6 +9,7 @@
 package org.opendaylight.ovsdb.southbound;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyInt;
 import static org.mockito.Mockito.doNothing;
@@ -41,6 +42,7 @@ import org.opendaylight.mdsal.eos.binding.api.Entity;
 import org.opendaylight.mdsal.eos.binding.api.EntityOwnershipChange;
 import org.opendaylight.mdsal.eos.binding.api.EntityOwnershipService;
 import org.opendaylight.mdsal.eos.common.api.EntityOwnershipChangeState;
+import org.opendaylight.ovsdb.lib.MonitorHandle;
 import org.opendaylight.ovsdb.lib.OvsdbClient;
 import org.opendaylight.ovsdb.lib.OvsdbConnection;
 import org.opendaylight.ovsdb.lib.impl.OvsdbConnectionService;
@@ -76,6 +78,7 @@ public class OvsdbConnectionManagerTest {
     private Map<ConnectionInfo,OvsdbConnectionInstance> clients;
     private Map<ConnectionInfo,InstanceIdentifier<Node>> instanceIdentifiers;
     private Map<Entity, OvsdbConnectionInstance> entityConnectionMap;
+    private Map<InstanceIdentifier<Node>, MonitorHandle> monitorHandles;
 
     @Mock private InstanceIdentifier<Node> iid;
 
@@ -87,6 +90,8 @@ public class OvsdbConnectionManagerTest {
         field(OvsdbConnectionManager.class, "entityOwnershipService").set(ovsdbConnManager, entityOwnershipService);
         field(OvsdbConnectionManager.class, "reconciliationManager").set(ovsdbConnManager, reconciliationManager);
         field(OvsdbConnectionManager.class, "ovsdbConnection").set(ovsdbConnManager, ovsdbConnection);
+        monitorHandles = new ConcurrentHashMap<>();
+        field(OvsdbConnectionManager.class, "monitorHandles").set(ovsdbConnManager, monitorHandles);
         entityConnectionMap = new ConcurrentHashMap<>();
 
         externalClient = mock(OvsdbClient.class, Mockito.RETURNS_DEEP_STUBS);
@@ -199,7 +204,8 @@ public class OvsdbConnectionManagerTest {
         suppress(MemberMatcher.method(OvsdbConnectionManager.class, "getConnectionInstance", ConnectionInfo.class));
         OvsdbConnectionInstance ovsdbConnectionInstance = mock(OvsdbConnectionInstance.class);
         when(ovsdbConnManager.getConnectionInstance(any(ConnectionInfo.class))).thenReturn(ovsdbConnectionInstance);
-        when(ovsdbConnectionInstance.getInstanceIdentifier()).thenReturn(mock(InstanceIdentifier.class));
+        when(ovsdbConnectionInstance.getInstanceIdentifier()).thenReturn(iid);
+        monitorHandles.put(iid, new MonitorHandle("monitor"));
 
         suppress(MemberMatcher.method(OvsdbConnectionManager.class, "removeInstanceIdentifier", ConnectionInfo.class));
 
@@ -208,6 +214,7 @@ public class OvsdbConnectionManagerTest {
                 OvsdbConnectionInstance.class));
         ovsdbConnManager.disconnect(ovsdbNode);
         verify(ovsdbConnectionInstance).disconnect();
+        assertTrue(monitorHandles.isEmpty());
     }
 
     @Test
@@ -0,0 +1,84 @@
+/*
+ * Copyright © 2018 EBay Software Foundation and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.ovsdb.southbound;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.ovsdb.lib.notation.UUID;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.topology.Node;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+public class OvsdbDeviceInfoTest {
+
+    private static final UUID BRIDGE1 = new UUID("b0000000-0000-0000-0000-000000000001");
+    private static final UUID BRIDGE2 = new UUID("b0000000-0000-0000-0000-000000000002");
+    private static final UUID PORT1 = new UUID("a0000000-0000-0000-0000-000000000001");
+    private static final UUID PORT2 = new UUID("a0000000-0000-0000-0000-000000000002");
+    private static final UUID INTERFACE1 = new UUID("c0000000-0000-0000-0000-000000000001");
+    private static final UUID INTERFACE2 = new UUID("c0000000-0000-0000-0000-000000000002");
+
+    private OvsdbDeviceInfo deviceInfo;
+    private InstanceIdentifier<Node> bridge1Iid;
+    private InstanceIdentifier<Node> bridge2Iid;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        deviceInfo = new OvsdbDeviceInfo();
+        bridge1Iid = mock(InstanceIdentifier.class);
+        bridge2Iid = mock(InstanceIdentifier.class);
+        deviceInfo.updateBridge(BRIDGE1, bridge1Iid, ImmutableSet.of(PORT1, PORT2));
+        deviceInfo.updatePort(PORT1, "tap1", ImmutableSet.of(INTERFACE1));
+        deviceInfo.updatePort(PORT2, "tap2", ImmutableSet.of(INTERFACE2));
+    }
+
+    @Test
+    public void testLookups() {
+        assertEquals(bridge1Iid, deviceInfo.getPortBridgeIid(PORT1));
+        assertEquals("tap1", deviceInfo.getPortName(PORT1));
+        assertEquals(bridge1Iid, deviceInfo.getPortBridgeIid("tap2"));
+        assertEquals(ImmutableSet.of(INTERFACE1), deviceInfo.getPortInterfaces(PORT1));
+        assertEquals(PORT2, deviceInfo.getInterfacePort(INTERFACE2));
+        assertNull(deviceInfo.getPortBridgeIid("tap3"));
+    }
+
+    @Test
+    public void testPortMovedAndRenamed() {
+        deviceInfo.updateBridge(BRIDGE2, bridge2Iid, ImmutableSet.of(PORT2));
+        deviceInfo.updateBridge(BRIDGE1, bridge1Iid, ImmutableSet.of(PORT1));
+        assertEquals(bridge2Iid, deviceInfo.getPortBridgeIid("tap2"));
+
+        deviceInfo.updatePort(PORT2, "tap2-renamed", ImmutableSet.of(INTERFACE1));
+        assertNull(deviceInfo.getPortBridgeIid("tap2"));
+        assertEquals("tap2-renamed", deviceInfo.getPortName(PORT2));
+        assertEquals(bridge2Iid, deviceInfo.getPortBridgeIid("tap2-renamed"));
+        assertNull(deviceInfo.getInterfacePort(INTERFACE2));
+        assertEquals(PORT2, deviceInfo.getInterfacePort(INTERFACE1));
+    }
+
+    @Test
+    public void testRemovals() {
+        deviceInfo.removePort(PORT1);
+        assertNull(deviceInfo.getPortBridgeIid("tap1"));
+        assertNull(deviceInfo.getInterfacePort(INTERFACE1));
+        assertTrue(deviceInfo.getPortInterfaces(PORT1).isEmpty());
+
+        assertNull(deviceInfo.getPortName(PORT1));
+
+        deviceInfo.removeBridge(BRIDGE1);
+        assertNull(deviceInfo.getPortBridgeIid(PORT2));
+        assertNull(deviceInfo.getPortBridgeIid("tap2"));
+    }
+}
@@ -43,7 +43,7 @@ public class OvsdbMonitorCallbackTest {
         when(dbSchema.getVersion())
                 .thenReturn(Version.fromString(SouthboundConstants.AUTOATTACH_SUPPORTED_OVS_SCHEMA_VERSION));
         ovsdbMonitorCallback.update(mock(TableUpdates.class), dbSchema);
-        verify(txInvoker).invoke(any(OvsdbOperationalCommandAggregator.class));
+        verify(txInvoker).invoke(any(OvsdbOperationalCommandAggregator.class), any(OvsdbConnectionInstance.class));
     }
 
     @Test
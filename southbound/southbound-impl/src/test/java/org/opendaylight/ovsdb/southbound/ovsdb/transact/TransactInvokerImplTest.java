@@ -12,12 +12,14 @@ import static org.junit.Assert.assertEquals;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Semaphore;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -57,7 +59,6 @@ public class TransactInvokerImplTest {
         assertEquals(dbSchema, Whitebox.getInternalState(transactInvokerImpl1, "dbSchema"));
     }
 
-    @SuppressWarnings({ "rawtypes", "unchecked" })
     @Test
     public void testInvoke() throws Exception {
         TransactCommand command = mock(TransactCommand.class);
@@ -66,15 +67,21 @@ public class TransactInvokerImplTest {
         doNothing().when(command).execute(any(TransactionBuilder.class), any(BridgeOperationalState.class),
                 any(DataChangeEvent.class), any(InstanceIdentifierCodec.class));
 
-        ListenableFuture<List<OperationResult>> result = mock(ListenableFuture.class);
+        SettableFuture<List<OperationResult>> result = SettableFuture.create();
         when(tb.execute()).thenReturn(result);
         List<Operation> operation = new ArrayList<>();
         operation.add(mock(Operation.class));
         when(tb.getOperations()).thenReturn(operation);
-        List<OperationResult> got = new ArrayList<>();
-        when(result.get()).thenReturn(got);
         transactInvokerImpl.invoke(command, mock(BridgeOperationalState.class), mock(DataChangeEvent.class),
                 mock(InstanceIdentifierCodec.class));
-        verify(result).get();
+        transactInvokerImpl.invoke(command, mock(BridgeOperationalState.class), mock(DataChangeEvent.class),
+                mock(InstanceIdentifierCodec.class));
+
+        // both transactions are sent without waiting for the result of the first one
+        verify(tb, times(2)).execute();
+        Semaphore inFlight = Whitebox.getInternalState(transactInvokerImpl, "inFlight");
+        int permits = inFlight.availablePermits();
+        result.set(new ArrayList<>());
+        assertEquals(permits + 2, inFlight.availablePermits());
     }
 }
@@ -34,7 +34,7 @@ import org.powermock.reflect.Whitebox;
 @RunWith(MockitoJUnitRunner.class)
 public class OvsdbOperationalCommandAggregatorTest {
 
-    private static final int NUMBER_OF_COMMANDS = 15;
+    private static final int NUMBER_OF_COMMANDS = 16;
     private final List<TransactionCommand> commands = new ArrayList<>();
     private OvsdbOperationalCommandAggregator ovsdbOperationalCommandAggregator;
 
@@ -44,6 +44,7 @@ public class OvsdbOperationalCommandAggregatorTest {
                 Mockito.CALLS_REAL_METHODS);
 
         //mock commands field
+        commands.add(mock(OvsdbDeviceInfoUpdateCommand.class));
         commands.add(mock(OpenVSwitchUpdateCommand.class));
         commands.add(mock(OvsdbManagersUpdateCommand.class));
         commands.add(mock(OvsdbManagersRemovedCommand.class));
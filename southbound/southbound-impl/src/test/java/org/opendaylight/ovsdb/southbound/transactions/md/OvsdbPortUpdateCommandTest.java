@@ -9,6 +9,7 @@
 package org.opendaylight.ovsdb.southbound.transactions.md;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
@@ -22,8 +23,8 @@ import static org.powermock.api.support.membermodification.MemberMatcher.method;
 import static org.powermock.api.support.membermodification.MemberModifier.suppress;
 
 import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.util.concurrent.CheckedFuture;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -50,6 +51,7 @@ import org.opendaylight.ovsdb.schema.openvswitch.Interface;
 import org.opendaylight.ovsdb.schema.openvswitch.Port;
 import org.opendaylight.ovsdb.southbound.InstanceIdentifierCodec;
 import org.opendaylight.ovsdb.southbound.OvsdbConnectionInstance;
+import org.opendaylight.ovsdb.southbound.OvsdbDeviceInfo;
 import org.opendaylight.ovsdb.southbound.SouthboundConstants;
 import org.opendaylight.ovsdb.southbound.SouthboundMapper;
 import org.opendaylight.ovsdb.southbound.SouthboundUtil;
@@ -57,14 +59,10 @@ import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.
 import org.opendaylight.yang.gen.v1.urn.opendaylight.l2.types.rev130827.VlanId;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.InterfaceTypeBase;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.InterfaceTypeInternal;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.OvsdbBridgeAugmentation;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.OvsdbBridgeRef;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.OvsdbNodeAugmentation;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.OvsdbPortInterfaceAttributes;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.OvsdbPortInterfaceAttributes.VlanMode;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.OvsdbTerminationPointAugmentation;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.OvsdbTerminationPointAugmentationBuilder;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.ovsdb.node.attributes.ManagedNodeEntry;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.ovsdb.port._interface.attributes.InterfaceExternalIds;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.ovsdb.port._interface.attributes.InterfaceExternalIdsBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.ovsdb.port._interface.attributes.InterfaceOtherConfigs;
@@ -240,8 +238,9 @@ public class OvsdbPortUpdateCommandTest {
         when(interfaceUpdate.getNameColumn()).thenReturn(interfaceColumn);
         when(interfaceColumn.getData()).thenReturn(INTERFACE_NAME);
 
-        PowerMockito.doReturn(bridgeIid).when(ovsdbPortUpdateCommand, "getTerminationPointBridge",
-                any(ReadWriteTransaction.class), any(Node.class), anyString());
+        PowerMockito.doReturn(INTERFACE_NAME).when(ovsdbPortUpdateCommand, "getInterfaceTerminationPointName",
+                any(UUID.class));
+        PowerMockito.doReturn(bridgeIid).when(ovsdbPortUpdateCommand, "getTerminationPointBridgeByName", anyString());
         PowerMockito.when(SouthboundMapper.createManagedNodeId(any(InstanceIdentifier.class))).thenReturn(bridgeId);
         PowerMockito.whenNew(TopologyKey.class).withAnyArguments().thenReturn(mock(TopologyKey.class));
         PowerMockito.whenNew(NodeKey.class).withAnyArguments().thenReturn(mock(NodeKey.class));
@@ -349,47 +348,43 @@ public class OvsdbPortUpdateCommandTest {
 
     @SuppressWarnings("unchecked")
     @Test
-    public void testGetTerminationPointBridge1() throws Exception {
-        Node node = mock(Node.class);
-        OvsdbNodeAugmentation ovsdbNode = mock(OvsdbNodeAugmentation.class);
-        when(node.augmentation(OvsdbNodeAugmentation.class)).thenReturn(ovsdbNode);
-        List<ManagedNodeEntry> managedNodes = new ArrayList<>();
-        ManagedNodeEntry managedNodeEntry = mock(ManagedNodeEntry.class);
-        managedNodes.add(managedNodeEntry);
-        when(ovsdbNode.getManagedNodeEntry()).thenReturn(managedNodes);
-
-        Node managedNode = mock(Node.class);
-        OvsdbBridgeRef ovsdbBridgeRef = mock(OvsdbBridgeRef.class);
-        when(managedNodeEntry.getBridgeRef()).thenReturn(ovsdbBridgeRef);
+    public void testGetTerminationPointBridgeByName() throws Exception {
+        OvsdbConnectionInstance ovsdbConnectionInstance = mock(OvsdbConnectionInstance.class);
+        when(ovsdbPortUpdateCommand.getOvsdbConnectionInstance()).thenReturn(ovsdbConnectionInstance);
+        OvsdbDeviceInfo deviceInfo = new OvsdbDeviceInfo();
+        when(ovsdbConnectionInstance.getDeviceInfo()).thenReturn(deviceInfo);
+        UUID bridgeUuid = new UUID("b0000000-0000-0000-0000-000000000001");
+        UUID portUuid = new UUID("a0000000-0000-0000-0000-000000000001");
         InstanceIdentifier<Node> iidNode = mock(InstanceIdentifier.class);
-        when((InstanceIdentifier<Node>) ovsdbBridgeRef.getValue()).thenReturn(iidNode);
-        Optional<Node> optionalNode = Optional.of(managedNode);
-        PowerMockito.doReturn(optionalNode).when(ovsdbPortUpdateCommand, "readNode", any(ReadWriteTransaction.class),
-                any(InstanceIdentifier.class));
-
-        TerminationPointBuilder tpBuilder = mock(TerminationPointBuilder.class);
-        PowerMockito.whenNew(TerminationPointBuilder.class).withNoArguments().thenReturn(tpBuilder);
-        PowerMockito.whenNew(TpId.class).withAnyArguments().thenReturn(mock(TpId.class));
-        PowerMockito.whenNew(TerminationPointKey.class).withAnyArguments().thenReturn(mock(TerminationPointKey.class));
-        when(tpBuilder.withKey(any(TerminationPointKey.class))).thenReturn(tpBuilder);
-
-        List<TerminationPoint> terminationPointList = new ArrayList<>();
-        TerminationPoint terminationPoint = mock(TerminationPoint.class);
-        terminationPointList.add(terminationPoint);
-        when(tpBuilder.build()).thenReturn(terminationPoint);
-        when(managedNode.getTerminationPoint()).thenReturn(terminationPointList);
+        deviceInfo.updateBridge(bridgeUuid, iidNode, ImmutableSet.of(portUuid));
+        deviceInfo.updatePort(portUuid, TP_NAME, ImmutableSet.of());
 
-        when(managedNode.augmentation(OvsdbBridgeAugmentation.class))
-                .thenReturn(mock(OvsdbBridgeAugmentation.class));
-        TpId tpId = new TpId(TP_NAME);
-        when(terminationPoint.getTpId()).thenReturn(tpId);
-
-        Optional<InstanceIdentifier<Node>> testResult = Optional.of(iidNode);
-        ReadWriteTransaction transaction = mock(ReadWriteTransaction.class);
-        Optional<InstanceIdentifier<Node>> result = Whitebox.invokeMethod(ovsdbPortUpdateCommand,
-                "getTerminationPointBridge", transaction, node, TP_NAME);
+        assertEquals(Optional.of(iidNode),
+                Whitebox.invokeMethod(ovsdbPortUpdateCommand, "getTerminationPointBridgeByName", TP_NAME));
+        assertEquals(Optional.absent(),
+                Whitebox.invokeMethod(ovsdbPortUpdateCommand, "getTerminationPointBridgeByName", PORT_NAME));
+    }
 
-        assertEquals(testResult, result);
+    @Test
+    public void testGetInterfaceTerminationPointName() throws Exception {
+        OvsdbConnectionInstance ovsdbConnectionInstance = mock(OvsdbConnectionInstance.class);
+        when(ovsdbPortUpdateCommand.getOvsdbConnectionInstance()).thenReturn(ovsdbConnectionInstance);
+        OvsdbDeviceInfo deviceInfo = new OvsdbDeviceInfo();
+        when(ovsdbConnectionInstance.getDeviceInfo()).thenReturn(deviceInfo);
+        UUID portUuid = new UUID("a0000000-0000-0000-0000-000000000001");
+        UUID bondUuid = new UUID("a0000000-0000-0000-0000-000000000002");
+        UUID interfaceUuid = new UUID("c0000000-0000-0000-0000-000000000001");
+        UUID member1Uuid = new UUID("c0000000-0000-0000-0000-000000000002");
+        UUID member2Uuid = new UUID("c0000000-0000-0000-0000-000000000003");
+        deviceInfo.updatePort(portUuid, TP_NAME, ImmutableSet.of(interfaceUuid));
+        deviceInfo.updatePort(bondUuid, PORT_NAME, ImmutableSet.of(member1Uuid, member2Uuid));
+
+        // the termination point of a port is named after the port, whatever the name of its interface
+        assertEquals(TP_NAME,
+                Whitebox.invokeMethod(ovsdbPortUpdateCommand, "getInterfaceTerminationPointName", interfaceUuid));
+        assertNull(Whitebox.invokeMethod(ovsdbPortUpdateCommand, "getInterfaceTerminationPointName", member1Uuid));
+        assertNull(Whitebox.invokeMethod(ovsdbPortUpdateCommand, "getInterfaceTerminationPointName",
+                new UUID("c0000000-0000-0000-0000-000000000009")));
     }
 
     @SuppressWarnings("unchecked")
@@ -0,0 +1,201 @@
+/*
+ * Copyright © 2018 EBay Software Foundation and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.ovsdb.southbound.transactions.md;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.util.concurrent.Futures;
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.opendaylight.controller.md.sal.binding.api.BindingTransactionChain;
+import org.opendaylight.controller.md.sal.binding.api.DataBroker;
+import org.opendaylight.controller.md.sal.binding.api.ReadWriteTransaction;
+import org.opendaylight.controller.md.sal.common.api.data.TransactionChainListener;
+import org.opendaylight.ovsdb.lib.OvsdbConnectionInfo;
+import org.opendaylight.ovsdb.southbound.OvsdbConnectionInstance;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.topology.Node;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ShardedTransactionInvokerTest {
+
+    private static final int COMMANDS = 100;
+    @Mock private DataBroker db;
+    @Mock private BindingTransactionChain chain;
+    @Mock private ReadWriteTransaction transaction;
+    private ShardedTransactionInvoker invoker;
+
+    @Before
+    public void setUp() {
+        when(db.createTransactionChain(any(TransactionChainListener.class))).thenReturn(chain);
+        when(chain.newReadWriteTransaction()).thenReturn(transaction);
+        when(transaction.submit()).thenReturn(Futures.immediateCheckedFuture(null));
+        invoker = new ShardedTransactionInvoker(db, 4);
+    }
+
+    @After
+    public void tearDown() throws InterruptedException {
+        invoker.close();
+    }
+
+    private static OvsdbConnectionInstance connection(String address) throws Exception {
+        OvsdbConnectionInstance connection = mock(OvsdbConnectionInstance.class);
+        OvsdbConnectionInfo connectionInfo = mock(OvsdbConnectionInfo.class);
+        when(connection.getConnectionInfo()).thenReturn(connectionInfo);
+        when(connectionInfo.getRemoteAddress()).thenReturn(InetAddress.getByName(address));
+        when(connection.getTransactionLane(any(Supplier.class))).thenCallRealMethod();
+        return connection;
+    }
+
+    /**
+     * Test that the commands of a device, including a reconnected one, run in order on one lane, and the commands
+     * of another device on another lane.
+     */
+    @Test
+    public void testLanes() throws Exception {
+        OvsdbConnectionInstance first = connection("10.0.0.1");
+        OvsdbConnectionInstance reconnected = connection("10.0.0.1");
+        OvsdbConnectionInstance second = connection("10.0.0.2");
+        Map<String, List<Integer>> executed = new ConcurrentHashMap<>();
+        Map<OvsdbConnectionInstance, String> threads = new ConcurrentHashMap<>();
+        CountDownLatch done = new CountDownLatch(3 * COMMANDS);
+
+        for (int i = 0; i < COMMANDS; i++) {
+            for (OvsdbConnectionInstance connection : new OvsdbConnectionInstance[] {first, second, reconnected}) {
+                final int sequence = i;
+                invoker.invoke(tx -> {
+                    String thread = Thread.currentThread().getName();
+                    threads.putIfAbsent(connection, thread);
+                    executed.computeIfAbsent(thread, key -> Collections.synchronizedList(new ArrayList<>()))
+                            .add(sequence);
+                    done.countDown();
+                }, connection);
+            }
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(threads.get(first), threads.get(reconnected));
+        assertNotEquals(threads.get(first), threads.get(second));
+        List<Integer> firstLane = executed.get(threads.get(first));
+        for (int i = 0; i < COMMANDS; i++) {
+            assertEquals(i, (int) firstLane.get(2 * i));
+            assertEquals(i, (int) firstLane.get(2 * i + 1));
+        }
+        assertEquals(4, invoker.getLaneCount());
+    }
+
+    /**
+     * Test that the commands of a node run on one lane, whether they come from its connections, whatever their
+     * address, or are queued on the node itself.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testNodeLanes() throws Exception {
+        InstanceIdentifier<Node> nodeIid = mock(InstanceIdentifier.class);
+        OvsdbConnectionInstance first = connection("10.0.0.1");
+        when(first.getInstanceIdentifier()).thenReturn(nodeIid);
+        OvsdbConnectionInstance reconnected = connection("10.0.0.2");
+        when(reconnected.getInstanceIdentifier()).thenReturn(nodeIid);
+        List<String> threads = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(COMMANDS);
+
+        for (int i = 0; i < COMMANDS / 4; i++) {
+            invoker.invoke(tx -> {
+                threads.add(Thread.currentThread().getName());
+                done.countDown();
+            }, first);
+            invoker.invoke(tx -> {
+                threads.add(Thread.currentThread().getName());
+                done.countDown();
+            }, reconnected);
+            invoker.invoke(tx -> {
+                threads.add(Thread.currentThread().getName());
+                done.countDown();
+            }, nodeIid);
+            invoker.invoke(new AbstractTransactionCommand(reconnected, null, null) {
+                @Override
+                public void execute(ReadWriteTransaction transaction) {
+                    threads.add(Thread.currentThread().getName());
+                    done.countDown();
+                }
+            });
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(1, new HashSet<>(threads).size());
+    }
+
+    /**
+     * Test that a connection keeps its lane when its instance identifier is set while its commands are queued.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testPinnedLane() throws Exception {
+        InstanceIdentifier<Node> nodeIid;
+        do {
+            nodeIid = mock(InstanceIdentifier.class);
+        } while (Math.floorMod(nodeIid.hashCode(), 4)
+                == Math.floorMod(InetAddress.getByName("10.0.0.1").hashCode(), 4));
+        AtomicReference<InstanceIdentifier<Node>> connectionIid = new AtomicReference<>();
+        OvsdbConnectionInstance connection = connection("10.0.0.1");
+        when(connection.getInstanceIdentifier()).thenAnswer(invocation -> connectionIid.get());
+        List<String> threads = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(COMMANDS);
+
+        for (int i = 0; i < COMMANDS; i++) {
+            if (i == COMMANDS / 2) {
+                connectionIid.set(nodeIid);
+            }
+            invoker.invoke(tx -> {
+                threads.add(Thread.currentThread().getName());
+                done.countDown();
+            }, connection);
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(1, new HashSet<>(threads).size());
+    }
+
+    /**
+     * Test that the lane count only applies until the lanes are started.
+     */
+    @Test
+    public void testLaneCount() throws Exception {
+        invoker.setLaneCount(2);
+        assertEquals(2, invoker.getLaneCount());
+
+        CountDownLatch done = new CountDownLatch(1);
+        invoker.invoke(tx -> done.countDown());
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(2, invoker.getLaneCount());
+
+        invoker.setLaneCount(8);
+        assertEquals(2, invoker.getLaneCount());
+    }
+}
@@ -10,22 +10,30 @@ package org.opendaylight.ovsdb.southbound.transactions.md;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.powermock.reflect.Whitebox.getField;
 
+import com.google.common.util.concurrent.Futures;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.Before;
 import org.junit.Test;
@@ -39,6 +47,7 @@ import org.opendaylight.controller.md.sal.binding.api.ReadWriteTransaction;
 import org.opendaylight.controller.md.sal.common.api.data.AsyncTransaction;
 import org.opendaylight.controller.md.sal.common.api.data.TransactionChain;
 import org.opendaylight.controller.md.sal.common.api.data.TransactionChainListener;
+import org.opendaylight.ovsdb.southbound.OvsdbConnectionInstance;
 import org.powermock.reflect.Whitebox;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -86,6 +95,32 @@ public class TransactionInvokerImplTest {
         assertTrue(testInputQueue.contains(command));
     }
 
+    @Test
+    public void testInvokeBackpressure() throws Exception {
+        getField(TransactionInvokerImpl.class, "inputQueue").set(transactionInvokerImpl, inputQueue);
+        getField(TransactionInvokerImpl.class, "pausedConnections").set(transactionInvokerImpl, new HashSet<>());
+        OvsdbConnectionInstance connection = mock(OvsdbConnectionInstance.class);
+        TransactionCommand command = mock(TransactionCommand.class);
+        TransactionCommand otherCommand = mock(TransactionCommand.class);
+
+        // below the high watermark
+        while (inputQueue.size() < QUEUE_SIZE * 8 / 10 - 1) {
+            inputQueue.add(otherCommand);
+        }
+        transactionInvokerImpl.invoke(command, connection);
+        verify(connection).updateQueuedCommands(1);
+        verify(connection).pauseReads();
+        verify(connection, never()).resumeReads();
+
+        List<TransactionCommand> commands = transactionInvokerImpl.extractCommandsFromQueue();
+        assertEquals(QUEUE_SIZE * 8 / 10, commands.size());
+        assertSame(command, commands.get(commands.size() - 1));
+        verify(connection).updateQueuedCommands(-1);
+
+        Whitebox.invokeMethod(transactionInvokerImpl, "resumeBelowLowWatermark");
+        verify(connection).resumeReads();
+    }
+
     @Test
     public void testOnTransactionChainFailed() throws Exception {
         getField(TransactionInvokerImpl.class, "failedTransactionQueue").set(transactionInvokerImpl,
@@ -125,12 +160,74 @@ public class TransactionInvokerImplTest {
                 transactionToCommand);
         doNothing().when(transactionInvokerImpl).resetTransactionQueue();
 
+        // the failed transaction and every transaction after it
         List<TransactionCommand> testCommands = new ArrayList<>();
         testCommands.add(txCommand);
+        testCommands.add(txCommand);
 
         assertEquals(testCommands, Whitebox.invokeMethod(transactionInvokerImpl, "extractResubmitCommands"));
     }
 
+    @Test
+    public void testExtractResubmitBatchCommands() throws Exception {
+        ReadWriteTransaction transaction = mock(ReadWriteTransaction.class);
+        ReadWriteTransaction batchTransaction = mock(ReadWriteTransaction.class);
+        failedTransactionQ.put(batchTransaction);
+        getField(TransactionInvokerImpl.class, "failedTransactionQueue").set(transactionInvokerImpl,
+                failedTransactionQ);
+        // the failed batch is the last pending transaction
+        pendingTransactions.add(transaction);
+        pendingTransactions.add(batchTransaction);
+        getField(TransactionInvokerImpl.class, "pendingTransactions").set(transactionInvokerImpl,
+                pendingTransactions);
+
+        TransactionCommand command1 = mock(TransactionCommand.class);
+        TransactionCommand command2 = mock(TransactionCommand.class);
+        TransactionCommand command3 = mock(TransactionCommand.class);
+        transactionToCommand.put(transaction, mock(TransactionCommand.class));
+        transactionToCommand.put(batchTransaction,
+                new TransactionInvokerImpl.BatchCommand(command1, command2, command3));
+        getField(TransactionInvokerImpl.class, "transactionToCommand").set(transactionInvokerImpl,
+                transactionToCommand);
+        doNothing().when(transactionInvokerImpl).resetTransactionQueue();
+
+        assertEquals(Arrays.asList(command1, command2, command3),
+                Whitebox.invokeMethod(transactionInvokerImpl, "extractResubmitCommands"));
+        assertTrue(Whitebox.getInternalState(transactionInvokerImpl, "retrying"));
+    }
+
+    @Test
+    public void testBatching() throws Exception {
+        ReadWriteTransaction transaction = mock(ReadWriteTransaction.class);
+        when(transaction.submit()).thenReturn(Futures.immediateCheckedFuture(null));
+        when(chain.newReadWriteTransaction()).thenReturn(transaction);
+        when(db.createTransactionChain(any(TransactionChainListener.class))).thenReturn(chain);
+        TransactionInvokerImpl invoker = new TransactionInvokerImpl(db);
+        try {
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(10);
+            invoker.invoke(tx -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            // queued while the first command runs, drained and committed together
+            for (int i = 0; i < 10; i++) {
+                invoker.invoke(tx -> done.countDown());
+            }
+            release.countDown();
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            verify(chain, times(2)).newReadWriteTransaction();
+        } finally {
+            invoker.close();
+        }
+    }
+
     @Test
     public void testResetTransactionQueue() throws Exception {
         doNothing().when(chain).close();